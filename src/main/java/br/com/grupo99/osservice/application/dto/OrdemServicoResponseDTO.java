@@ -1,5 +1,6 @@
 package br.com.grupo99.osservice.application.dto;
 
+import br.com.grupo99.osservice.domain.model.OrdemServico;
 import br.com.grupo99.osservice.domain.model.StatusOS;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.AllArgsConstructor;
@@ -10,6 +11,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * DTO de resposta para Ordem de Serviço
@@ -37,6 +39,39 @@ public class OrdemServicoResponseDTO {
 
     private List<HistoricoStatusDTO> historico;
 
+    /**
+     * Converte a entidade de domínio para DTO de resposta.
+     */
+    public static OrdemServicoResponseDTO from(OrdemServico os) {
+        OrdemServicoResponseDTO dto = new OrdemServicoResponseDTO();
+        dto.setId(os.getId());
+        dto.setClienteId(os.getClienteId());
+        dto.setVeiculoId(os.getVeiculoId());
+        dto.setStatus(os.getStatus());
+        dto.setDescricaoProblema(os.getDescricaoProblema());
+        dto.setValorTotal(os.getValorTotal());
+        dto.setDataCriacao(os.getDataCriacao());
+        dto.setDataFinalizacao(os.getDataFinalizacao());
+        dto.setDataEntrega(os.getDataEntrega());
+
+        if (os.getHistorico() != null) {
+            List<HistoricoStatusDTO> historico = os.getHistorico().stream()
+                    .map(h -> {
+                        HistoricoStatusDTO hDto = new HistoricoStatusDTO();
+                        hDto.setStatusAnterior(h.getStatusAnterior());
+                        hDto.setNovoStatus(h.getNovoStatus());
+                        hDto.setObservacao(h.getObservacao());
+                        hDto.setUsuarioAlteracao(h.getUsuarioAlteracao());
+                        hDto.setDataAlteracao(h.getDataAlteracao());
+                        return hDto;
+                    })
+                    .collect(Collectors.toList());
+            dto.setHistorico(historico);
+        }
+
+        return dto;
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
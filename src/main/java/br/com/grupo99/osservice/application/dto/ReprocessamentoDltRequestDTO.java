@@ -0,0 +1,29 @@
+package br.com.grupo99.osservice.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * DTO do pedido de reprocessamento de uma DLT. Todos os filtros são
+ * opcionais; {@code taxa} (registros/s) é limitada ao máximo configurado.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReprocessamentoDltRequestDTO {
+
+    private String eventType;
+
+    private String chave;
+
+    private Instant de;
+
+    private Instant ate;
+
+    private Double taxa;
+
+    private boolean dryRun;
+}
@@ -0,0 +1,31 @@
+package br.com.grupo99.osservice.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * DTO com o progresso de um reprocessamento de DLT.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReprocessamentoDltResponseDTO {
+
+    private UUID id;
+    private String topico;
+    private String destino;
+    private String status;
+    private boolean dryRun;
+    private double taxa;
+    private long lidos;
+    private long selecionados;
+    private long reenviados;
+    private long falhas;
+    private Instant iniciadoEm;
+    private Instant concluidoEm;
+    private String erro;
+}
@@ -0,0 +1,20 @@
+package br.com.grupo99.osservice.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de resposta de uma página da timeline de OS (por cliente ou veículo).
+ * {@code proximoCursor} é nulo na última página.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimelineOrdemServicoResponseDTO {
+
+    private List<OrdemServicoResponseDTO> itens;
+    private String proximoCursor;
+}
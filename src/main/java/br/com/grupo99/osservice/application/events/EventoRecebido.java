@@ -0,0 +1,59 @@
+package br.com.grupo99.osservice.application.events;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Eventos da Saga consumidos dos serviços de billing e execução.
+ *
+ * O tipo concreto é escolhido pelo header {@code eventType} do registro
+ * Kafka, e o payload JSON é decodificado direto no record. Campos ausentes
+ * recebem os mesmos valores padrão usados antes sobre o Map. O {@code osId}
+ * é opcional no payload; na falta dele vale a chave do registro.
+ */
+public sealed interface EventoRecebido {
+
+    UUID osId();
+
+    /**
+     * ORCAMENTO_APROVADO (billing-events)
+     */
+    record OrcamentoAprovado(UUID osId, BigDecimal valorAprovado, String aprovadoPor) implements EventoRecebido {
+
+        public OrcamentoAprovado {
+            valorAprovado = valorAprovado != null ? valorAprovado : BigDecimal.ZERO;
+            aprovadoPor = aprovadoPor != null ? aprovadoPor : "sistema";
+        }
+    }
+
+    /**
+     * ORCAMENTO_REJEITADO (billing-events)
+     */
+    record OrcamentoRejeitado(UUID osId, String motivo) implements EventoRecebido {
+
+        public OrcamentoRejeitado {
+            motivo = motivo != null ? motivo : "Não especificado";
+        }
+    }
+
+    /**
+     * EXECUCAO_CONCLUIDA (execution-events)
+     */
+    record ExecucaoConcluida(UUID osId, String observacoes, String executadoPor) implements EventoRecebido {
+
+        public ExecucaoConcluida {
+            observacoes = observacoes != null ? observacoes : "";
+            executadoPor = executadoPor != null ? executadoPor : "sistema";
+        }
+    }
+
+    /**
+     * EXECUCAO_FALHOU (execution-events)
+     */
+    record ExecucaoFalhou(UUID osId, String motivo, boolean requerRetrabalho) implements EventoRecebido {
+
+        public ExecucaoFalhou {
+            motivo = motivo != null ? motivo : "Falha não especificada";
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.grupo99.osservice.domain.event;
+
+import br.com.grupo99.osservice.domain.model.StatusOS;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Fato registrado pelo agregado {@link br.com.grupo99.osservice.domain.model.OrdemServico}
+ * durante uma operação de negócio.
+ *
+ * O id da OS não faz parte do evento: na criação ele só existe depois de
+ * persistir. O repositório publica os eventos retirados do agregado junto
+ * com o id da OS salva ({@link EventosOrdemServico}).
+ */
+public sealed interface EventoOrdemServico {
+
+    LocalDateTime ocorridoEm();
+
+    record OSCriada(UUID clienteId, UUID veiculoId, String descricaoProblema, LocalDateTime ocorridoEm)
+            implements EventoOrdemServico {
+    }
+
+    record StatusMudado(StatusOS statusAnterior, StatusOS statusNovo, LocalDateTime ocorridoEm)
+            implements EventoOrdemServico {
+    }
+
+    record OSCancelada(StatusOS statusAnterior, String motivo, LocalDateTime ocorridoEm)
+            implements EventoOrdemServico {
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.grupo99.osservice.domain.event;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Eventos de uma OS gravada, na ordem em que foram registrados. Publicado
+ * pelo repositório dentro da transação que gravou a OS; o cliente da OS
+ * acompanha os eventos para a notificação dos assinantes.
+ */
+public record EventosOrdemServico(UUID osId, UUID clienteId, List<EventoOrdemServico> eventos) {
+
+    public EventosOrdemServico {
+        eventos = List.copyOf(eventos);
+    }
+}
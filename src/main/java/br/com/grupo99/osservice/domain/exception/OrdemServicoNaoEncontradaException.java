@@ -0,0 +1,22 @@
+package br.com.grupo99.osservice.domain.exception;
+
+import java.util.UUID;
+
+/**
+ * OS referenciada (ex: por um evento) que não existe.
+ */
+public class OrdemServicoNaoEncontradaException extends RegraNegocioException {
+
+    public static final String CODIGO = "OS_NAO_ENCONTRADA";
+
+    private final UUID osId;
+
+    public OrdemServicoNaoEncontradaException(UUID osId) {
+        super(CODIGO, "OS não encontrada: " + osId);
+        this.osId = osId;
+    }
+
+    public UUID getOsId() {
+        return osId;
+    }
+}
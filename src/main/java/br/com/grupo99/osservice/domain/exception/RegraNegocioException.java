@@ -0,0 +1,26 @@
+package br.com.grupo99.osservice.domain.exception;
+
+/**
+ * Violação de uma regra do domínio de Ordens de Serviço.
+ *
+ * Determinística: repetir a mesma operação sobre o mesmo estado falha de novo,
+ * então consumidores não devem fazer retry (vai direto para a DLT). Estende
+ * {@link IllegalStateException} para manter compatível quem já trata esse tipo.
+ */
+public abstract class RegraNegocioException extends IllegalStateException {
+
+    private final String codigo;
+
+    protected RegraNegocioException(String codigo, String message) {
+        super(message);
+        this.codigo = codigo;
+    }
+
+    /**
+     * Código estável da causa (ex: TRANSICAO_INVALIDA), usado em métricas e
+     * headers de diagnóstico.
+     */
+    public String getCodigo() {
+        return codigo;
+    }
+}
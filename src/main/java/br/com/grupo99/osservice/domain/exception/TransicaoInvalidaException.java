@@ -0,0 +1,28 @@
+package br.com.grupo99.osservice.domain.exception;
+
+import br.com.grupo99.osservice.domain.model.StatusOS;
+
+/**
+ * Mudança de status não permitida a partir do status atual da OS.
+ */
+public class TransicaoInvalidaException extends RegraNegocioException {
+
+    public static final String CODIGO = "TRANSICAO_INVALIDA";
+
+    private final StatusOS statusAtual;
+    private final StatusOS statusDestino;
+
+    public TransicaoInvalidaException(StatusOS statusAtual, StatusOS statusDestino, String message) {
+        super(CODIGO, message);
+        this.statusAtual = statusAtual;
+        this.statusDestino = statusDestino;
+    }
+
+    public StatusOS getStatusAtual() {
+        return statusAtual;
+    }
+
+    public StatusOS getStatusDestino() {
+        return statusDestino;
+    }
+}
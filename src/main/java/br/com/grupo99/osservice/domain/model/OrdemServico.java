@@ -1,10 +1,14 @@
 package br.com.grupo99.osservice.domain.model;
 
+import br.com.grupo99.osservice.domain.event.EventoOrdemServico;
+import br.com.grupo99.osservice.domain.exception.TransicaoInvalidaException;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -18,6 +22,9 @@ import java.util.UUID;
  * 
  * Responsável por gerenciar o ciclo de vida completo de uma OS,
  * incluindo validações de transição de status e histórico.
+ *
+ * Criação, mudanças de status e cancelamento registram um
+ * {@link EventoOrdemServico}; o repositório os retira ao gravar a OS.
  */
 @Entity
 @Table(name = "ordem_servico")
@@ -61,6 +68,7 @@ public class OrdemServico {
     private Integer version;
 
     @OneToMany(mappedBy = "ordemServico", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @BatchSize(size = 50) // Listagens carregam o histórico de várias OS em uma consulta
     private List<HistoricoStatus> historico = new ArrayList<>();
 
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -69,6 +77,11 @@ public class OrdemServico {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Eventos ainda não publicados (não persistidos)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private final List<EventoOrdemServico> eventosPendentes = new ArrayList<>();
+
     // --- Construtor de Negócio ---
 
     /**
@@ -90,6 +103,7 @@ public class OrdemServico {
 
         // Registra primeiro histórico
         adicionarHistorico(null, StatusOS.RECEBIDA, "OS criada");
+        registrarEvento(new EventoOrdemServico.OSCriada(clienteId, veiculoId, descricaoProblema, this.dataCriacao));
     }
 
     // --- Método Factory ---
@@ -128,6 +142,7 @@ public class OrdemServico {
         os.clienteTelefone = clienteTelefone;
         os.veiculoPlaca = veiculoPlaca;
 
+        os.registrarEvento(new EventoOrdemServico.OSCriada(clienteId, veiculoId, descricao, os.dataCriacao));
         return os;
     }
 
@@ -197,18 +212,18 @@ public class OrdemServico {
      * @param novoStatus       Novo status desejado
      * @param observacao       Observação sobre a mudança de status
      * @param usuarioAlteracao Usuário que realizou a alteração
-     * @throws IllegalStateException se a transição não for válida
+     * @throws TransicaoInvalidaException se a transição não for válida
      */
     public void atualizarStatus(StatusOS novoStatus, String observacao, String usuarioAlteracao) {
         Objects.requireNonNull(novoStatus, "Novo status não pode ser nulo");
 
         if (this.status == novoStatus) {
-            throw new IllegalStateException(
+            throw new TransicaoInvalidaException(this.status, novoStatus,
                     String.format("OS já está no status %s", novoStatus));
         }
 
         if (!this.status.podeTransicionarPara(novoStatus)) {
-            throw new IllegalStateException(
+            throw new TransicaoInvalidaException(this.status, novoStatus,
                     String.format("Transição inválida: %s -> %s", this.status, novoStatus));
         }
 
@@ -225,6 +240,7 @@ public class OrdemServico {
 
         // Registra no histórico
         adicionarHistorico(statusAnterior, novoStatus, observacao, usuarioAlteracao);
+        registrarEvento(new EventoOrdemServico.StatusMudado(statusAnterior, novoStatus, this.updatedAt));
     }
 
     /**
@@ -243,7 +259,7 @@ public class OrdemServico {
      */
     public void cancelar(String motivoCancelamento, String usuarioAlteracao) {
         if (this.status.isFinal()) {
-            throw new IllegalStateException(
+            throw new TransicaoInvalidaException(this.status, StatusOS.CANCELADA,
                     String.format("Não é possível cancelar OS com status %s", this.status));
         }
 
@@ -252,6 +268,7 @@ public class OrdemServico {
         this.updatedAt = LocalDateTime.now();
 
         adicionarHistorico(statusAnterior, StatusOS.CANCELADA, motivoCancelamento, usuarioAlteracao);
+        registrarEvento(new EventoOrdemServico.OSCancelada(statusAnterior, motivoCancelamento, this.updatedAt));
     }
 
     /**
@@ -279,6 +296,25 @@ public class OrdemServico {
         this.historico.add(historico);
     }
 
+    // --- Eventos de Domínio ---
+
+    private void registrarEvento(EventoOrdemServico evento) {
+        this.eventosPendentes.add(evento);
+    }
+
+    /**
+     * Retira os eventos registrados desde a última retirada, na ordem em que
+     * ocorreram. Chamado pelo repositório ao gravar a OS.
+     */
+    public List<EventoOrdemServico> retirarEventos() {
+        if (eventosPendentes.isEmpty()) {
+            return List.of();
+        }
+        List<EventoOrdemServico> eventos = List.copyOf(eventosPendentes);
+        eventosPendentes.clear();
+        return eventos;
+    }
+
     // --- Validações ---
 
     private void validarClienteId(UUID clienteId) {
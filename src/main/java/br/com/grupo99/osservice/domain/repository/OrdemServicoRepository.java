@@ -5,6 +5,8 @@ import br.com.grupo99.osservice.domain.model.StatusOS;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,6 +21,12 @@ public interface OrdemServicoRepository {
 
     Optional<OrdemServico> findById(UUID id);
 
+    /**
+     * Carrega várias OS em uma única consulta ({@code id IN (...)}); ids sem
+     * OS correspondente são ignorados.
+     */
+    List<OrdemServico> findAllById(Collection<UUID> ids);
+
     Page<OrdemServico> findAll(Pageable pageable);
 
     Page<OrdemServico> findByStatus(StatusOS status, Pageable pageable);
@@ -27,6 +35,20 @@ public interface OrdemServicoRepository {
 
     List<OrdemServico> findByStatusIn(List<StatusOS> statuses);
 
+    /**
+     * Página da timeline de um cliente, da OS mais recente para a mais antiga.
+     * Com {@code antesDe} nulo retorna a primeira página; caso contrário, as OS
+     * posteriores ao cursor ({@code antesDe}, {@code antesDeId}).
+     */
+    List<OrdemServico> findTimelineByClienteId(UUID clienteId, LocalDateTime antesDe, UUID antesDeId, int limite);
+
+    /**
+     * Página da timeline de um veículo; {@code clienteId} opcional restringe
+     * às OS do cliente.
+     */
+    List<OrdemServico> findTimelineByVeiculoId(UUID veiculoId, UUID clienteId, LocalDateTime antesDe,
+            UUID antesDeId, int limite);
+
     boolean existsById(UUID id);
 
     void deleteById(UUID id);
@@ -0,0 +1,51 @@
+package br.com.grupo99.osservice.infrastructure.cache;
+
+import br.com.grupo99.osservice.application.dto.OrdemServicoResponseDTO;
+import br.com.grupo99.osservice.domain.repository.OrdemServicoRepository;
+import br.com.grupo99.osservice.infrastructure.security.jwt.EscopoCliente;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Consulta de OS por ID com coalescência de requisições concorrentes.
+ *
+ * Quando uma OS muda de status, todas as telas que a acompanham consultam o
+ * mesmo ID ao mesmo tempo. Chamadas simultâneas compartilham uma única carga
+ * (findById + histórico). O resultado compartilhado é o DTO já convertido,
+ * nunca a entidade, que continua presa à sessão da thread que a carregou.
+ *
+ * A chave inclui o escopo do CLIENTE ({@link EscopoCliente}): a carga roda
+ * com o escopo de quem a iniciou, então só é compartilhada com chamadas do
+ * mesmo escopo.
+ */
+@Component
+public class OrdemServicoConsultaCoalescida {
+
+    private final OrdemServicoRepository repository;
+    private final SingleFlight<Chave, Optional<OrdemServicoResponseDTO>> singleFlight = new SingleFlight<>();
+    private final Counter cargasEvitadas;
+
+    public OrdemServicoConsultaCoalescida(OrdemServicoRepository repository, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.cargasEvitadas = Counter.builder("os.consulta.coalescidas")
+                .description("Consultas de OS por ID atendidas por uma carga já em andamento")
+                .register(meterRegistry);
+        Gauge.builder("os.consulta.em_andamento", singleFlight, SingleFlight::getEmAndamento)
+                .description("Cargas de OS por ID em andamento")
+                .register(meterRegistry);
+    }
+
+    public Optional<OrdemServicoResponseDTO> buscarPorId(UUID id) {
+        return singleFlight.executar(new Chave(id, EscopoCliente.atual().orElse(null)),
+                () -> repository.findById(id).map(OrdemServicoResponseDTO::from),
+                cargasEvitadas::increment);
+    }
+
+    private record Chave(UUID id, UUID escopo) {
+    }
+}
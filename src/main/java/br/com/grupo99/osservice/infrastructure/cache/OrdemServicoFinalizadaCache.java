@@ -0,0 +1,115 @@
+package br.com.grupo99.osservice.infrastructure.cache;
+
+import br.com.grupo99.osservice.application.dto.OrdemServicoResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache de respostas pré-serializadas de OS em estado final (ENTREGUE ou
+ * CANCELADA).
+ *
+ * Uma OS em estado final nunca muda, então sua representação JSON é gerada
+ * uma única vez e guardada como bytes (e, se compensar, também comprimida em
+ * gzip). O cache é limitado pelo total de bytes armazenados.
+ */
+@Slf4j
+@Component
+public class OrdemServicoFinalizadaCache {
+
+    private final Cache<UUID, RespostaPreSerializada> cache;
+    private final ObjectWriter writer;
+    private final int gzipMinBytes;
+
+    public OrdemServicoFinalizadaCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${response-cache.max-bytes:67108864}") long maxBytes,
+            @Value("${response-cache.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.writer = objectMapper.writerFor(OrdemServicoResponseDTO.class);
+        this.gzipMinBytes = gzipMinBytes;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((UUID id, RespostaPreSerializada r) -> r.peso())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "os.finalizada.response");
+    }
+
+    /**
+     * Armazena a resposta se a OS estiver em estado final. OS em andamento são
+     * ignoradas.
+     */
+    public void armazenar(OrdemServicoResponseDTO dto) {
+        if (dto == null || dto.getId() == null || dto.getStatus() == null || !dto.getStatus().isFinal()) {
+            return;
+        }
+        if (cache.getIfPresent(dto.getId()) != null) {
+            return;
+        }
+        try {
+            byte[] json = writer.writeValueAsBytes(dto);
+            byte[] gzip = json.length >= gzipMinBytes ? comprimir(json) : null;
+            if (gzip != null && gzip.length >= json.length) {
+                gzip = null;
+            }
+            cache.put(dto.getId(), new RespostaPreSerializada(dto.getClienteId(), json, gzip, etag(json)));
+        } catch (JsonProcessingException e) {
+            log.warn("⚠️ Não foi possível pré-serializar OS {}: {}", dto.getId(), e.getMessage());
+        }
+    }
+
+    public Optional<RespostaPreSerializada> buscar(UUID id) {
+        return Optional.ofNullable(cache.getIfPresent(id));
+    }
+
+    public void invalidar(UUID id) {
+        cache.invalidate(id);
+    }
+
+    private static byte[] comprimir(byte[] dados) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(dados.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(dados);
+        } catch (IOException e) {
+            return null;
+        }
+        return out.toByteArray();
+    }
+
+    private static String etag(byte[] dados) {
+        CRC32 crc = new CRC32();
+        crc.update(dados);
+        return "\"" + HexFormat.of().toHexDigits((int) crc.getValue()) + "-" + dados.length + "\"";
+    }
+
+    /**
+     * Representação pronta para ser escrita na resposta HTTP.
+     *
+     * @param clienteId dono da OS, para validação de acesso de CLIENTE
+     * @param json      corpo JSON sem compressão
+     * @param gzip      corpo comprimido, ou null se não compensar
+     * @param etag      ETag forte do corpo
+     */
+    public record RespostaPreSerializada(UUID clienteId, byte[] json, byte[] gzip, String etag) {
+
+        int peso() {
+            return json.length + (gzip != null ? gzip.length : 0) + 64;
+        }
+    }
+}
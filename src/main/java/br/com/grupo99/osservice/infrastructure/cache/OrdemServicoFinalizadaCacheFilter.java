@@ -0,0 +1,118 @@
+package br.com.grupo99.osservice.infrastructure.cache;
+
+import br.com.grupo99.osservice.infrastructure.cache.OrdemServicoFinalizadaCache.RespostaPreSerializada;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Serve GET /api/v1/ordens-servico/{id} diretamente do
+ * {@link OrdemServicoFinalizadaCache}, sem passar por Hibernate, Jackson ou
+ * pelo DispatcherServlet.
+ *
+ * Como a OS está em estado final, a resposta é marcada como imutável e pode
+ * ser reutilizada pelo navegador. Em cache miss, a requisição segue
+ * normalmente para o controller.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1) // Antes do load shedding: hits não ocupam vaga
+public class OrdemServicoFinalizadaCacheFilter extends OncePerRequestFilter {
+
+    static final String PREFIXO = "/api/v1/ordens-servico/";
+    static final String CACHE_CONTROL_IMUTAVEL = "private, max-age=31536000, immutable";
+    private static final int TAMANHO_UUID = 36;
+
+    private final OrdemServicoFinalizadaCache cache;
+
+    @Value("${response-cache.enabled:true}")
+    private boolean enabled = true;
+
+    public OrdemServicoFinalizadaCacheFilter(OrdemServicoFinalizadaCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        if (!enabled || !"GET".equals(request.getMethod())) {
+            return true;
+        }
+        String uri = request.getRequestURI();
+        return !uri.startsWith(PREFIXO) || uri.length() != PREFIXO.length() + TAMANHO_UUID;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        Optional<RespostaPreSerializada> resposta = extrairId(request.getRequestURI()).flatMap(cache::buscar);
+        if (resposta.isEmpty() || !acessoPermitido(request, resposta.get())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        escrever(request, response, resposta.get());
+    }
+
+    private Optional<UUID> extrairId(String uri) {
+        try {
+            return Optional.of(UUID.fromString(uri.substring(PREFIXO.length())));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * CLIENTE só recebe do cache as próprias OS; nos demais casos a decisão
+     * fica com o controller.
+     */
+    private boolean acessoPermitido(HttpServletRequest request, RespostaPreSerializada resposta) {
+        if (!"CLIENTE".equals(request.getAttribute("perfil"))) {
+            return true;
+        }
+        Object pessoaId = request.getAttribute("pessoaId");
+        return pessoaId != null && resposta.clienteId() != null
+                && resposta.clienteId().toString().equals(pessoaId.toString());
+    }
+
+    private void escrever(HttpServletRequest request, HttpServletResponse response,
+            RespostaPreSerializada resposta) throws IOException {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL_IMUTAVEL);
+        response.setHeader(HttpHeaders.ETAG, resposta.etag());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && ifNoneMatch.contains(resposta.etag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] corpo = resposta.json();
+        if (resposta.gzip() != null && aceitaGzip(request)) {
+            corpo = resposta.gzip();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(corpo.length);
+        response.getOutputStream().write(corpo);
+    }
+
+    private boolean aceitaGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+}
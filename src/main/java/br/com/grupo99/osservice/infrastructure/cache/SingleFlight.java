@@ -0,0 +1,67 @@
+package br.com.grupo99.osservice.infrastructure.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Coalescência de cargas concorrentes para a mesma chave ("single flight").
+ *
+ * A primeira thread a pedir uma chave executa a carga na própria thread; as
+ * que chegam enquanto a carga está em andamento aguardam o mesmo resultado.
+ * A entrada é removida assim que a carga termina, então nada fica em cache:
+ * uma chamada posterior dispara uma nova carga.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> emAndamento = new ConcurrentHashMap<>();
+
+    /**
+     * Executa {@code carga} ou aguarda a carga já em andamento para a chave.
+     *
+     * @param coalescida chamado quando o resultado de outra thread é reutilizado
+     */
+    public V executar(K chave, Supplier<V> carga, Runnable coalescida) {
+        CompletableFuture<V> futuro = new CompletableFuture<>();
+        CompletableFuture<V> existente = emAndamento.putIfAbsent(chave, futuro);
+        if (existente != null) {
+            coalescida.run();
+            return aguardar(existente);
+        }
+        try {
+            V valor = carga.get();
+            futuro.complete(valor);
+            return valor;
+        } catch (RuntimeException | Error e) {
+            futuro.completeExceptionally(e);
+            throw e;
+        } finally {
+            emAndamento.remove(chave, futuro);
+        }
+    }
+
+    public int getEmAndamento() {
+        return emAndamento.size();
+    }
+
+    private V aguardar(CompletableFuture<V> futuro) {
+        try {
+            return futuro.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (ExecutionException e) {
+            // Propaga a mesma exceção da carga original
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            if (e.getCause() instanceof Error err) {
+                throw err;
+            }
+            throw new CompletionException(e.getCause());
+        }
+    }
+}
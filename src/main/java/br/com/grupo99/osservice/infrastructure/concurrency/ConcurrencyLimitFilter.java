@@ -0,0 +1,93 @@
+package br.com.grupo99.osservice.infrastructure.concurrency;
+
+import br.com.grupo99.osservice.infrastructure.concurrency.ConcurrencyLimiter.Permissao;
+import br.com.grupo99.osservice.infrastructure.concurrency.ConcurrencyLimiter.Prioridade;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Filtro de load shedding da API REST: aplica o {@link ConcurrencyLimiter} e
+ * responde 503 imediatamente quando não há vaga para a prioridade da
+ * requisição. Streams SSE ficam de fora, pois são conexões longas que não
+ * usam o banco.
+ */
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private static final String API = "/api/v1/";
+    private static final String ORDENS_SERVICO = "/api/v1/ordens-servico";
+
+    private final ConcurrencyLimiter limiter;
+
+    @Value("${load-shedding.enabled:true}")
+    private boolean enabled = true;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !enabled || !uri.startsWith(API) || uri.endsWith("/stream");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        Prioridade prioridade = classificar(request);
+        Optional<Permissao> permissao = limiter.tentarAdquirir(prioridade);
+        if (permissao.isEmpty()) {
+            logger.warn("Requisição {} {} recusada: limite de concorrência {} atingido ({})",
+                    request.getMethod(), request.getRequestURI(), limiter.getLimite(), prioridade);
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", "1");
+            response.setContentType("application/json");
+            response.getWriter().write("{\"error\":\"Serviço sobrecarregado. Tente novamente em instantes.\"}");
+            return;
+        }
+
+        long inicio = System.nanoTime();
+        boolean cancelada = false;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException e) {
+            // Cliente desconectou (ClientAbortException): a duração não mede o serviço
+            cancelada = true;
+            throw e;
+        } finally {
+            if (cancelada) {
+                permissao.get().ignorar();
+            } else {
+                permissao.get().liberar(System.nanoTime() - inicio);
+            }
+        }
+    }
+
+    static Prioridade classificar(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return Prioridade.ESCRITA;
+        }
+        String uri = request.getRequestURI();
+        boolean listagem = uri.equals(ORDENS_SERVICO)
+                || uri.startsWith(ORDENS_SERVICO + "/status/")
+                || (uri.endsWith("/ordens-servico") && !uri.startsWith(ORDENS_SERVICO));
+        return listagem ? Prioridade.LISTAGEM : Prioridade.LEITURA;
+    }
+}
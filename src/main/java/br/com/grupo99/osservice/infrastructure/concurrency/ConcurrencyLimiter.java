@@ -0,0 +1,123 @@
+package br.com.grupo99.osservice.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limite adaptativo de requisições em andamento na API REST.
+ *
+ * Em vez de deixar as requisições enfileirarem no pool do Hikari até o
+ * connection-timeout, o excesso é recusado imediatamente. O limite é aprendido
+ * pelo {@link GradientLimit} a partir do tempo de resposta.
+ *
+ * Cada prioridade só pode ocupar uma fração do limite: escritas (inclusive
+ * cancelamentos de compensação) usam o limite inteiro, enquanto leituras e
+ * listagens são recusadas antes, deixando folga para as operações críticas.
+ */
+@Slf4j
+@Component
+public class ConcurrencyLimiter {
+
+    public enum Prioridade {
+        ESCRITA, LEITURA, LISTAGEM
+    }
+
+    private final GradientLimit algoritmo;
+    private final AtomicInteger emAndamento = new AtomicInteger();
+    private final Map<Prioridade, Double> fracoes = new EnumMap<>(Prioridade.class);
+    private final Map<Prioridade, Counter> rejeicoes = new EnumMap<>(Prioridade.class);
+    private volatile int limite;
+
+    public ConcurrencyLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${load-shedding.initial-limit:20}") int limiteInicial,
+            @Value("${load-shedding.min-limit:5}") int limiteMinimo,
+            @Value("${load-shedding.max-limit:200}") int limiteMaximo,
+            @Value("${load-shedding.leitura-fracao:0.9}") double leituraFracao,
+            @Value("${load-shedding.listagem-fracao:0.6}") double listagemFracao) {
+        this.algoritmo = new GradientLimit(limiteInicial, limiteMinimo, limiteMaximo);
+        this.limite = algoritmo.getLimite();
+        fracoes.put(Prioridade.ESCRITA, 1.0);
+        fracoes.put(Prioridade.LEITURA, leituraFracao);
+        fracoes.put(Prioridade.LISTAGEM, listagemFracao);
+
+        Gauge.builder("http.concurrency.limit", this, ConcurrencyLimiter::getLimite)
+                .description("Limite adaptativo de requisições em andamento")
+                .register(meterRegistry);
+        Gauge.builder("http.concurrency.inflight", emAndamento, AtomicInteger::get)
+                .description("Requisições em andamento sob o limite adaptativo")
+                .register(meterRegistry);
+        for (Prioridade prioridade : Prioridade.values()) {
+            rejeicoes.put(prioridade, Counter.builder("http.concurrency.rejected")
+                    .description("Requisições recusadas com 503 pelo limite adaptativo")
+                    .tag("prioridade", prioridade.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Tenta ocupar uma vaga para a prioridade informada.
+     *
+     * @return a permissão, que deve ser liberada ao fim da requisição, ou
+     *         vazio se a requisição deve ser recusada
+     */
+    public Optional<Permissao> tentarAdquirir(Prioridade prioridade) {
+        int maximo = Math.max(1, (int) (limite * fracoes.get(prioridade)));
+        while (true) {
+            int atual = emAndamento.get();
+            if (atual >= maximo) {
+                rejeicoes.get(prioridade).increment();
+                return Optional.empty();
+            }
+            if (emAndamento.compareAndSet(atual, atual + 1)) {
+                return Optional.of(new Permissao());
+            }
+        }
+    }
+
+    public int getLimite() {
+        return limite;
+    }
+
+    public int getEmAndamento() {
+        return emAndamento.get();
+    }
+
+    /**
+     * Vaga ocupada por uma requisição em andamento.
+     */
+    public class Permissao {
+
+        private Permissao() {
+        }
+
+        /**
+         * Libera a vaga registrando o tempo de resposta.
+         */
+        public void liberar(long rttNanos) {
+            int atual = emAndamento.getAndDecrement();
+            int novoLimite = algoritmo.amostra(rttNanos, atual);
+            if (novoLimite != limite) {
+                log.debug("Limite de concorrência ajustado: {} -> {}", limite, novoLimite);
+                limite = novoLimite;
+            }
+        }
+
+        /**
+         * Libera a vaga sem usar a duração como amostra (ex.: requisição
+         * cancelada pelo cliente).
+         */
+        public void ignorar() {
+            emAndamento.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package br.com.grupo99.osservice.infrastructure.concurrency;
+
+/**
+ * Algoritmo de limite adaptativo de concorrência baseado em gradiente de
+ * latência (no estilo do Gradient2 do Netflix concurrency-limits).
+ *
+ * Mantém duas médias móveis do tempo de resposta: uma longa (a linha de base
+ * aprendida) e uma curta (a situação atual). Quando a latência curta sobe
+ * acima da linha de base, o gradiente {@code longa / curta} fica abaixo de 1 e
+ * o limite encolhe; com latência estável o limite cresce devagar, somando uma
+ * pequena fila ({@code sqrt(limite)}).
+ */
+class GradientLimit {
+
+    private static final double TOLERANCIA = 1.5;
+    private static final double SUAVIZACAO = 0.2;
+    private static final int JANELA_LONGA = 600;
+    private static final int JANELA_CURTA = 10;
+
+    private final int limiteMinimo;
+    private final int limiteMaximo;
+
+    private double limiteEstimado;
+    private double rttLongo;
+    private double rttCurto;
+    private long amostras;
+
+    GradientLimit(int limiteInicial, int limiteMinimo, int limiteMaximo) {
+        if (limiteMinimo < 1 || limiteMaximo < limiteMinimo) {
+            throw new IllegalArgumentException("Faixa de limite inválida: " + limiteMinimo + ".." + limiteMaximo);
+        }
+        this.limiteMinimo = limiteMinimo;
+        this.limiteMaximo = limiteMaximo;
+        this.limiteEstimado = Math.max(limiteMinimo, Math.min(limiteMaximo, limiteInicial));
+    }
+
+    /**
+     * Registra o tempo de resposta de uma requisição concluída.
+     *
+     * @param rttNanos   duração da requisição
+     * @param emAndamento requisições em andamento quando esta terminou
+     * @return novo limite
+     */
+    synchronized int amostra(long rttNanos, int emAndamento) {
+        double rtt = Math.max(1, rttNanos);
+        amostras++;
+        if (amostras == 1) {
+            rttLongo = rtt;
+            rttCurto = rtt;
+            return getLimite();
+        }
+        rttCurto = media(rttCurto, rtt, Math.min(amostras, JANELA_CURTA));
+        rttLongo = media(rttLongo, rttCurto, Math.min(amostras, JANELA_LONGA));
+
+        // Após um período longo de sobrecarga a linha de base fica inflada;
+        // quando a latência volta ao normal ela desce mais rápido
+        if (rttLongo / rttCurto > 2) {
+            rttLongo *= 0.95;
+        }
+
+        // Com pouca carga o tempo de resposta não diz nada sobre o limite
+        if (emAndamento < limiteEstimado / 2) {
+            return getLimite();
+        }
+
+        double gradiente = Math.max(0.5, Math.min(1.0, TOLERANCIA * rttLongo / rttCurto));
+        double novoLimite = limiteEstimado * gradiente + Math.sqrt(limiteEstimado);
+        novoLimite = limiteEstimado * (1 - SUAVIZACAO) + novoLimite * SUAVIZACAO;
+        limiteEstimado = Math.max(limiteMinimo, Math.min(limiteMaximo, novoLimite));
+        return getLimite();
+    }
+
+    synchronized int getLimite() {
+        return (int) limiteEstimado;
+    }
+
+    private static double media(double atual, double amostra, long janela) {
+        double fator = 2.0 / (janela + 1);
+        return atual * (1 - fator) + amostra * fator;
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.grupo99.osservice.infrastructure.config;
+
+import br.com.grupo99.osservice.infrastructure.serialization.OsServiceJacksonModule;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Módulos Jackson registrados no ObjectMapper do Spring Boot (camada REST e
+ * stream SSE). O producer Kafka usa os mesmos módulos via
+ * {@link OsServiceJacksonModule#kafkaObjectMapper()}.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public Module osServiceJacksonModule() {
+        return new OsServiceJacksonModule();
+    }
+}
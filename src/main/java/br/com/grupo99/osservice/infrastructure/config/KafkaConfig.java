@@ -1,32 +1,54 @@
 package br.com.grupo99.osservice.infrastructure.config;
 
+import br.com.grupo99.osservice.domain.exception.RegraNegocioException;
+import br.com.grupo99.osservice.infrastructure.messaging.ClassificadorFalhas;
+import br.com.grupo99.osservice.infrastructure.messaging.RetryTier;
+import br.com.grupo99.osservice.infrastructure.serialization.ChaveUuidDeserializer;
+import br.com.grupo99.osservice.infrastructure.serialization.ChaveUuidSerializer;
+import br.com.grupo99.osservice.infrastructure.serialization.EventoBinarioSerializer;
+import br.com.grupo99.osservice.infrastructure.serialization.EventoRecebidoDeserializer;
+import br.com.grupo99.osservice.infrastructure.serialization.EventosBinarios;
+import br.com.grupo99.osservice.infrastructure.serialization.OsServiceJacksonModule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
-import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
 import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
 import org.springframework.kafka.listener.CommonErrorHandler;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.listener.ListenerContainerPauseService;
+import org.springframework.kafka.listener.adapter.RecordFilterStrategy;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.util.backoff.BackOff;
 import org.springframework.util.backoff.ExponentialBackOff;
+import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * Configuração do Apache Kafka para arquitetura de eventos.
- * Inclui Dead Letter Topics e retry com backoff exponencial.
+ * Inclui Dead Letter Topics e retry não bloqueante em tópicos de retry
+ * ({@link RetryTier}).
  */
 @Slf4j
 @Configuration
@@ -40,6 +62,23 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.group-id:os-service-group}")
     private String groupId;
 
+    // json (padrão) ou binary: formato dos eventos da Saga produzidos
+    @Value("${kafka-producer.encoding:json}")
+    private String codificacao;
+
+    // Backoff no lugar para falhas de infraestrutura (banco fora do ar)
+    @Value("${kafka-consumer.infra-backoff.initial-interval-ms:1000}")
+    private long infraBackoffInicialMs;
+
+    @Value("${kafka-consumer.infra-backoff.max-interval-ms:30000}")
+    private long infraBackoffMaximoMs;
+
+    private final MeterRegistry meterRegistry;
+
+    public KafkaConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     // ==================== TOPIC NAMES ====================
     public static final String TOPIC_OS_EVENTS = "os-events";
     public static final String TOPIC_BILLING_EVENTS = "billing-events";
@@ -50,13 +89,19 @@ public class KafkaConfig {
     public static final String DLT_BILLING_EVENTS = "billing-events.DLT";
     public static final String DLT_EXECUTION_EVENTS = "execution-events.DLT";
 
+    // Retry Topics (não bloqueantes), consumidos por KafkaRetryListener
+    public static final String RETRY_1S_BILLING_EVENTS = "billing-events.retry-1s";
+    public static final String RETRY_10S_BILLING_EVENTS = "billing-events.retry-10s";
+    public static final String RETRY_60S_BILLING_EVENTS = "billing-events.retry-60s";
+    public static final String RETRY_1S_EXECUTION_EVENTS = "execution-events.retry-1s";
+    public static final String RETRY_10S_EXECUTION_EVENTS = "execution-events.retry-10s";
+    public static final String RETRY_60S_EXECUTION_EVENTS = "execution-events.retry-60s";
+
     // ==================== PRODUCER CONFIG ====================
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
 
         // Configurações de confiabilidade
         configProps.put(ProducerConfig.ACKS_CONFIG, "all"); // Espera confirmação de todas as réplicas
@@ -68,7 +113,24 @@ public class KafkaConfig {
         configProps.put(ProducerConfig.LINGER_MS_CONFIG, 5); // Aguarda 5ms para agrupar mensagens
         configProps.put(ProducerConfig.BUFFER_MEMORY_CONFIG, 33554432);
 
-        return new DefaultKafkaProducerFactory<>(configProps);
+        // Serializer compartilhado (thread-safe) com os serializers escritos à mão;
+        // byte[] (payload original na DLT e no reprocessamento) segue sem conversão
+        Serializer<Object> json = new JsonSerializer<>(OsServiceJacksonModule.kafkaObjectMapper());
+        Map<Class<?>, Serializer<?>> valueSerializers = new LinkedHashMap<>();
+        valueSerializers.put(byte[].class, new ByteArraySerializer());
+        // Binário: eventos da Saga pelos schemas do RegistroSchemas, demais tipos em JSON;
+        // chaves UUID em 16 bytes
+        valueSerializers.put(Object.class, codificacaoBinaria()
+                ? new EventoBinarioSerializer(EventosBinarios.padrao(), json)
+                : json);
+        DelegatingByTypeSerializer valueSerializer = new DelegatingByTypeSerializer(valueSerializers, true);
+        Serializer<String> keySerializer = codificacaoBinaria() ? new ChaveUuidSerializer() : new StringSerializer();
+
+        return new DefaultKafkaProducerFactory<>(configProps, keySerializer, valueSerializer);
+    }
+
+    private boolean codificacaoBinaria() {
+        return "binary".equalsIgnoreCase(codificacao);
     }
 
     @Bean
@@ -82,32 +144,38 @@ public class KafkaConfig {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
 
         // Configurações de consumo
         configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest"); // Começa do início se não houver offset
         configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false); // Commit manual após processamento
-        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 10);
-
-        // Trust packages for deserialization
-        configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "br.com.grupo99.*");
-        configProps.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
-        configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, Object.class.getName());
-
-        return new DefaultKafkaConsumerFactory<>(configProps);
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 100); // Tamanho máximo do lote nos listeners em lote
+
+        // Payload decodificado direto no record do evento, escolhido pelo header
+        // eventType; erros de deserialização ficam no registro (não derrubam o poll)
+        ErrorHandlingDeserializer<Object> valueDeserializer = new ErrorHandlingDeserializer<>(
+                new EventoRecebidoDeserializer());
+
+        // Chaves em texto ou UUID de 16 bytes (ChaveUuidSerializer)
+        DefaultKafkaConsumerFactory<String, Object> factory = new DefaultKafkaConsumerFactory<>(
+                configProps, new ChaveUuidDeserializer(), valueDeserializer);
+        // Métricas do client no Micrometer: lag por partição
+        // (kafka.consumer.fetch.manager.records.lag) e latência de commit
+        // (kafka.consumer.coordinator.commit.latency.*)
+        factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return factory;
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory(
+            CommonErrorHandler kafkaErrorHandler) {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
 
         // Configuração de commit manual
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
 
-        // Error handler com DLT e backoff exponencial
-        factory.setCommonErrorHandler(kafkaErrorHandler());
+        // Error handler com retry topics e DLT
+        factory.setCommonErrorHandler(kafkaErrorHandler);
 
         // Concurrency (número de threads de consumo)
         factory.setConcurrency(3);
@@ -116,37 +184,144 @@ public class KafkaConfig {
     }
 
     /**
-     * Error Handler com Dead Letter Topic e Exponential Backoff
-     * - 5 retries com backoff exponencial (1s, 2s, 4s, 8s, 16s)
-     * - Após falhar todos os retries, envia para DLT
+     * Listener em lote: recebe todos os registros de um poll (até
+     * max.poll.records) e confirma os offsets uma única vez, ao final do lote.
+     * Registros com falha são enviados à DLT pelo próprio listener; uma
+     * {@code BatchListenerFailedException} (ex: banco indisponível) faz o
+     * error handler mover o registro para o próximo tópico de retry e
+     * reentregar o restante do lote.
      */
     @Bean
-    public CommonErrorHandler kafkaErrorHandler() {
-        // Configura Dead Letter Publishing
+    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaBatchListenerContainerFactory(
+            RecordFilterStrategy<String, Object> eventoIrrelevanteFilter,
+            CommonErrorHandler kafkaErrorHandler) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+
+        // Tipos de evento não tratados são descartados pelo header, antes do listener
+        factory.setRecordFilterStrategy(eventoIrrelevanteFilter);
+        factory.setAckDiscarded(true);
+
+        // Commit após o acknowledge do lote (um commit por poll)
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+
+        factory.setCommonErrorHandler(kafkaErrorHandler);
+        factory.setConcurrency(3);
+
+        return factory;
+    }
+
+    /**
+     * Containers dos tópicos de retry: mesmo lote da factory acima, mas
+     * entregue uma partição por vez (sub-lote por partição). O atraso de cada
+     * nível só vale dentro da partição, então cada chamada do listener decide
+     * a espera de uma partição só e pausa apenas ela.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaRetryListenerContainerFactory(
+            RecordFilterStrategy<String, Object> eventoIrrelevanteFilter,
+            CommonErrorHandler kafkaErrorHandler) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+        factory.setRecordFilterStrategy(eventoIrrelevanteFilter);
+        factory.setAckDiscarded(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setSubBatchPerPartition(true);
+        factory.setCommonErrorHandler(kafkaErrorHandler);
+        return factory;
+    }
+
+    /**
+     * Pausa partições de um container e agenda a retomada (retry não bloqueante).
+     */
+    @Bean
+    public ListenerContainerPauseService listenerContainerPauseService(KafkaListenerEndpointRegistry registry,
+            TaskScheduler taskScheduler) {
+        return new ListenerContainerPauseService(registry, taskScheduler);
+    }
+
+    /**
+     * Publica o registro na DLT do tópico de origem (também para registros
+     * vindos de um tópico de retry), com os headers de diagnóstico da causa.
+     */
+    @Bean
+    public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer(ClassificadorFalhas classificadorFalhas) {
         DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(
                 kafkaTemplate(),
                 (record, ex) -> {
                     // Determina o tópico DLT baseado no tópico original
-                    String dltTopic = record.topic() + ".DLT";
-                    log.error("🔴 Enviando mensagem para DLT: {}. Erro: {}", dltTopic, ex.getMessage());
-                    return new org.apache.kafka.common.TopicPartition(dltTopic, record.partition());
+                    String dltTopic = RetryTier.origem(record.topic()) + "." + RetryTier.DLT;
+                    classificadorFalhas.contarDlt(record.topic(), ex);
+                    log.error("🔴 Enviando mensagem para DLT: {}. Causa: {}, Erro: {}",
+                            dltTopic, classificadorFalhas.causa(ex), ex.getMessage());
+                    // DLTs têm uma partição: partição negativa deixa o producer escolher
+                    return new TopicPartition(dltTopic, -1);
                 });
+        recoverer.setHeadersFunction(classificadorFalhas::cabecalhos);
+        return recoverer;
+    }
 
-        // Exponential Backoff: 1s inicial, máximo 30s, multiplicador 2x
-        ExponentialBackOff backOff = new ExponentialBackOff(1000L, 2.0);
-        backOff.setMaxElapsedTime(30000L); // Máximo 30 segundos total
-        backOff.setMaxInterval(16000L); // Máximo 16 segundos entre retries
+    /**
+     * Error Handler com retry não bloqueante
+     * - Sem retry no lugar: a partição não fica parada atrás de um registro
+     * - Exceto falhas de infraestrutura (conexão, transação): retry no lugar
+     *   com backoff exponencial até o banco voltar, sem esgotar os níveis de
+     *   retry e lotar a DLT durante uma queda longa
+     * - Demais falhas transitórias seguem para o próximo nível (retry-1s, retry-10s,
+     *   retry-60s) e, depois do último, para a DLT
+     * - Regras de negócio e erros de deserialização vão direto para a DLT
+     */
+    @Bean
+    public CommonErrorHandler kafkaErrorHandler(ClassificadorFalhas classificadorFalhas) {
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(
+                kafkaTemplate(),
+                (record, ex) -> {
+                    String destino = RetryTier.proximoDestino(record.topic(), classificadorFalhas.retentavel(ex));
+                    RetryTier tier = RetryTier.de(destino);
+                    String nivel = tier != null ? tier.getSufixo() : RetryTier.DLT;
+                    Counter.builder("kafka.retry.sent")
+                            .description("Registros encaminhados para um tópico de retry ou para a DLT")
+                            .tag("topic", RetryTier.origem(record.topic()))
+                            .tag("tier", nivel)
+                            .register(meterRegistry)
+                            .increment();
+                    if (tier == null) {
+                        classificadorFalhas.contarDlt(record.topic(), ex);
+                    }
+                    log.warn("🔁 Enviando mensagem de {} para {}. Erro: {}", record.topic(), destino, ex.getMessage());
+                    // Partição pela chave: eventos da mesma OS seguem juntos
+                    return new TopicPartition(destino, -1);
+                });
+        // Mantém os headers do tópico de origem (não os do último nível)
+        recoverer.setAppendOriginalHeaders(false);
+        recoverer.setHeadersFunction(classificadorFalhas::cabecalhos);
 
-        DefaultErrorHandler errorHandler = new DefaultErrorHandler(recoverer, backOff);
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(recoverer, new FixedBackOff(0L, 0L));
+        errorHandler.setBackOffFunction((record, ex) -> classificadorFalhas.infraestrutura(ex)
+                ? backOffInfraestrutura()
+                : null);
 
-        // Não fazer retry para erros de deserialização
+        // Não fazer retry para erros de deserialização e regras de negócio
         errorHandler.addNotRetryableExceptions(
                 org.apache.kafka.common.errors.SerializationException.class,
-                org.springframework.messaging.converter.MessageConversionException.class);
+                org.springframework.messaging.converter.MessageConversionException.class,
+                RegraNegocioException.class);
 
         return errorHandler;
     }
 
+    /**
+     * Sem limite de tempo: o registro só segue para os níveis de retry se a
+     * falha mudar de natureza. Cada espera fica abaixo do max.poll.interval.ms.
+     */
+    BackOff backOffInfraestrutura() {
+        ExponentialBackOff backOff = new ExponentialBackOff(infraBackoffInicialMs, 2.0);
+        backOff.setMaxInterval(infraBackoffMaximoMs);
+        return backOff;
+    }
+
     // ==================== TOPIC CREATION ====================
     @Bean
     public NewTopic osEventsTopic() {
@@ -203,4 +378,43 @@ public class KafkaConfig {
                 .config("retention.ms", "604800000")
                 .build();
     }
+
+    // ==================== RETRY TOPICS ====================
+    @Bean
+    public NewTopic billingEventsRetry1sTopic() {
+        return retryTopic(RETRY_1S_BILLING_EVENTS);
+    }
+
+    @Bean
+    public NewTopic billingEventsRetry10sTopic() {
+        return retryTopic(RETRY_10S_BILLING_EVENTS);
+    }
+
+    @Bean
+    public NewTopic billingEventsRetry60sTopic() {
+        return retryTopic(RETRY_60S_BILLING_EVENTS);
+    }
+
+    @Bean
+    public NewTopic executionEventsRetry1sTopic() {
+        return retryTopic(RETRY_1S_EXECUTION_EVENTS);
+    }
+
+    @Bean
+    public NewTopic executionEventsRetry10sTopic() {
+        return retryTopic(RETRY_10S_EXECUTION_EVENTS);
+    }
+
+    @Bean
+    public NewTopic executionEventsRetry60sTopic() {
+        return retryTopic(RETRY_60S_EXECUTION_EVENTS);
+    }
+
+    private static NewTopic retryTopic(String nome) {
+        return TopicBuilder.name(nome)
+                .partitions(3) // Mesmas partições da origem
+                .replicas(1)
+                .config("retention.ms", "604800000")
+                .build();
+    }
 }
@@ -16,6 +16,9 @@ import org.springframework.context.annotation.Configuration;
  * - kafka.publisher.events.failed: Total de falhas por tipo de evento
  * - kafka.publisher.latency: Latência de publicação
  * - kafka.circuitbreaker.state: Estado do Circuit Breaker
+ *
+ * As métricas do consumidor (kafka.consumer.*) têm tags por tópico e tipo de
+ * evento e são registradas sob demanda pelo MetricasConsumo.
  */
 @Slf4j
 @Configuration
@@ -129,33 +132,4 @@ public class KafkaMetricsConfig {
                 .tag("circuit_breaker", "kafkaPublisher")
                 .register(meterRegistry);
     }
-
-    // ===================== MÉTRICAS DE CONSUMER =====================
-
-    @Bean
-    public Counter eventosConsumidos() {
-        return Counter.builder("kafka.consumer.events.total")
-                .description("Total de eventos consumidos")
-                .tag("service", "os-service")
-                .tag("status", "success")
-                .register(meterRegistry);
-    }
-
-    @Bean
-    public Counter eventosConsumidosErro() {
-        return Counter.builder("kafka.consumer.events.failed")
-                .description("Total de eventos consumidos com erro")
-                .tag("service", "os-service")
-                .tag("status", "failed")
-                .register(meterRegistry);
-    }
-
-    @Bean
-    public Timer kafkaConsumeLatency() {
-        return Timer.builder("kafka.consumer.latency")
-                .description("Latência de processamento de eventos consumidos")
-                .tag("service", "os-service")
-                .publishPercentileHistogram(true)
-                .register(meterRegistry);
-    }
 }
@@ -1,12 +1,11 @@
 package br.com.grupo99.osservice.infrastructure.config;
 
-import br.com.grupo99.osservice.infrastructure.security.jwt.JwtAuthorizationFilter;
-import br.com.grupo99.osservice.infrastructure.security.jwt.JwtRequestFilter;
+import br.com.grupo99.osservice.infrastructure.security.jwt.JwtAuthenticationFilter;
+import br.com.grupo99.osservice.infrastructure.security.ratelimit.RateLimitFilter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
-import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -33,15 +32,15 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableAspectJAutoProxy
 public class SecurityConfig {
 
-    private final JwtRequestFilter jwtRequestFilter;
-    private final JwtAuthorizationFilter jwtAuthorizationFilter;
+    private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Value("${security.disabled:false}")
     private boolean securityDisabled;
 
-    public SecurityConfig(JwtRequestFilter jwtRequestFilter, JwtAuthorizationFilter jwtAuthorizationFilter) {
-        this.jwtRequestFilter = jwtRequestFilter;
-        this.jwtAuthorizationFilter = jwtAuthorizationFilter;
+    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter, RateLimitFilter rateLimitFilter) {
+        this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.rateLimitFilter = rateLimitFilter;
     }
 
     /**
@@ -75,19 +74,18 @@ public class SecurityConfig {
         }
         http.csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
-                        // GET requests para ordens podem ser autenticados
-                        .requestMatchers(HttpMethod.GET, "/api/v1/ordens/**").authenticated()
-                        .requestMatchers(HttpMethod.GET, "/api/v1/os/**").authenticated()
-                        // Todos os outros endpoints da API exigem autenticação
+                        // Todos os endpoints da API exigem autenticação; as regras
+                        // por perfil ficam no JwtAuthenticationFilter
                         .requestMatchers("/api/v1/**").authenticated()
                         // Permite requisições não autenticadas para outros paths
                         .anyRequest().permitAll())
                 // Configura a gestão de sessão para ser stateless, pois usaremos JWT
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
 
-        // Adiciona os filtros JWT
-        http.addFilterBefore(jwtRequestFilter, UsernamePasswordAuthenticationFilter.class);
-        http.addFilterAfter(jwtAuthorizationFilter, JwtRequestFilter.class);
+        // Autenticação e autorização JWT em um único filtro
+        http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        // Rate limiting por pessoa/perfil, antes de qualquer acesso ao banco
+        http.addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
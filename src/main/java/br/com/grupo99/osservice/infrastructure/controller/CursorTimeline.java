@@ -0,0 +1,45 @@
+package br.com.grupo99.osservice.infrastructure.controller;
+
+import br.com.grupo99.osservice.domain.model.OrdemServico;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Cursor opaco da timeline: posição (data_criacao, id) da última OS entregue.
+ */
+record CursorTimeline(LocalDateTime dataCriacao, UUID id) {
+
+    private static final char SEPARADOR = '|';
+
+    static CursorTimeline apos(OrdemServico os) {
+        return new CursorTimeline(os.getDataCriacao(), os.getId());
+    }
+
+    String codificar() {
+        String valor = dataCriacao + String.valueOf(SEPARADOR) + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return vazio se o cursor estiver malformado
+     */
+    static Optional<CursorTimeline> decodificar(String cursor) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = valor.indexOf(SEPARADOR);
+            if (separador < 0) {
+                return Optional.empty();
+            }
+            return Optional.of(new CursorTimeline(
+                    LocalDateTime.parse(valor.substring(0, separador)),
+                    UUID.fromString(valor.substring(separador + 1))));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
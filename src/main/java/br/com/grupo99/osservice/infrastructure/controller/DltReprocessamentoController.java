@@ -0,0 +1,56 @@
+package br.com.grupo99.osservice.infrastructure.controller;
+
+import br.com.grupo99.osservice.application.dto.ReprocessamentoDltRequestDTO;
+import br.com.grupo99.osservice.application.dto.ReprocessamentoDltResponseDTO;
+import br.com.grupo99.osservice.infrastructure.messaging.ReprocessamentoDlt;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Reprocessamento das Dead Letter Topics (somente ADMIN: rotas
+ * /api/v1/admin/** são restritas pelo JwtAuthenticationFilter).
+ */
+@RestController
+@RequestMapping("/api/v1/admin/dlt")
+@Tag(name = "Administração - DLT", description = "Reprocessamento de eventos das Dead Letter Topics")
+public class DltReprocessamentoController {
+
+    private final ReprocessamentoDlt reprocessamento;
+
+    public DltReprocessamentoController(ReprocessamentoDlt reprocessamento) {
+        this.reprocessamento = reprocessamento;
+    }
+
+    @PostMapping("/{topico}/reprocessamento")
+    @Operation(summary = "Reenviar eventos da DLT ao tópico de origem (com filtros, taxa limitada e dry-run)")
+    public ResponseEntity<ReprocessamentoDltResponseDTO> iniciar(
+            @PathVariable String topico,
+            @RequestBody(required = false) ReprocessamentoDltRequestDTO request) {
+        if (!ReprocessamentoDlt.TOPICOS.contains(topico)) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (request != null && request.getDe() != null && request.getAte() != null
+                && request.getDe().isAfter(request.getAte())) {
+            return ResponseEntity.badRequest().build();
+        }
+        return reprocessamento.iniciar(topico, request != null ? request : new ReprocessamentoDltRequestDTO())
+                .map(progresso -> ResponseEntity.status(HttpStatus.ACCEPTED).body(progresso))
+                // Já existe um reprocessamento em andamento
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+
+    @GetMapping("/reprocessamento")
+    @Operation(summary = "Progresso do reprocessamento atual (ou do último)")
+    public ResponseEntity<ReprocessamentoDltResponseDTO> progresso() {
+        return ResponseEntity.of(reprocessamento.progresso());
+    }
+
+    @DeleteMapping("/reprocessamento")
+    @Operation(summary = "Cancelar o reprocessamento em andamento")
+    public ResponseEntity<ReprocessamentoDltResponseDTO> cancelar() {
+        return ResponseEntity.of(reprocessamento.cancelar());
+    }
+}
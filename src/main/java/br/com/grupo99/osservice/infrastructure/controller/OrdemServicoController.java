@@ -6,14 +6,23 @@ import br.com.grupo99.osservice.application.dto.OrdemServicoResponseDTO;
 import br.com.grupo99.osservice.domain.model.OrdemServico;
 import br.com.grupo99.osservice.domain.model.StatusOS;
 import br.com.grupo99.osservice.domain.repository.OrdemServicoRepository;
+import br.com.grupo99.osservice.infrastructure.cache.OrdemServicoConsultaCoalescida;
+import br.com.grupo99.osservice.infrastructure.cache.OrdemServicoFinalizadaCache;
+import br.com.grupo99.osservice.infrastructure.security.jwt.EscopoCliente;
+import br.com.grupo99.osservice.infrastructure.stream.StatusStreamBroadcaster;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -27,25 +36,40 @@ import java.util.stream.Collectors;
 public class OrdemServicoController {
 
     private final OrdemServicoRepository repository;
+    private final StatusStreamBroadcaster statusStreamBroadcaster;
+    private final OrdemServicoFinalizadaCache finalizadaCache;
+    private final OrdemServicoConsultaCoalescida consulta;
 
-    public OrdemServicoController(OrdemServicoRepository repository) {
+    public OrdemServicoController(OrdemServicoRepository repository,
+            StatusStreamBroadcaster statusStreamBroadcaster,
+            OrdemServicoFinalizadaCache finalizadaCache,
+            OrdemServicoConsultaCoalescida consulta) {
         this.repository = repository;
+        this.statusStreamBroadcaster = statusStreamBroadcaster;
+        this.finalizadaCache = finalizadaCache;
+        this.consulta = consulta;
     }
 
     @PostMapping
+    @Transactional
     @Operation(summary = "Criar nova Ordem de Serviço")
     public ResponseEntity<OrdemServicoResponseDTO> criar(@Valid @RequestBody OrdemServicoRequestDTO request) {
         OrdemServico os = new OrdemServico(request.getClienteId(), request.getVeiculoId(),
                 request.getDescricaoProblema());
+        // OS_CRIADA vai ao outbox na mesma transação (evento registrado pelo agregado)
         OrdemServico saved = repository.save(os);
-        return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(saved));
+        return ResponseEntity.status(HttpStatus.CREATED).body(OrdemServicoResponseDTO.from(saved));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Buscar OS por ID")
     public ResponseEntity<OrdemServicoResponseDTO> buscarPorId(@PathVariable UUID id) {
-        return repository.findById(id)
-                .map(os -> ResponseEntity.ok(toResponse(os)))
+        return consulta.buscarPorId(id)
+                .map(response -> {
+                    // OS finalizada não muda mais: próximas consultas saem do cache
+                    finalizadaCache.armazenar(response);
+                    return ResponseEntity.ok(response);
+                })
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -53,21 +77,58 @@ public class OrdemServicoController {
     @Operation(summary = "Listar todas as Ordens de Serviço")
     public ResponseEntity<List<OrdemServicoResponseDTO>> listarTodas() {
         List<OrdemServicoResponseDTO> response = repository.findAll().stream()
-                .map(this::toResponse)
+                .map(OrdemServicoResponseDTO::from)
                 .collect(Collectors.toList());
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Para CLIENTE, o cliente vem do token (pessoaId): o parâmetro é opcional
+     * e, se informado, precisa ser o próprio cliente.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream SSE das mudanças de status das OS de um cliente")
+    public SseEmitter streamPorCliente(@RequestParam(required = false) UUID clienteId) {
+        Optional<UUID> escopo = EscopoCliente.atual();
+        if (escopo.isPresent()) {
+            if (clienteId != null && !clienteId.equals(escopo.get())) {
+                throw new ResponseStatusException(HttpStatus.FORBIDDEN);
+            }
+            return statusStreamBroadcaster.assinarCliente(escopo.get());
+        }
+        if (clienteId == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "clienteId é obrigatório");
+        }
+        return statusStreamBroadcaster.assinarCliente(clienteId);
+    }
+
+    /**
+     * CLIENTE só assina as próprias OS; as de outros clientes não existem
+     * para ele (404).
+     */
+    @GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream SSE das mudanças de status de uma OS")
+    public SseEmitter streamPorOrdem(@PathVariable UUID id) {
+        Optional<UUID> escopo = EscopoCliente.atual();
+        if (escopo.isPresent() && !repository.findById(id)
+                .map(os -> escopo.get().equals(os.getClienteId()))
+                .orElse(false)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        }
+        return statusStreamBroadcaster.assinarOrdem(id);
+    }
+
     @GetMapping("/status/{status}")
     @Operation(summary = "Buscar OS por status")
     public ResponseEntity<List<OrdemServicoResponseDTO>> buscarPorStatus(@PathVariable StatusOS status) {
         List<OrdemServicoResponseDTO> response = repository.findByStatus(status).stream()
-                .map(this::toResponse)
+                .map(OrdemServicoResponseDTO::from)
                 .collect(Collectors.toList());
         return ResponseEntity.ok(response);
     }
 
     @PutMapping("/{id}/status")
+    @Transactional
     @Operation(summary = "Atualizar status da OS")
     public ResponseEntity<OrdemServicoResponseDTO> atualizarStatus(
             @PathVariable UUID id,
@@ -75,8 +136,9 @@ public class OrdemServicoController {
         return repository.findById(id)
                 .map(os -> {
                     os.atualizarStatus(request.getNovoStatus(), request.getObservacao(), request.getUsuarioAlteracao());
+                    // STATUS_MUDADO: outbox na transação; assinantes SSE após o commit
                     OrdemServico saved = repository.save(os);
-                    return ResponseEntity.ok(toResponse(saved));
+                    return ResponseEntity.ok(OrdemServicoResponseDTO.from(saved));
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -88,39 +150,7 @@ public class OrdemServicoController {
             return ResponseEntity.notFound().build();
         }
         repository.deleteById(id);
+        finalizadaCache.invalidar(id);
         return ResponseEntity.noContent().build();
     }
-
-    /**
-     * Converte a entidade de domínio para DTO de resposta.
-     */
-    private OrdemServicoResponseDTO toResponse(OrdemServico os) {
-        OrdemServicoResponseDTO dto = new OrdemServicoResponseDTO();
-        dto.setId(os.getId());
-        dto.setClienteId(os.getClienteId());
-        dto.setVeiculoId(os.getVeiculoId());
-        dto.setStatus(os.getStatus());
-        dto.setDescricaoProblema(os.getDescricaoProblema());
-        dto.setValorTotal(os.getValorTotal());
-        dto.setDataCriacao(os.getDataCriacao());
-        dto.setDataFinalizacao(os.getDataFinalizacao());
-        dto.setDataEntrega(os.getDataEntrega());
-
-        if (os.getHistorico() != null) {
-            List<OrdemServicoResponseDTO.HistoricoStatusDTO> historico = os.getHistorico().stream()
-                    .map(h -> {
-                        OrdemServicoResponseDTO.HistoricoStatusDTO hDto = new OrdemServicoResponseDTO.HistoricoStatusDTO();
-                        hDto.setStatusAnterior(h.getStatusAnterior());
-                        hDto.setNovoStatus(h.getNovoStatus());
-                        hDto.setObservacao(h.getObservacao());
-                        hDto.setUsuarioAlteracao(h.getUsuarioAlteracao());
-                        hDto.setDataAlteracao(h.getDataAlteracao());
-                        return hDto;
-                    })
-                    .collect(Collectors.toList());
-            dto.setHistorico(historico);
-        }
-
-        return dto;
-    }
 }
@@ -0,0 +1,114 @@
+package br.com.grupo99.osservice.infrastructure.controller;
+
+import br.com.grupo99.osservice.application.dto.OrdemServicoResponseDTO;
+import br.com.grupo99.osservice.application.dto.TimelineOrdemServicoResponseDTO;
+import br.com.grupo99.osservice.domain.model.OrdemServico;
+import br.com.grupo99.osservice.domain.repository.OrdemServicoRepository;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Timelines de OS por cliente e por veículo, paginadas por cursor.
+ *
+ * A paginação é por keyset em (data_criacao DESC, id DESC): cada página parte
+ * da posição da última OS entregue, sem OFFSET, então o custo não cresce com
+ * a profundidade da página. Tokens de CLIENTE só enxergam as próprias OS.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@Tag(name = "Timeline de OS", description = "Histórico de ordens de serviço por cliente e por veículo")
+public class OrdemServicoTimelineController {
+
+    static final int LIMITE_PADRAO = 20;
+    static final int LIMITE_MAXIMO = 100;
+
+    private final OrdemServicoRepository repository;
+
+    public OrdemServicoTimelineController(OrdemServicoRepository repository) {
+        this.repository = repository;
+    }
+
+    @GetMapping("/clientes/{id}/ordens-servico")
+    @Operation(summary = "Listar OS de um cliente (mais recentes primeiro)")
+    public ResponseEntity<TimelineOrdemServicoResponseDTO> listarPorCliente(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + LIMITE_PADRAO) int limite,
+            HttpServletRequest request) {
+        Optional<UUID> pessoaCliente = pessoaCliente(request);
+        if (pessoaCliente.isPresent() && !pessoaCliente.get().equals(id)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return pagina(cursor, limite, (posicao, n) -> repository.findTimelineByClienteId(id,
+                posicao != null ? posicao.dataCriacao() : null, posicao != null ? posicao.id() : null, n));
+    }
+
+    @GetMapping("/veiculos/{id}/ordens-servico")
+    @Operation(summary = "Listar OS de um veículo (mais recentes primeiro)")
+    public ResponseEntity<TimelineOrdemServicoResponseDTO> listarPorVeiculo(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + LIMITE_PADRAO) int limite,
+            HttpServletRequest request) {
+        // CLIENTE vê apenas as próprias OS do veículo
+        UUID clienteId = pessoaCliente(request).orElse(null);
+        return pagina(cursor, limite, (posicao, n) -> repository.findTimelineByVeiculoId(id, clienteId,
+                posicao != null ? posicao.dataCriacao() : null, posicao != null ? posicao.id() : null, n));
+    }
+
+    private ResponseEntity<TimelineOrdemServicoResponseDTO> pagina(String cursor, int limite, Consulta consulta) {
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            return ResponseEntity.badRequest().build();
+        }
+        CursorTimeline posicao = null;
+        if (cursor != null && !cursor.isBlank()) {
+            Optional<CursorTimeline> decodificado = CursorTimeline.decodificar(cursor);
+            if (decodificado.isEmpty()) {
+                return ResponseEntity.badRequest().build();
+            }
+            posicao = decodificado.get();
+        }
+
+        // Busca um item a mais para saber se existe próxima página
+        List<OrdemServico> ordens = consulta.buscar(posicao, limite + 1);
+        boolean temMais = ordens.size() > limite;
+        List<OrdemServico> paginaAtual = temMais ? ordens.subList(0, limite) : ordens;
+
+        List<OrdemServicoResponseDTO> itens = paginaAtual.stream()
+                .map(OrdemServicoResponseDTO::from)
+                .collect(Collectors.toList());
+        String proximoCursor = temMais ? CursorTimeline.apos(paginaAtual.get(limite - 1)).codificar() : null;
+        return ResponseEntity.ok(new TimelineOrdemServicoResponseDTO(itens, proximoCursor));
+    }
+
+    /**
+     * pessoaId do token quando o perfil é CLIENTE (atributos definidos pelo
+     * JwtAuthenticationFilter).
+     */
+    private Optional<UUID> pessoaCliente(HttpServletRequest request) {
+        if (!"CLIENTE".equals(request.getAttribute("perfil"))) {
+            return Optional.empty();
+        }
+        Object pessoaId = request.getAttribute("pessoaId");
+        try {
+            return Optional.of(UUID.fromString(String.valueOf(pessoaId)));
+        } catch (IllegalArgumentException e) {
+            // Token de CLIENTE sem pessoaId válido não enxerga nenhuma OS
+            return Optional.of(new UUID(0L, 0L));
+        }
+    }
+
+    @FunctionalInterface
+    private interface Consulta {
+        List<OrdemServico> buscar(CursorTimeline posicao, int limite);
+    }
+}
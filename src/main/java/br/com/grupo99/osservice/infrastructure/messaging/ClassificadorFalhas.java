@@ -0,0 +1,144 @@
+package br.com.grupo99.osservice.infrastructure.messaging;
+
+import br.com.grupo99.osservice.domain.exception.OrdemServicoNaoEncontradaException;
+import br.com.grupo99.osservice.domain.exception.RegraNegocioException;
+import br.com.grupo99.osservice.domain.exception.TransicaoInvalidaException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.hibernate.exception.JDBCConnectionException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * Classifica as falhas de consumo pela causa.
+ *
+ * Regras de negócio ({@link RegraNegocioException}) e payloads inválidos
+ * falham de novo em qualquer retry: vão direto para a DLT, em milissegundos,
+ * sem passar pelos tópicos de retry. O restante (ex: banco indisponível) é
+ * transitório; falhas de infraestrutura (conexão com o banco, abertura de
+ * transação) são retentadas no lugar, com backoff, em vez de seguir pelos
+ * tópicos de retry até a DLT. Cada registro enviado à DLT leva headers de diagnóstico
+ * ({@code dltCause}, {@code dltRetryable} e os dados da causa) e é contado em
+ * {@code kafka.dlt.sent} por tópico e causa.
+ */
+@Component
+public class ClassificadorFalhas {
+
+    public static final String PAYLOAD_INVALIDO = "PAYLOAD_INVALIDO";
+    public static final String TRANSITORIA = "TRANSITORIA";
+
+    public static final String HEADER_CAUSA = "dltCause";
+    public static final String HEADER_RETENTAVEL = "dltRetryable";
+    public static final String HEADER_OS_ID = "dltOsId";
+    public static final String HEADER_STATUS_ATUAL = "dltStatusAtual";
+    public static final String HEADER_STATUS_DESTINO = "dltStatusDestino";
+
+    private final MeterRegistry meterRegistry;
+
+    public ClassificadorFalhas(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Código da causa: o da regra de negócio violada, PAYLOAD_INVALIDO (falha
+     * de deserialização ou conversão do registro) ou TRANSITORIA. Exceções
+     * genéricas, como IllegalArgumentException de um bug ou de uma
+     * biblioteca, são transitórias: passam pelos retries antes da DLT.
+     */
+    public String causa(Throwable erro) {
+        RegraNegocioException regra = encontrar(erro, RegraNegocioException.class);
+        if (regra != null) {
+            return regra.getCodigo();
+        }
+        for (Throwable causa = erro; causa != null; causa = causa.getCause()) {
+            if (causa instanceof DeserializationException
+                    || causa instanceof SerializationException
+                    || causa instanceof MessageConversionException) {
+                return PAYLOAD_INVALIDO;
+            }
+        }
+        return TRANSITORIA;
+    }
+
+    public boolean retentavel(Throwable erro) {
+        return TRANSITORIA.equals(causa(erro));
+    }
+
+    /**
+     * Falha de conexão ou de transação com o banco: nenhum registro passaria
+     * enquanto ela durar, então o consumo espera no lugar em vez de esgotar
+     * os tópicos de retry.
+     */
+    public boolean infraestrutura(Throwable erro) {
+        for (Throwable causa = erro; causa != null; causa = causa.getCause()) {
+            if (causa instanceof DataAccessResourceFailureException
+                    || causa instanceof TransientDataAccessResourceException
+                    || causa instanceof CannotCreateTransactionException
+                    || causa instanceof JDBCConnectionException
+                    || causa instanceof SQLTransientConnectionException
+                    || causa instanceof SQLRecoverableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Headers de diagnóstico adicionados pelo DeadLetterPublishingRecoverer
+     * (além dos kafka_dlt-* com exceção e posição de origem).
+     */
+    public Headers cabecalhos(ConsumerRecord<?, ?> record, Exception erro) {
+        Headers headers = new RecordHeaders();
+        String causa = causa(erro);
+        adicionar(headers, HEADER_CAUSA, causa);
+        adicionar(headers, HEADER_RETENTAVEL, String.valueOf(TRANSITORIA.equals(causa)));
+
+        TransicaoInvalidaException transicao = encontrar(erro, TransicaoInvalidaException.class);
+        if (transicao != null) {
+            adicionar(headers, HEADER_STATUS_ATUAL, String.valueOf(transicao.getStatusAtual()));
+            adicionar(headers, HEADER_STATUS_DESTINO, String.valueOf(transicao.getStatusDestino()));
+        }
+        OrdemServicoNaoEncontradaException naoEncontrada = encontrar(erro, OrdemServicoNaoEncontradaException.class);
+        if (naoEncontrada != null) {
+            adicionar(headers, HEADER_OS_ID, String.valueOf(naoEncontrada.getOsId()));
+        }
+        return headers;
+    }
+
+    /**
+     * Contabiliza um registro enviado à DLT.
+     */
+    public void contarDlt(String topico, Throwable erro) {
+        Counter.builder("kafka.dlt.sent")
+                .description("Registros enviados à DLT, por causa")
+                .tag("topic", RetryTier.origem(topico))
+                .tag("cause", causa(erro))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static void adicionar(Headers headers, String nome, String valor) {
+        headers.add(nome, valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static <T extends Throwable> T encontrar(Throwable erro, Class<T> tipo) {
+        for (Throwable causa = erro; causa != null; causa = causa.getCause()) {
+            if (tipo.isInstance(causa)) {
+                return tipo.cast(causa);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.grupo99.osservice.infrastructure.messaging;
+
+import br.com.grupo99.osservice.application.events.OSCanceladaEvent;
+import br.com.grupo99.osservice.application.events.OSCriadaEvent;
+import br.com.grupo99.osservice.application.events.StatusMudadoEvent;
+import br.com.grupo99.osservice.domain.event.EventoOrdemServico;
+import br.com.grupo99.osservice.domain.event.EventosOrdemServico;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Leva à Saga os eventos registrados pelo agregado OrdemServico.
+ *
+ * Dentro da transação, cada evento vira uma linha do outbox pelo
+ * {@link EventPublisherPort}: um rollback descarta as linhas junto com a
+ * mudança da OS. Após o commit o {@link OutboxRelay} é acordado e publica
+ * todos os eventos da transação em um único lote, com os envios em pipeline
+ * no producer; a requisição não espera o broker.
+ */
+@Component
+public class DespachoEventosOrdemServico {
+
+    private static final String MOTIVO_PADRAO = "Cancelamento solicitado";
+
+    private final EventPublisherPort eventPublisher;
+    private final ObjectProvider<OutboxRelay> relay;
+
+    public DespachoEventosOrdemServico(EventPublisherPort eventPublisher, ObjectProvider<OutboxRelay> relay) {
+        this.eventPublisher = eventPublisher;
+        this.relay = relay;
+    }
+
+    @EventListener
+    public void gravar(EventosOrdemServico eventos) {
+        for (EventoOrdemServico evento : eventos.eventos()) {
+            publicar(eventos.osId(), evento);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void despachar(EventosOrdemServico eventos) {
+        // Vários saves na mesma transação coalescem numa drenagem
+        relay.ifAvailable(OutboxRelay::solicitarDrenagem);
+    }
+
+    private void publicar(UUID osId, EventoOrdemServico evento) {
+        switch (evento) {
+            case EventoOrdemServico.OSCriada criada -> eventPublisher.publishOSCriada(new OSCriadaEvent(osId,
+                    criada.clienteId(), criada.veiculoId(), criada.descricaoProblema(), criada.ocorridoEm(),
+                    "OS_CRIADA"));
+            case EventoOrdemServico.StatusMudado mudado -> eventPublisher.publishStatusMudado(new StatusMudadoEvent(
+                    osId, mudado.statusAnterior().name(), mudado.statusNovo().name(), mudado.ocorridoEm(),
+                    "STATUS_MUDADO"));
+            case EventoOrdemServico.OSCancelada cancelada -> eventPublisher.publishOSCancelada(new OSCanceladaEvent(
+                    osId, Objects.requireNonNullElse(cancelada.motivo(), MOTIVO_PADRAO),
+                    cancelada.statusAnterior().name(), cancelada.ocorridoEm(), "OS_CANCELADA"));
+        }
+    }
+}
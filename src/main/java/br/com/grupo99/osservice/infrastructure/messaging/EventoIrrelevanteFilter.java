@@ -0,0 +1,94 @@
+package br.com.grupo99.osservice.infrastructure.messaging;
+
+import br.com.grupo99.osservice.infrastructure.config.KafkaConfig;
+import br.com.grupo99.osservice.infrastructure.serialization.EventoRecebidoDeserializer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.listener.adapter.RecordFilterStrategy;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Descarta, antes do listener, os eventos que este serviço não trata.
+ *
+ * Os tópicos billing-events e execution-events carregam outros tipos de
+ * evento. A decisão usa só os bytes do header {@code eventType}, e o
+ * {@link EventoRecebidoDeserializer} não faz parse do payload de tipos que
+ * não conhece: o registro descartado é confirmado junto com o lote, sem
+ * JSON, log INFO ou consulta à inbox. Cada descarte é contado em
+ * {@code kafka.consumer.skipped} por tópico e tipo (no máximo
+ * {@value #MAX_TIPOS_CONTADOS} tipos; os demais somam em {@code OUTROS}).
+ *
+ * Tópicos sem tipos cadastrados passam sem filtro.
+ */
+@Slf4j
+@Component
+public class EventoIrrelevanteFilter implements RecordFilterStrategy<String, Object> {
+
+    private static final Map<String, List<byte[]>> RELEVANTES = Map.of(
+            KafkaConfig.TOPIC_BILLING_EVENTS, bytes("ORCAMENTO_APROVADO", "ORCAMENTO_REJEITADO"),
+            KafkaConfig.TOPIC_EXECUTION_EVENTS, bytes("EXECUCAO_CONCLUIDA", "EXECUCAO_FALHOU"));
+
+    private static final String SEM_TIPO = "UNKNOWN";
+    private static final String OUTROS = "OUTROS";
+    static final int MAX_TIPOS_CONTADOS = 100;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> descartes = new ConcurrentHashMap<>();
+
+    public EventoIrrelevanteFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    private static List<byte[]> bytes(String... tipos) {
+        return Arrays.stream(tipos).map(tipo -> tipo.getBytes(StandardCharsets.UTF_8)).toList();
+    }
+
+    /**
+     * @return true para descartar o registro
+     */
+    @Override
+    public boolean filter(ConsumerRecord<String, Object> record) {
+        List<byte[]> relevantes = RELEVANTES.get(record.topic());
+        if (relevantes == null) {
+            return false;
+        }
+
+        Header header = record.headers().lastHeader(EventoRecebidoDeserializer.HEADER_EVENT_TYPE);
+        byte[] tipo = header != null ? header.value() : null;
+        if (tipo != null) {
+            for (byte[] relevante : relevantes) {
+                if (Arrays.equals(relevante, tipo)) {
+                    return false;
+                }
+            }
+        }
+
+        String nome = tipo != null ? new String(tipo, StandardCharsets.UTF_8) : SEM_TIPO;
+        log.debug("⏭️ Evento {} ignorado. Topic: {}, Offset: {}", nome, record.topic(), record.offset());
+        contador(record.topic(), nome).increment();
+        return true;
+    }
+
+    private Counter contador(String topico, String tipo) {
+        Counter contador = descartes.get(topico + '|' + tipo);
+        if (contador != null) {
+            return contador;
+        }
+        // Limita a cardinalidade da tag: tipos arbitrários não criam séries novas
+        String tag = descartes.size() < MAX_TIPOS_CONTADOS ? tipo : OUTROS;
+        return descartes.computeIfAbsent(topico + '|' + tag, k -> Counter.builder("kafka.consumer.skipped")
+                .description("Eventos descartados pelo tipo, sem deserialização do payload")
+                .tag("topic", topico)
+                .tag("eventType", tag)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,163 @@
+package br.com.grupo99.osservice.infrastructure.messaging;
+
+import br.com.grupo99.osservice.infrastructure.persistence.EventoProcessado;
+import br.com.grupo99.osservice.infrastructure.persistence.JpaEventoProcessadoRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Inbox do consumidor Kafka: descarta eventos já aplicados.
+ *
+ * Reentregas (rebalance, retry do error handler) reaplicariam a transição e
+ * falhariam em {@code atualizarStatus} (mesmo status), indo parar na DLT
+ * depois de todo o backoff. A chave do evento é gravada na tabela
+ * evento_processado na mesma transação da mudança de status; um LRU em
+ * memória, atualizado após o commit, reconhece as reentregas recentes sem
+ * consultar o banco.
+ *
+ * As chaves ficam na tabela por {@code inbox.retention-hours}; a retenção
+ * deve cobrir a dos tópicos consumidos, já que nenhuma reentrega é mais
+ * antiga que o registro mais velho ainda no broker.
+ */
+@Slf4j
+@Component
+public class InboxEventos {
+
+    static final String HEADER_EVENT_ID = "eventId";
+
+    private final JpaEventoProcessadoRepository repository;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, Boolean> recentes;
+    private final TransactionTemplate transactionTemplate;
+    private final long retencaoHoras;
+
+    public InboxEventos(
+            JpaEventoProcessadoRepository repository,
+            MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager,
+            @Value("${inbox.cache.max-size:100000}") long maxSize,
+            @Value("${inbox.retention-hours:720}") long retencaoHoras) {
+        this.repository = repository;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retencaoHoras = retencaoHoras;
+        this.recentes = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, recentes, "kafka.inbox");
+    }
+
+    /**
+     * Chave de deduplicação: o header eventId do produtor ou, na falta dele,
+     * a posição do registro (topico:particao:offset).
+     */
+    public static String chave(ConsumerRecord<?, ?> record) {
+        var header = record.headers().lastHeader(HEADER_EVENT_ID);
+        if (header != null && header.value() != null && header.value().length > 0) {
+            return new String(header.value(), StandardCharsets.UTF_8);
+        }
+        return record.topic() + ":" + record.partition() + ":" + record.offset();
+    }
+
+    /**
+     * Verificação rápida, só no LRU (sem banco).
+     */
+    public boolean processadoRecentemente(String chave) {
+        return recentes.getIfPresent(chave) != null;
+    }
+
+    /**
+     * Chaves já processadas, consultando o banco (uma consulta IN) apenas para
+     * as ausentes do LRU. Deve rodar na transação que aplicará os eventos.
+     */
+    public Set<String> jaProcessados(Collection<String> chaves) {
+        Set<String> processados = new HashSet<>();
+        List<String> consultar = new ArrayList<>(chaves.size());
+        for (String chave : chaves) {
+            if (processadoRecentemente(chave)) {
+                processados.add(chave);
+            } else {
+                consultar.add(chave);
+            }
+        }
+        if (!consultar.isEmpty()) {
+            for (String chave : repository.findChavesProcessadas(consultar)) {
+                processados.add(chave);
+                recentes.put(chave, Boolean.TRUE);
+            }
+        }
+        return processados;
+    }
+
+    /**
+     * Grava os eventos aplicados na transação corrente; o LRU só é atualizado
+     * após o commit, para que um rollback não esconda eventos não aplicados.
+     */
+    public void registrar(Collection<? extends ConsumerRecord<?, ?>> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        List<EventoProcessado> eventos = new ArrayList<>(records.size());
+        records.forEach(record -> eventos.add(new EventoProcessado(chave(record), record.topic())));
+        repository.saveAll(eventos);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    lembrar(eventos);
+                }
+            });
+        } else {
+            lembrar(eventos);
+        }
+    }
+
+    private void lembrar(List<EventoProcessado> eventos) {
+        eventos.forEach(evento -> recentes.put(evento.getChave(), Boolean.TRUE));
+    }
+
+    /**
+     * Remove as chaves processadas há mais de {@code inbox.retention-hours}.
+     */
+    @Scheduled(fixedDelayString = "${inbox.purge-interval-ms:3600000}", initialDelayString = "${inbox.purge-interval-ms:3600000}")
+    public void expurgar() {
+        Integer removidos = transactionTemplate.execute(status -> repository.expurgarProcessadosAntesDe(
+                LocalDateTime.now().minusHours(retencaoHoras)));
+        if (removidos != null && removidos > 0) {
+            log.info("🧹 Inbox: {} eventos processados expurgados", removidos);
+        }
+    }
+
+    /**
+     * Contabiliza um evento descartado por já ter sido processado.
+     */
+    public void contarDuplicado(String topico) {
+        Counter.builder("kafka.consumer.duplicates")
+                .description("Eventos reentregues descartados pela inbox")
+                .tag("topic", topico)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -1,238 +1,466 @@
 package br.com.grupo99.osservice.infrastructure.messaging;
 
+import br.com.grupo99.osservice.application.events.EventoRecebido;
+import br.com.grupo99.osservice.application.events.EventoRecebido.ExecucaoConcluida;
+import br.com.grupo99.osservice.application.events.EventoRecebido.ExecucaoFalhou;
+import br.com.grupo99.osservice.application.events.EventoRecebido.OrcamentoAprovado;
+import br.com.grupo99.osservice.application.events.EventoRecebido.OrcamentoRejeitado;
+import br.com.grupo99.osservice.domain.exception.OrdemServicoNaoEncontradaException;
 import br.com.grupo99.osservice.domain.model.OrdemServico;
 import br.com.grupo99.osservice.domain.model.StatusOS;
 import br.com.grupo99.osservice.domain.repository.OrdemServicoRepository;
 import br.com.grupo99.osservice.infrastructure.config.KafkaConfig;
+import br.com.grupo99.osservice.infrastructure.stream.StatusStreamBroadcaster;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.log.LogAccessor;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.messaging.converter.MessageConversionException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Consumidor de eventos Kafka para a Saga de Ordens de Serviço
  * Migrado de AWS SQS polling para Kafka push-based com Consumer Groups
- * 
+ *
  * Padrões implementados:
- * - Manual Acknowledgment (controle explícito de commit)
+ * - Listener em lote: um poll inteiro por chamada
+ * - Manual Acknowledgment (um commit de offsets por lote)
  * - Consumer Group para processamento distribuído
  * - Dead Letter Topic para eventos não processados
- * - Headers para roteamento de eventos
+ * - Headers para roteamento e filtragem de eventos (EventoIrrelevanteFilter)
+ *
+ * Cada lote carrega todas as OS referenciadas em uma consulta (IN), aplica
+ * as transições em memória e grava tudo em uma transação (JDBC batching).
+ * Falhas são isoladas por registro: um evento inválido (payload malformado,
+ * OS inexistente, transição inválida) nunca passa num retry e vai direto
+ * para a DLT, classificado pelo {@link ClassificadorFalhas}, sem derrubar o
+ * lote.
+ *
+ * O consumo é idempotente: eventos já aplicados são descartados pela
+ * {@link InboxEventos}, gravada na mesma transação das mudanças de status.
+ *
+ * Dentro do lote, os eventos são distribuídos em lanes pelo id da OS e as
+ * lanes rodam em paralelo (cada uma em sua transação): a ordem por OS é
+ * mantida e o throughput escala com os núcleos, não com as partições. Se a
+ * gravação de uma lane falha, o lote é confirmado só até o registro anterior
+ * ao primeiro evento dessa lane; esse evento segue para o tópico de retry,
+ * o restante é reentregue e o que já foi aplicado é descartado pela inbox.
+ *
+ * Idade dos eventos, tempo de processamento e eventos aplicados/falhos por
+ * tipo são registrados em {@link MetricasConsumo}.
  */
 @Slf4j
 @Service
 public class KafkaEventListener {
 
+    private static final LogAccessor LOG_ACCESSOR = new LogAccessor(KafkaEventListener.class);
+
     private final OrdemServicoRepository ordemServicoRepository;
+    private final DeadLetterPublishingRecoverer deadLetterRecoverer;
+    private final InboxEventos inbox;
+    private final MetricasConsumo metricas;
+    private final TransactionTemplate transactionTemplate;
+    private final int lanes;
+    private final ExecutorService laneExecutor;
 
     public KafkaEventListener(
-            OrdemServicoRepository ordemServicoRepository) {
+            OrdemServicoRepository ordemServicoRepository,
+            DeadLetterPublishingRecoverer deadLetterRecoverer,
+            InboxEventos inbox,
+            MetricasConsumo metricas,
+            PlatformTransactionManager transactionManager,
+            @Value("${kafka-consumer.lanes:0}") int lanes,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int tamanhoPool) {
         this.ordemServicoRepository = ordemServicoRepository;
+        this.deadLetterRecoverer = deadLetterRecoverer;
+        this.inbox = inbox;
+        this.metricas = metricas;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lanes = limitarLanes(lanes > 0 ? lanes : Runtime.getRuntime().availableProcessors(), tamanhoPool);
+        this.laneExecutor = this.lanes > 1
+                ? Executors.newFixedThreadPool(this.lanes, daemon("kafka-lane-"))
+                : null;
     }
 
     /**
-     * Consome eventos do tópico billing-events
-     * Processa: ORCAMENTO_APROVADO, ORCAMENTO_REJEITADO
+     * Cada lane segura uma conexão do pool durante sua transação, e o
+     * executor é compartilhado por todos os consumidores. As lanes ficam
+     * limitadas à metade do pool: o restante atende a API e as consultas
+     * feitas no thread do consumidor.
      */
-    @KafkaListener(topics = KafkaConfig.TOPIC_BILLING_EVENTS, groupId = "${spring.kafka.consumer.group-id}", containerFactory = "kafkaListenerContainerFactory", concurrency = "3")
-    public void consumeBillingEvents(
-            ConsumerRecord<String, Object> record,
-            Acknowledgment acknowledgment,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset) {
+    static int limitarLanes(int pedidas, int tamanhoPool) {
+        int maximo = Math.max(1, tamanhoPool / 2);
+        if (pedidas > maximo) {
+            log.warn("⚠️ {} lanes pedidas com pool de {} conexões; usando {}", pedidas, tamanhoPool, maximo);
+            return maximo;
+        }
+        return pedidas;
+    }
 
-        String eventType = extractHeader(record, "eventType");
-        String osId = record.key();
+    @PreDestroy
+    public void shutdown() {
+        if (laneExecutor != null) {
+            laneExecutor.shutdown();
+        }
+    }
 
-        log.info("📥 Recebido evento Kafka do billing-service. " +
-                "Type: {}, OS ID: {}, Partition: {}, Offset: {}",
-                eventType, osId, partition, offset);
+    /**
+     * Transição de status pedida por um evento.
+     */
+    private record Evento(ConsumerRecord<String, Object> record, String chave, UUID osId, StatusOS novoStatus,
+            String observacao, String usuario) {
+    }
 
-        try {
-            switch (eventType) {
-                case "ORCAMENTO_APROVADO" -> handleOrcamentoAprovado(record);
-                case "ORCAMENTO_REJEITADO" -> handleOrcamentoRejeitado(record);
-                default -> log.warn("⚠️ Tipo de evento desconhecido do billing: {}", eventType);
-            }
+    /**
+     * Transição aplicada e confirmada. Os assinantes SSE são notificados
+     * pelos eventos da OS após o commit ({@link StatusStreamBroadcaster}).
+     */
+    private record Transicao(ConsumerRecord<String, Object> record) {
+    }
 
-            // Commit manual após processamento bem-sucedido
-            acknowledgment.acknowledge();
-            log.debug("✅ Evento {} commitado com sucesso. Offset: {}", eventType, offset);
+    private record Falha(ConsumerRecord<String, Object> record, Exception erro) {
+    }
+
+    /**
+     * Resultado de uma lane: transições e falhas por registro, ou o erro que
+     * desfez a transação da lane inteira.
+     */
+    private record Lane(List<Evento> eventos, List<Transicao> transicoes, List<Falha> falhas,
+            RuntimeException erro, long concluidaEm) {
+    }
 
-        } catch (Exception e) {
-            log.error("❌ Erro ao processar evento do billing. Type: {}, OS ID: {}, Erro: {}",
-                    eventType, osId, e.getMessage(), e);
-            // Não faz acknowledge - mensagem será reprocessada
-            // Em produção: implementar retry com backoff ou enviar para DLT
-            handleProcessingError(record, e, "billing");
+    /**
+     * Consome eventos do tópico billing-events
+     * Processa: ORCAMENTO_APROVADO, ORCAMENTO_REJEITADO
+     */
+    @KafkaListener(topics = KafkaConfig.TOPIC_BILLING_EVENTS, groupId = "${spring.kafka.consumer.group-id}", containerFactory = "kafkaBatchListenerContainerFactory", concurrency = "3")
+    public void consumeBillingEvents(
+            List<ConsumerRecord<String, Object>> records,
+            Acknowledgment acknowledgment) {
+
+        // Lote vazio: todos os registros descartados pelo EventoIrrelevanteFilter
+        if (!records.isEmpty()) {
+            log.info("📥 Recebido lote de {} eventos Kafka do billing-service", records.size());
+            processarLote(records, "billing");
         }
+
+        // Commit único dos offsets do lote
+        acknowledgment.acknowledge();
     }
 
     /**
      * Consome eventos do tópico execution-events
      * Processa: EXECUCAO_CONCLUIDA, EXECUCAO_FALHOU
      */
-    @KafkaListener(topics = KafkaConfig.TOPIC_EXECUTION_EVENTS, groupId = "${spring.kafka.consumer.group-id}", containerFactory = "kafkaListenerContainerFactory", concurrency = "2")
+    @KafkaListener(topics = KafkaConfig.TOPIC_EXECUTION_EVENTS, groupId = "${spring.kafka.consumer.group-id}", containerFactory = "kafkaBatchListenerContainerFactory", concurrency = "2")
     public void consumeExecutionEvents(
-            ConsumerRecord<String, Object> record,
-            Acknowledgment acknowledgment,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset) {
+            List<ConsumerRecord<String, Object>> records,
+            Acknowledgment acknowledgment) {
 
-        String eventType = extractHeader(record, "eventType");
-        String osId = record.key();
+        // Lote vazio: todos os registros descartados pelo EventoIrrelevanteFilter
+        if (!records.isEmpty()) {
+            log.info("📥 Recebido lote de {} eventos Kafka do execution-service", records.size());
+            processarLote(records, "execution");
+        }
 
-        log.info("📥 Recebido evento Kafka do execution-service. " +
-                "Type: {}, OS ID: {}, Partition: {}, Offset: {}",
-                eventType, osId, partition, offset);
+        acknowledgment.acknowledge();
+    }
 
-        try {
-            switch (eventType) {
-                case "EXECUCAO_CONCLUIDA" -> handleExecucaoConcluida(record);
-                case "EXECUCAO_FALHOU" -> handleExecucaoFalhou(record);
-                default -> log.warn("⚠️ Tipo de evento desconhecido da execução: {}", eventType);
+    /**
+     * Interpreta os registros, aplica as transições por lane e, após o
+     * commit de cada lane, envia as falhas para a DLT. Os assinantes SSE são
+     * notificados pelo commit de cada lane.
+     *
+     * Se a gravação de alguma lane falha (ex: banco indisponível), lança
+     * {@link BatchListenerFailedException} no primeiro registro afetado: o
+     * error handler confirma os offsets anteriores, move esse registro para
+     * o próximo tópico de retry ({@link RetryTier}) e reentrega o restante.
+     */
+    void processarLote(List<ConsumerRecord<String, Object>> records, String source) {
+        long inicio = System.nanoTime();
+        List<Evento> eventos = new ArrayList<>(records.size());
+        List<Falha> falhas = new ArrayList<>();
+
+        for (ConsumerRecord<String, Object> record : records) {
+            metricas.registrarRecebimento(record);
+            String chave = InboxEventos.chave(record);
+            if (inbox.processadoRecentemente(chave)) {
+                descartarDuplicado(record, chave);
+                continue;
+            }
+            try {
+                Evento evento = interpretar(record, chave, source);
+                if (evento != null) {
+                    eventos.add(evento);
+                }
+            } catch (Exception e) {
+                falhas.add(new Falha(record, e));
             }
+        }
+
+        List<Lane> resultados = executarLanes(eventos);
 
-            acknowledgment.acknowledge();
-            log.debug("✅ Evento {} commitado com sucesso. Offset: {}", eventType, offset);
+        // Primeiro registro (na ordem do lote) de uma lane desfeita
+        Map<ConsumerRecord<String, Object>, Integer> indices = new IdentityHashMap<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            indices.put(records.get(i), i);
+        }
+        int primeiroFalho = records.size();
+        RuntimeException erro = null;
+        for (Lane lane : resultados) {
+            if (lane.erro() != null) {
+                int indice = indices.get(lane.eventos().get(0).record());
+                if (indice < primeiroFalho) {
+                    primeiroFalho = indice;
+                    erro = lane.erro();
+                }
+            }
+        }
 
-        } catch (Exception e) {
-            log.error("❌ Erro ao processar evento da execução. Type: {}, OS ID: {}, Erro: {}",
-                    eventType, osId, e.getMessage(), e);
-            handleProcessingError(record, e, "execution");
+        int transicoes = 0;
+        for (Lane lane : resultados) {
+            for (Transicao transicao : lane.transicoes()) {
+                metricas.contarSucesso(transicao.record());
+                metricas.registrarProcessamento(transicao.record(), inicio, lane.concluidaEm());
+            }
+            transicoes += lane.transicoes().size();
+            falhas.addAll(lane.falhas());
         }
+        // Falhas após o registro que será reentregue voltam no próximo poll
+        int limite = primeiroFalho;
+        falhas.stream()
+                .filter(falha -> indices.get(falha.record()) < limite)
+                .forEach(falha -> handleProcessingError(falha.record(), falha.erro(), source));
+
+        if (erro != null) {
+            log.error("❌ Falha ao gravar lote do {}. Reentregando a partir do offset {} da partição {}: {}",
+                    source, records.get(primeiroFalho).offset(), records.get(primeiroFalho).partition(),
+                    erro.getMessage());
+            // Pelo registro, não pelo índice: o lote recebido já passou pelo filtro
+            throw new BatchListenerFailedException("Falha ao gravar lote do " + source, erro,
+                    records.get(primeiroFalho));
+        }
+
+        log.debug("✅ Lote do {} processado: {} transições, {} falhas em {} lanes",
+                source, transicoes, falhas.size(), resultados.size());
     }
 
     /**
-     * Saga Step 3: Orçamento aprovado pelo cliente
-     * Avança a OS para status "EM_EXECUCAO"
+     * Distribui os eventos em lanes pelo id da OS (ordem preservada dentro
+     * de cada lane) e executa as lanes em paralelo, cada uma em sua
+     * transação. Uma lane só roda no próprio thread do consumidor.
      */
-    @SuppressWarnings("unchecked")
-    private void handleOrcamentoAprovado(ConsumerRecord<String, Object> record) {
-        try {
-            UUID osId = UUID.fromString(record.key());
-            Map<String, Object> payload = (Map<String, Object>) record.value();
-
-            Double valorAprovado = ((Number) payload.getOrDefault("valorAprovado", 0.0)).doubleValue();
-            String aprovadoPor = (String) payload.getOrDefault("aprovadoPor", "sistema");
-
-            log.info("💰 Processando ORCAMENTO_APROVADO. OS ID: {}, Valor: R$ {}, Aprovado por: {}",
-                    osId, valorAprovado, aprovadoPor);
-
-            // Busca e atualiza a OS
-            OrdemServico os = ordemServicoRepository.findById(osId)
-                    .orElseThrow(() -> new RuntimeException("OS não encontrada: " + osId));
+    private List<Lane> executarLanes(List<Evento> eventos) {
+        if (eventos.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, List<Evento>> porLane = new LinkedHashMap<>();
+        for (Evento evento : eventos) {
+            porLane.computeIfAbsent(Math.floorMod(evento.osId().hashCode(), lanes), l -> new ArrayList<>())
+                    .add(evento);
+        }
 
-            os.atualizarStatus(StatusOS.EM_EXECUCAO, "Orçamento aprovado via Kafka", aprovadoPor);
-            ordemServicoRepository.save(os);
+        if (porLane.size() == 1 || laneExecutor == null) {
+            List<Lane> resultados = new ArrayList<>(porLane.size());
+            porLane.values().forEach(lane -> resultados.add(executarLane(lane)));
+            return resultados;
+        }
 
-            log.info("✅ OS {} avançou para EM_EXECUCAO após aprovação de orçamento", osId);
+        List<CompletableFuture<Lane>> futuros = new ArrayList<>(porLane.size());
+        porLane.values().forEach(lane -> futuros.add(
+                CompletableFuture.supplyAsync(() -> executarLane(lane), laneExecutor)));
+        return futuros.stream().map(CompletableFuture::join).toList();
+    }
 
-        } catch (Exception e) {
-            log.error("❌ Erro ao processar ORCAMENTO_APROVADO: {}", e.getMessage(), e);
-            throw e;
+    private Lane executarLane(List<Evento> eventos) {
+        List<Falha> falhas = new ArrayList<>();
+        try {
+            List<Transicao> transicoes = transactionTemplate.execute(status -> aplicar(eventos, falhas));
+            return new Lane(eventos, transicoes, falhas, null, System.nanoTime());
+        } catch (RuntimeException e) {
+            return new Lane(eventos, List.of(), List.of(), e, System.nanoTime());
         }
     }
 
     /**
-     * Saga Compensação: Orçamento rejeitado pelo cliente
-     * Retorna a OS para status "CANCELADA"
+     * Carrega as OS da lane com uma consulta, aplica as transições na ordem
+     * dos registros (eventos da mesma OS vêm da mesma partição e caem na
+     * mesma lane) e grava as OS alteradas e a inbox de uma vez.
      */
-    @SuppressWarnings("unchecked")
-    private void handleOrcamentoRejeitado(ConsumerRecord<String, Object> record) {
-        try {
-            UUID osId = UUID.fromString(record.key());
-            Map<String, Object> payload = (Map<String, Object>) record.value();
-
-            String motivo = (String) payload.getOrDefault("motivo", "Não especificado");
-
-            log.warn("❌ Processando ORCAMENTO_REJEITADO. OS ID: {}, Motivo: {}", osId, motivo);
+    private List<Transicao> aplicar(List<Evento> eventos, List<Falha> falhas) {
+        Set<UUID> ids = new HashSet<>();
+        Set<String> chaves = new HashSet<>();
+        eventos.forEach(evento -> {
+            ids.add(evento.osId());
+            chaves.add(evento.chave());
+        });
+        Set<String> processados = inbox.jaProcessados(chaves);
+
+        Map<UUID, OrdemServico> porId = new HashMap<>();
+        for (OrdemServico os : ordemServicoRepository.findAllById(ids)) {
+            porId.put(os.getId(), os);
+        }
 
-            // Busca e atualiza a OS
-            OrdemServico os = ordemServicoRepository.findById(osId)
-                    .orElseThrow(() -> new RuntimeException("OS não encontrada: " + osId));
+        List<Transicao> transicoes = new ArrayList<>(eventos.size());
+        Set<OrdemServico> alteradas = new LinkedHashSet<>();
+        List<ConsumerRecord<String, Object>> aplicados = new ArrayList<>(eventos.size());
+        for (Evento evento : eventos) {
+            // add também descarta repetições dentro do próprio lote
+            if (!processados.add(evento.chave())) {
+                descartarDuplicado(evento.record(), evento.chave());
+                continue;
+            }
+            try {
+                OrdemServico os = porId.get(evento.osId());
+                if (os == null) {
+                    throw new OrdemServicoNaoEncontradaException(evento.osId());
+                }
+
+                // atualizarStatus valida antes de alterar: em caso de erro a OS fica intacta
+                os.atualizarStatus(evento.novoStatus(), evento.observacao(), evento.usuario());
+                transicoes.add(new Transicao(evento.record()));
+                alteradas.add(os);
+                aplicados.add(evento.record());
+
+                log.info("✅ OS {} avançou para {}", evento.osId(), evento.novoStatus());
+            } catch (Exception e) {
+                falhas.add(new Falha(evento.record(), e));
+            }
+        }
 
-            os.atualizarStatus(StatusOS.CANCELADA, "Orçamento rejeitado: " + motivo, "Sistema");
-            ordemServicoRepository.save(os);
+        if (!alteradas.isEmpty()) {
+            ordemServicoRepository.saveAll(new ArrayList<>(alteradas));
+        }
+        inbox.registrar(aplicados);
+        return transicoes;
+    }
 
-            log.info("🔄 OS {} marcada como CANCELADA por rejeição de orçamento", osId);
+    private void descartarDuplicado(ConsumerRecord<String, Object> record, String chave) {
+        log.debug("♻️ Evento {} já processado, descartando. Topic: {}, Offset: {}",
+                chave, record.topic(), record.offset());
+        inbox.contarDuplicado(record.topic());
+    }
 
-        } catch (Exception e) {
-            log.error("❌ Erro ao processar ORCAMENTO_REJEITADO: {}", e.getMessage(), e);
-            throw e;
+    /**
+     * Converte o registro na transição correspondente, ou null para tipos de
+     * evento desconhecidos (ignorados). O payload já chega decodificado no
+     * record do evento pelo {@code EventoRecebidoDeserializer}.
+     */
+    private Evento interpretar(ConsumerRecord<String, Object> record, String chave, String source) {
+        log.debug("📥 Evento Kafka do {}. Type: {}, OS ID: {}, Partition: {}, Offset: {}",
+                source, extractHeader(record, "eventType"), record.key(), record.partition(), record.offset());
+
+        DeserializationException erroPayload = SerializationUtils.getExceptionFromHeader(
+                record, SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, LOG_ACCESSOR);
+        if (erroPayload != null) {
+            throw erroPayload;
         }
+        if (!(record.value() instanceof EventoRecebido evento)) {
+            log.warn("⚠️ Tipo de evento desconhecido do {}: {}", source, extractHeader(record, "eventType"));
+            return null;
+        }
+
+        UUID osId = evento.osId() != null ? evento.osId() : osIdDaChave(record);
+        return switch (evento) {
+            case OrcamentoAprovado aprovado -> orcamentoAprovado(record, chave, osId, aprovado);
+            case OrcamentoRejeitado rejeitado -> orcamentoRejeitado(record, chave, osId, rejeitado);
+            case ExecucaoConcluida concluida -> execucaoConcluida(record, chave, osId, concluida);
+            case ExecucaoFalhou falhou -> execucaoFalhou(record, chave, osId, falhou);
+        };
     }
 
     /**
-     * Saga Final: Execução do serviço concluída com sucesso
-     * Finaliza a OS
+     * Sem osId no payload, a chave do registro é o id da OS; uma chave que
+     * não é UUID é payload inválido (vai direto para a DLT).
      */
-    @SuppressWarnings("unchecked")
-    private void handleExecucaoConcluida(ConsumerRecord<String, Object> record) {
+    private static UUID osIdDaChave(ConsumerRecord<String, Object> record) {
         try {
-            UUID osId = UUID.fromString(record.key());
-            Map<String, Object> payload = (Map<String, Object>) record.value();
+            return UUID.fromString(record.key());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new MessageConversionException("Chave do registro não é o id de uma OS: " + record.key(), e);
+        }
+    }
 
-            String observacoes = (String) payload.getOrDefault("observacoes", "");
-            String executadoPor = (String) payload.getOrDefault("executadoPor", "sistema");
+    /**
+     * Saga Step 3: Orçamento aprovado pelo cliente
+     * Avança a OS para status "EM_EXECUCAO"
+     */
+    private Evento orcamentoAprovado(ConsumerRecord<String, Object> record, String chave, UUID osId,
+            OrcamentoAprovado evento) {
+        log.info("💰 Processando ORCAMENTO_APROVADO. OS ID: {}, Valor: R$ {}, Aprovado por: {}",
+                osId, evento.valorAprovado(), evento.aprovadoPor());
 
-            log.info("🏁 Processando EXECUCAO_CONCLUIDA. OS ID: {}, Executado por: {}",
-                    osId, executadoPor);
+        return new Evento(record, chave, osId, StatusOS.EM_EXECUCAO, "Orçamento aprovado via Kafka",
+                evento.aprovadoPor());
+    }
 
-            // Busca e finaliza a OS
-            OrdemServico os = ordemServicoRepository.findById(osId)
-                    .orElseThrow(() -> new RuntimeException("OS não encontrada: " + osId));
+    /**
+     * Saga Compensação: Orçamento rejeitado pelo cliente
+     * Retorna a OS para status "CANCELADA"
+     */
+    private Evento orcamentoRejeitado(ConsumerRecord<String, Object> record, String chave, UUID osId,
+            OrcamentoRejeitado evento) {
+        log.warn("❌ Processando ORCAMENTO_REJEITADO. OS ID: {}, Motivo: {}", osId, evento.motivo());
 
-            os.atualizarStatus(StatusOS.FINALIZADA, "Execução concluída: " + observacoes, executadoPor);
-            ordemServicoRepository.save(os);
+        return new Evento(record, chave, osId, StatusOS.CANCELADA, "Orçamento rejeitado: " + evento.motivo(),
+                "Sistema");
+    }
 
-            log.info("✅ OS {} FINALIZADA com sucesso! Saga completa.", osId);
+    /**
+     * Saga Final: Execução do serviço concluída com sucesso
+     * Finaliza a OS
+     */
+    private Evento execucaoConcluida(ConsumerRecord<String, Object> record, String chave, UUID osId,
+            ExecucaoConcluida evento) {
+        log.info("🏁 Processando EXECUCAO_CONCLUIDA. OS ID: {}, Executado por: {}",
+                osId, evento.executadoPor());
 
-        } catch (Exception e) {
-            log.error("❌ Erro ao processar EXECUCAO_CONCLUIDA: {}", e.getMessage(), e);
-            throw e;
-        }
+        return new Evento(record, chave, osId, StatusOS.FINALIZADA, "Execução concluída: " + evento.observacoes(),
+                evento.executadoPor());
     }
 
     /**
      * Saga Compensação: Falha na execução do serviço
+     * Volta para EM_EXECUCAO (retrabalho) ou cancela a OS
      */
-    @SuppressWarnings("unchecked")
-    private void handleExecucaoFalhou(ConsumerRecord<String, Object> record) {
-        try {
-            UUID osId = UUID.fromString(record.key());
-            Map<String, Object> payload = (Map<String, Object>) record.value();
-
-            String motivo = (String) payload.getOrDefault("motivo", "Falha não especificada");
-            Boolean requerRetrabalho = (Boolean) payload.getOrDefault("requerRetrabalho", false);
-
-            log.error("💥 Processando EXECUCAO_FALHOU. OS ID: {}, Motivo: {}, Requer retrabalho: {}",
-                    osId, motivo, requerRetrabalho);
-
-            OrdemServico os = ordemServicoRepository.findById(osId)
-                    .orElseThrow(() -> new RuntimeException("OS não encontrada: " + osId));
-
-            if (requerRetrabalho) {
-                os.atualizarStatus(StatusOS.EM_EXECUCAO, "Retrabalho necessário: " + motivo, "Sistema");
-                log.warn("🔄 OS {} requer retrabalho - aguardando nova execução", osId);
-            } else {
-                os.atualizarStatus(StatusOS.CANCELADA, "Execução falhou: " + motivo, "Sistema");
-                log.error("❌ OS {} cancelada por falha na execução", osId);
-            }
-            ordemServicoRepository.save(os);
-
-        } catch (Exception e) {
-            log.error("❌ Erro ao processar EXECUCAO_FALHOU: {}", e.getMessage(), e);
-            throw e;
+    private Evento execucaoFalhou(ConsumerRecord<String, Object> record, String chave, UUID osId,
+            ExecucaoFalhou evento) {
+        log.error("💥 Processando EXECUCAO_FALHOU. OS ID: {}, Motivo: {}, Requer retrabalho: {}",
+                osId, evento.motivo(), evento.requerRetrabalho());
+
+        if (evento.requerRetrabalho()) {
+            log.warn("🔄 OS {} requer retrabalho - aguardando nova execução", osId);
+            return new Evento(record, chave, osId, StatusOS.EM_EXECUCAO,
+                    "Retrabalho necessário: " + evento.motivo(), "Sistema");
         }
+        return new Evento(record, chave, osId, StatusOS.CANCELADA, "Execução falhou: " + evento.motivo(), "Sistema");
     }
 
     /**
@@ -247,11 +475,11 @@ public class KafkaEventListener {
     }
 
     /**
-     * Trata erros de processamento
-     * Em produção: implementar envio para Dead Letter Topic
+     * Trata erros de processamento de um registro: envia para a Dead Letter
+     * Topic sem interromper o restante do lote
      */
     private void handleProcessingError(ConsumerRecord<String, Object> record, Exception e, String source) {
-        log.error("🔴 Erro crítico no processamento de evento do {}. " +
+        log.error("🔴 Erro no processamento de evento do {}. " +
                 "Topic: {}, Partition: {}, Offset: {}, Key: {}, Erro: {}",
                 source,
                 record.topic(),
@@ -260,7 +488,16 @@ public class KafkaEventListener {
                 record.key(),
                 e.getMessage());
 
-        // Re-throw exception to trigger Dead Letter Topic configured in KafkaConfig
-        throw new RuntimeException(e);
+        metricas.contarFalha(record);
+        deadLetterRecoverer.accept(record, e);
+    }
+
+    private static ThreadFactory daemon(String prefixo) {
+        AtomicInteger contador = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefixo + contador.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
     }
 }
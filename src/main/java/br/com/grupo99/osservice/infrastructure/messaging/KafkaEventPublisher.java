@@ -10,7 +10,6 @@ import io.github.resilience4j.retry.annotation.Retry;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.header.internals.RecordHeader;
-import org.springframework.context.annotation.Primary;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
@@ -32,10 +31,12 @@ import java.util.concurrent.CompletableFuture;
  * - Circuit Breaker para proteção contra falhas do broker
  * - Retry com backoff exponencial
  * - Time limiter para evitar bloqueios
+ *
+ * O caminho de escrita publica pelo {@link OutboxEventPublisher} (primário),
+ * sem chamada síncrona ao broker dentro da requisição.
  */
 @Slf4j
 @Service
-@Primary
 public class KafkaEventPublisher implements EventPublisherPort {
 
     private static final String CIRCUIT_BREAKER_NAME = "kafkaPublisher";
@@ -139,11 +140,13 @@ public class KafkaEventPublisher implements EventPublisherPort {
     }
 
     /**
-     * Publica evento de compensação - OS cancelada (Rollback)
+     * Publica evento de compensação - OS cancelada (Rollback), sem bloquear.
+     *
+     * O ack é apenas registrado em log: a entrega garantida das compensações
+     * é feita pelo outbox ({@link OutboxEventPublisher} e
+     * {@link OutboxRelay}), gravado na mesma transação do cancelamento.
      */
     @Override
-    @CircuitBreaker(name = CIRCUIT_BREAKER_NAME, fallbackMethod = "publishOSCanceladaFallback")
-    @Retry(name = CIRCUIT_BREAKER_NAME)
     public void publishOSCancelada(OSCanceladaEvent event) {
         String key = event.getOsId().toString();
 
@@ -158,31 +161,19 @@ public class KafkaEventPublisher implements EventPublisherPort {
                 .add(new RecordHeader("motivo", event.getMotivo().getBytes(StandardCharsets.UTF_8)))
                 .add(new RecordHeader("etapaFalha", event.getEtapaFalha().getBytes(StandardCharsets.UTF_8)));
 
-        // Envio síncrono para eventos de compensação (mais críticos)
-        try {
-            SendResult<String, Object> result = kafkaTemplate.send(record).get();
-            log.warn("🔄 Evento de compensação OS_CANCELADA publicado. " +
-                    "OS ID: {}, Motivo: {}, Partition: {}, Offset: {}",
-                    event.getOsId(),
-                    event.getMotivo(),
-                    result.getRecordMetadata().partition(),
-                    result.getRecordMetadata().offset());
-        } catch (Exception e) {
-            log.error("❌ ERRO CRÍTICO ao publicar evento de compensação OS_CANCELADA: {}", e.getMessage(), e);
-            // Alerta crítico - necessita intervenção manual
-            throw new RuntimeException("Falha ao publicar evento de compensação", e);
-        }
-    }
-
-    /**
-     * Fallback quando Circuit Breaker está aberto para OS_CANCELADA
-     */
-    public void publishOSCanceladaFallback(OSCanceladaEvent event, Throwable t) {
-        log.error(
-                "🔴 Circuit Breaker ABERTO - Evento CRÍTICO OS_CANCELADA não publicado. OS ID: {}, Motivo: {}, Erro: {}",
-                event.getOsId(), event.getMotivo(), t.getMessage());
-        // CRÍTICO: Evento de compensação deve ser persistido para retry manual
-        // Aqui poderia salvar em outbox table ou alertar operações
+        kafkaTemplate.send(record).whenComplete((result, ex) -> {
+            if (ex == null) {
+                log.warn("🔄 Evento de compensação OS_CANCELADA publicado. " +
+                        "OS ID: {}, Motivo: {}, Partition: {}, Offset: {}",
+                        event.getOsId(),
+                        event.getMotivo(),
+                        result.getRecordMetadata().partition(),
+                        result.getRecordMetadata().offset());
+            } else {
+                log.error("❌ Erro ao publicar compensação OS_CANCELADA da OS {}: {}", event.getOsId(),
+                        ex.getMessage(), ex);
+            }
+        });
     }
 
     /**
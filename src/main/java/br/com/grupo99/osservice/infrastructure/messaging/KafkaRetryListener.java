@@ -0,0 +1,111 @@
+package br.com.grupo99.osservice.infrastructure.messaging;
+
+import br.com.grupo99.osservice.infrastructure.config.KafkaConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ListenerContainerPauseService;
+import org.springframework.kafka.listener.ListenerContainerRegistry;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Consumidor dos tópicos de retry (não bloqueantes).
+ *
+ * Cada nível tem seu próprio container, com um atraso fixo: o registro só é
+ * reprocessado depois de {@code timestamp + atraso}. O Kafka só ordena dentro
+ * da partição, então o container entrega um lote por partição
+ * (kafkaRetryListenerContainerFactory). Enquanto o primeiro registro do lote
+ * não vence, o listener confirma os anteriores, volta a partição ao primeiro
+ * pendente e pausa só ela pelo tempo restante; as demais partições e os
+ * tópicos de origem seguem fluindo. Uma nova falha leva o registro ao nível
+ * seguinte e, depois do último, à DLT (error handler do KafkaConfig).
+ */
+@Slf4j
+@Service
+public class KafkaRetryListener {
+
+    private final KafkaEventListener eventListener;
+    private final MeterRegistry meterRegistry;
+    private final ListenerContainerRegistry containerRegistry;
+    private final ListenerContainerPauseService pauseService;
+
+    public KafkaRetryListener(KafkaEventListener eventListener, MeterRegistry meterRegistry,
+            ListenerContainerRegistry containerRegistry, ListenerContainerPauseService pauseService) {
+        this.eventListener = eventListener;
+        this.meterRegistry = meterRegistry;
+        this.containerRegistry = containerRegistry;
+        this.pauseService = pauseService;
+    }
+
+    // O id do container é o sufixo do nível: é por ele que a partição é pausada
+    @KafkaListener(topics = { KafkaConfig.RETRY_1S_BILLING_EVENTS,
+            KafkaConfig.RETRY_1S_EXECUTION_EVENTS }, id = "retry-1s", groupId = "${spring.kafka.consumer.group-id}", containerFactory = "kafkaRetryListenerContainerFactory", concurrency = "1")
+    public void consumeRetry1s(List<ConsumerRecord<String, Object>> records, Acknowledgment acknowledgment) {
+        reprocessar(records, acknowledgment, RetryTier.RETRY_1S);
+    }
+
+    @KafkaListener(topics = { KafkaConfig.RETRY_10S_BILLING_EVENTS,
+            KafkaConfig.RETRY_10S_EXECUTION_EVENTS }, id = "retry-10s", groupId = "${spring.kafka.consumer.group-id}", containerFactory = "kafkaRetryListenerContainerFactory", concurrency = "1")
+    public void consumeRetry10s(List<ConsumerRecord<String, Object>> records, Acknowledgment acknowledgment) {
+        reprocessar(records, acknowledgment, RetryTier.RETRY_10S);
+    }
+
+    @KafkaListener(topics = { KafkaConfig.RETRY_60S_BILLING_EVENTS,
+            KafkaConfig.RETRY_60S_EXECUTION_EVENTS }, id = "retry-60s", groupId = "${spring.kafka.consumer.group-id}", containerFactory = "kafkaRetryListenerContainerFactory", concurrency = "1")
+    public void consumeRetry60s(List<ConsumerRecord<String, Object>> records, Acknowledgment acknowledgment) {
+        reprocessar(records, acknowledgment, RetryTier.RETRY_60S);
+    }
+
+    /**
+     * Reprocessa o prefixo do lote já vencido e pausa a partição até o
+     * vencimento do primeiro registro pendente. O lote é de uma única
+     * partição, onde os registros de um nível chegam em ordem de timestamp
+     * (timestamp do envio ao nível), então o primeiro pendente é o que vence
+     * antes.
+     */
+    void reprocessar(List<ConsumerRecord<String, Object>> records, Acknowledgment acknowledgment, RetryTier tier) {
+        long agora = System.currentTimeMillis();
+        long atraso = tier.getAtraso().toMillis();
+
+        int vencidos = 0;
+        while (vencidos < records.size() && records.get(vencidos).timestamp() + atraso <= agora) {
+            vencidos++;
+        }
+
+        if (vencidos > 0) {
+            log.info("🔁 Reprocessando {} eventos do {}", vencidos, tier.getSufixo());
+            contador("kafka.retry.attempts", "Registros reprocessados a partir de um tópico de retry", tier)
+                    .increment(vencidos);
+            eventListener.processarLote(records.subList(0, vencidos), tier.getSufixo());
+        }
+
+        if (vencidos < records.size()) {
+            ConsumerRecord<String, Object> pendente = records.get(vencidos);
+            TopicPartition particao = new TopicPartition(pendente.topic(), pendente.partition());
+            long espera = pendente.timestamp() + atraso - agora;
+            log.debug("⏳ {} eventos de {} aguardando {} ms", records.size() - vencidos, particao, espera);
+            contador("kafka.retry.paused", "Pausas de partição aguardando o atraso do nível", tier).increment();
+            // Confirma os vencidos e volta ao primeiro pendente; só esta partição pausa
+            acknowledgment.nack(vencidos, Duration.ZERO);
+            pauseService.pausePartition(containerRegistry.getListenerContainer(tier.getSufixo()), particao,
+                    Duration.ofMillis(espera));
+            return;
+        }
+
+        acknowledgment.acknowledge();
+    }
+
+    private Counter contador(String nome, String descricao, RetryTier tier) {
+        return Counter.builder(nome)
+                .description(descricao)
+                .tag("tier", tier.getSufixo())
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,112 @@
+package br.com.grupo99.osservice.infrastructure.messaging;
+
+import br.com.grupo99.osservice.application.events.EventoRecebido;
+import br.com.grupo99.osservice.application.events.EventoRecebido.ExecucaoConcluida;
+import br.com.grupo99.osservice.application.events.EventoRecebido.ExecucaoFalhou;
+import br.com.grupo99.osservice.application.events.EventoRecebido.OrcamentoAprovado;
+import br.com.grupo99.osservice.application.events.EventoRecebido.OrcamentoRejeitado;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métricas do consumidor Kafka, por tópico e tipo de evento:
+ * - kafka.consumer.event.age: idade do evento ao chegar no listener (agora
+ *   menos o timestamp do registro)
+ * - kafka.consumer.latency: tempo de processamento de cada evento aplicado,
+ *   do início do lote até o commit da lane que o gravou
+ * - kafka.consumer.events.total / kafka.consumer.events.failed: eventos
+ *   aplicados e enviados à DLT
+ *
+ * Lag por partição e latência de commit vêm das métricas do próprio client
+ * Kafka (kafka.consumer.fetch.manager.records.lag,
+ * kafka.consumer.coordinator.commit.latency.*), registradas no KafkaConfig.
+ *
+ * O tipo do evento vem do record decodificado (conjunto fechado), então a
+ * cardinalidade das tags é limitada.
+ */
+@Component
+public class MetricasConsumo {
+
+    static final String DESCONHECIDO = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> idades = new ConcurrentHashMap<>();
+    private final Map<String, Timer> latencias = new ConcurrentHashMap<>();
+    private final Map<String, Counter> eventos = new ConcurrentHashMap<>();
+
+    public MetricasConsumo(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Idade do evento ao ser recebido pelo listener.
+     */
+    public void registrarRecebimento(ConsumerRecord<String, Object> record) {
+        String tipo = tipo(record);
+        long idade = Math.max(0, System.currentTimeMillis() - record.timestamp());
+        idades.computeIfAbsent(record.topic() + '|' + tipo, k -> Timer.builder("kafka.consumer.event.age")
+                .description("Tempo entre a publicação do evento e o recebimento pelo listener")
+                .tag("service", "os-service")
+                .tag("topic", record.topic())
+                .tag("eventType", tipo)
+                .publishPercentileHistogram(true)
+                .register(meterRegistry))
+                .record(idade, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Tempo de processamento de um evento aplicado: as lanes rodam em
+     * paralelo, então cada evento conta até o commit da própria lane.
+     */
+    public void registrarProcessamento(ConsumerRecord<String, Object> record, long inicioNanos, long fimNanos) {
+        String tipo = tipo(record);
+        latencias.computeIfAbsent(record.topic() + '|' + tipo, k -> Timer.builder("kafka.consumer.latency")
+                .description("Latência de processamento de eventos consumidos")
+                .tag("service", "os-service")
+                .tag("topic", record.topic())
+                .tag("eventType", tipo)
+                .publishPercentileHistogram(true)
+                .register(meterRegistry))
+                .record(Duration.ofNanos(fimNanos - inicioNanos));
+    }
+
+    public void contarSucesso(ConsumerRecord<String, Object> record) {
+        contar(record, "kafka.consumer.events.total", "success", "Total de eventos consumidos");
+    }
+
+    public void contarFalha(ConsumerRecord<String, Object> record) {
+        contar(record, "kafka.consumer.events.failed", "failed", "Total de eventos consumidos com erro");
+    }
+
+    private void contar(ConsumerRecord<String, Object> record, String nome, String status, String descricao) {
+        String tipo = tipo(record);
+        eventos.computeIfAbsent(nome + '|' + record.topic() + '|' + tipo, k -> Counter.builder(nome)
+                .description(descricao)
+                .tag("service", "os-service")
+                .tag("topic", record.topic())
+                .tag("eventType", tipo)
+                .tag("status", status)
+                .register(meterRegistry))
+                .increment();
+    }
+
+    static String tipo(ConsumerRecord<String, Object> record) {
+        if (!(record.value() instanceof EventoRecebido evento)) {
+            return DESCONHECIDO;
+        }
+        return switch (evento) {
+            case OrcamentoAprovado aprovado -> "ORCAMENTO_APROVADO";
+            case OrcamentoRejeitado rejeitado -> "ORCAMENTO_REJEITADO";
+            case ExecucaoConcluida concluida -> "EXECUCAO_CONCLUIDA";
+            case ExecucaoFalhou falhou -> "EXECUCAO_FALHOU";
+        };
+    }
+}
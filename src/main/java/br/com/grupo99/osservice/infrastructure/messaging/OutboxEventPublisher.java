@@ -0,0 +1,99 @@
+package br.com.grupo99.osservice.infrastructure.messaging;
+
+import br.com.grupo99.osservice.application.events.OSCanceladaEvent;
+import br.com.grupo99.osservice.application.events.OSCriadaEvent;
+import br.com.grupo99.osservice.application.events.StatusMudadoEvent;
+import br.com.grupo99.osservice.infrastructure.config.KafkaConfig;
+import br.com.grupo99.osservice.infrastructure.persistence.EventoOutbox;
+import br.com.grupo99.osservice.infrastructure.persistence.JpaEventoOutboxRepository;
+import br.com.grupo99.osservice.infrastructure.serialization.OsServiceJacksonModule;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Publicador de eventos da Saga pelo outbox transacional.
+ *
+ * Em vez de chamar o broker, grava o evento na tabela outbox na transação
+ * corrente (obrigatória): a mudança da OS e o evento são confirmados juntos
+ * ou nenhum dos dois. O {@link OutboxRelay} publica depois, em lote. O
+ * payload e os headers são os mesmos que o {@link KafkaEventPublisher}
+ * enviaria.
+ */
+@Slf4j
+@Service
+@Primary
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxEventPublisher implements EventPublisherPort {
+
+    private static final ObjectMapper OBJECT_MAPPER = OsServiceJacksonModule.kafkaObjectMapper();
+
+    private final JpaEventoOutboxRepository repository;
+
+    public OutboxEventPublisher(JpaEventoOutboxRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public void publishOSCriada(OSCriadaEvent event) {
+        registrar(event.getOsId(), "OS_CRIADA", event, Map.of(
+                "timestamp", String.valueOf(event.getTimestamp())));
+    }
+
+    @Override
+    public void publishStatusMudado(StatusMudadoEvent event) {
+        registrar(event.getOsId(), "STATUS_MUDADO", event, Map.of(
+                "statusAnterior", event.getStatusAnterior(),
+                "statusNovo", event.getStatusNovo()));
+    }
+
+    @Override
+    public void publishOSCancelada(OSCanceladaEvent event) {
+        salvar(compensacao(event, UUID.randomUUID()));
+    }
+
+    /**
+     * Linha do outbox para uma compensação, com o eventoId que irá no header
+     * eventId.
+     */
+    static EventoOutbox compensacao(OSCanceladaEvent event, UUID eventoId) {
+        return evento(eventoId, event.getOsId(), "OS_CANCELADA", event, Map.of(
+                "motivo", event.getMotivo(),
+                "etapaFalha", event.getEtapaFalha()));
+    }
+
+    private void registrar(UUID osId, String eventType, Object event, Map<String, String> extras) {
+        salvar(evento(UUID.randomUUID(), osId, eventType, event, extras));
+    }
+
+    private void salvar(EventoOutbox evento) {
+        repository.save(evento);
+        log.debug("📝 Evento {} da OS {} gravado no outbox", evento.getEventType(), evento.getAgregadoId());
+    }
+
+    private static EventoOutbox evento(UUID eventoId, UUID osId, String eventType, Object event,
+            Map<String, String> extras) {
+        Map<String, String> cabecalhos = new LinkedHashMap<>();
+        cabecalhos.put("eventType", eventType);
+        cabecalhos.put("osId", osId.toString());
+        cabecalhos.putAll(extras);
+        // Mesmo header de tipo que o JsonSerializer adiciona
+        cabecalhos.put(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, event.getClass().getName());
+
+        try {
+            return new EventoOutbox(eventoId, osId, KafkaConfig.TOPIC_OS_EVENTS, eventType,
+                    OBJECT_MAPPER.writeValueAsString(event), OBJECT_MAPPER.writeValueAsString(cabecalhos));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Evento " + eventType + " não serializável", e);
+        }
+    }
+}
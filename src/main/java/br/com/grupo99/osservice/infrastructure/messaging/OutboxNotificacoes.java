@@ -0,0 +1,125 @@
+package br.com.grupo99.osservice.infrastructure.messaging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Acorda o {@link OutboxRelay} pelo LISTEN/NOTIFY do Postgres.
+ *
+ * O trigger da tabela outbox (V6) notifica o canal {@value #CANAL} no commit
+ * de cada inserção. Uma thread dedicada mantém uma conexão própria (fora do
+ * pool) bloqueada em {@link PGConnection#getNotifications(int)} e drena o
+ * outbox assim que a notificação chega; ociosa, a escuta não envia nenhuma
+ * consulta ao banco. Se a conexão cair, o relay volta à varredura agendada
+ * até a reconexão.
+ *
+ * Só é iniciado quando o datasource é Postgres.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "outbox.relay", name = { "enabled", "listen.enabled" }, havingValue = "true", matchIfMissing = true)
+public class OutboxNotificacoes implements SmartLifecycle {
+
+    static final String CANAL = "outbox_pendente";
+
+    private final OutboxRelay relay;
+    private final DataSourceProperties dataSourceProperties;
+    private final int esperaMs;
+    private final long reconexaoMs;
+    private volatile boolean rodando;
+    private Thread thread;
+
+    public OutboxNotificacoes(
+            OutboxRelay relay,
+            DataSourceProperties dataSourceProperties,
+            @Value("${outbox.relay.listen.wait-ms:1000}") int esperaMs,
+            @Value("${outbox.relay.listen.reconnect-ms:5000}") long reconexaoMs) {
+        this.relay = relay;
+        this.dataSourceProperties = dataSourceProperties;
+        this.esperaMs = esperaMs;
+        this.reconexaoMs = reconexaoMs;
+    }
+
+    @Override
+    public void start() {
+        String url = dataSourceProperties.determineUrl();
+        if (url == null || !url.startsWith("jdbc:postgresql:")) {
+            log.info("ℹ️ Datasource não é Postgres: relay do outbox apenas com varredura agendada");
+            return;
+        }
+        rodando = true;
+        thread = Thread.ofPlatform().name("outbox-listen").daemon().start(() -> executar(url));
+    }
+
+    @Override
+    public void stop() {
+        rodando = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return rodando;
+    }
+
+    private void executar(String url) {
+        while (rodando) {
+            try (Connection conexao = DriverManager.getConnection(url,
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                escutar(conexao);
+            } catch (SQLException e) {
+                relay.notificacoesAtivas(false);
+                if (rodando) {
+                    log.warn("⚠️ Escuta do outbox desconectada ({}); reconectando em {} ms", e.getMessage(),
+                            reconexaoMs);
+                    dormir();
+                }
+            }
+        }
+        relay.notificacoesAtivas(false);
+    }
+
+    /**
+     * Escuta o canal até {@link #stop()} ou falha da conexão.
+     */
+    void escutar(Connection conexao) throws SQLException {
+        PGConnection pg = conexao.unwrap(PGConnection.class);
+        try (Statement statement = conexao.createStatement()) {
+            statement.execute("LISTEN " + CANAL);
+        }
+        relay.notificacoesAtivas(true);
+        log.info("👂 Escutando {}: relay do outbox acionado por notificação", CANAL);
+
+        // Eventos gravados antes do LISTEN não geram notificação
+        relay.drenar();
+        while (rodando) {
+            // Bloqueia no socket (sem consulta) até a notificação ou o timeout
+            PGNotification[] notificacoes = pg.getNotifications(esperaMs);
+            if (notificacoes != null && notificacoes.length > 0) {
+                relay.drenar();
+            }
+        }
+    }
+
+    private void dormir() {
+        try {
+            Thread.sleep(reconexaoMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rodando = false;
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package br.com.grupo99.osservice.infrastructure.messaging;
+
+import br.com.grupo99.osservice.infrastructure.persistence.EventoOutbox;
+import br.com.grupo99.osservice.infrastructure.persistence.JpaEventoOutboxRepository;
+import br.com.grupo99.osservice.infrastructure.serialization.EventosBinarios;
+import br.com.grupo99.osservice.infrastructure.serialization.OsServiceJacksonModule;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Relay do outbox transacional: publica no Kafka os eventos gravados pelo
+ * {@link OutboxEventPublisher}.
+ *
+ * Cada ciclo reserva um lote de pendentes numa transação curta
+ * ({@code FOR UPDATE SKIP LOCKED} e {@code reservado_ate}), envia todos fora
+ * dela sem esperar um a um (os envios seguem em pipeline no producer),
+ * aguarda as confirmações e, em outra transação curta, marca os publicados
+ * com um único UPDATE e libera os demais. Nenhuma conexão nem trava fica
+ * presa enquanto o broker responde. Eventos sem confirmação voltam no
+ * próximo ciclo (at-least-once; os consumidores deduplicam pelo header
+ * eventId). Com vários pods, cada um drena linhas diferentes; se um pod cai
+ * no meio do envio, a reserva vence em duas vezes
+ * {@code outbox.relay.send-timeout-ms} e as linhas voltam a ser elegíveis.
+ *
+ * A ordem por OS é garantida na consulta: cada lote leva só o pendente mais
+ * antigo de cada agregado, e o seguinte só é elegível depois que o anterior
+ * for publicado.
+ *
+ * No Postgres o {@link OutboxNotificacoes} acorda o relay logo após o commit
+ * de cada inserção (LISTEN/NOTIFY); enquanto a escuta estiver ativa, a
+ * varredura agendada só consulta o banco a cada
+ * {@code outbox.relay.fallback-interval-ms}.
+ *
+ * O payload é gravado em JSON; com {@code kafka-producer.encoding=binary},
+ * os eventos com schema são recodificados no formato binário no envio.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final TypeReference<Map<String, String>> CABECALHOS = new TypeReference<>() {
+    };
+
+    private final JpaEventoOutboxRepository repository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper eventoMapper = OsServiceJacksonModule.kafkaObjectMapper();
+    private final EventosBinarios binarios;
+    private final Counter publicados;
+    private final Counter falhas;
+    private final int tamanhoLote;
+    private final long timeoutEnvioMs;
+    private final long retencaoHoras;
+    private final long intervaloFallbackMs;
+    private final ReentrantLock drenando = new ReentrantLock();
+    private final AtomicBoolean solicitado = new AtomicBoolean();
+    // Drenagens pedidas após commits: no máximo uma na fila, as demais coalescem
+    private final ThreadPoolExecutor acordar = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1), r -> {
+                Thread thread = new Thread(r, "outbox-relay");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.DiscardPolicy());
+    private volatile boolean notificacoesAtivas;
+    private volatile long ultimaDrenagem;
+
+    public OutboxRelay(
+            JpaEventoOutboxRepository repository,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.relay.batch-size:500}") int tamanhoLote,
+            @Value("${outbox.relay.send-timeout-ms:10000}") long timeoutEnvioMs,
+            @Value("${outbox.retention-hours:24}") long retencaoHoras,
+            @Value("${outbox.relay.fallback-interval-ms:30000}") long intervaloFallbackMs,
+            @Value("${kafka-producer.encoding:json}") String codificacao) {
+        this.repository = repository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tamanhoLote = tamanhoLote;
+        this.timeoutEnvioMs = timeoutEnvioMs;
+        this.retencaoHoras = retencaoHoras;
+        this.intervaloFallbackMs = intervaloFallbackMs;
+        this.binarios = "binary".equalsIgnoreCase(codificacao) ? EventosBinarios.padrao() : null;
+        this.publicados = Counter.builder("outbox.relay.published")
+                .description("Eventos do outbox publicados no Kafka")
+                .register(meterRegistry);
+        this.falhas = Counter.builder("outbox.relay.failed")
+                .description("Eventos do outbox sem confirmação do broker (republicados no próximo ciclo)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Varredura agendada. Com a escuta LISTEN ativa, vira o fallback lento:
+     * só consulta o banco se nenhuma drenagem ocorreu no intervalo de
+     * fallback (notificação perdida, por exemplo).
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+    public void varrer() {
+        if (notificacoesAtivas && System.currentTimeMillis() - ultimaDrenagem < intervaloFallbackMs) {
+            return;
+        }
+        drenar();
+    }
+
+    /**
+     * Drena o outbox enquanto os lotes publicarem algo. Pedidos que chegam
+     * durante uma drenagem em andamento (notificação e varredura ao mesmo
+     * tempo) não abrem outra: a drenagem corrente repete o ciclo.
+     */
+    public void drenar() {
+        solicitado.set(true);
+        while (solicitado.get() && drenando.tryLock()) {
+            try {
+                solicitado.set(false);
+                // Um evento por OS a cada lote: segue enquanto houver progresso
+                int publicadosNoLote;
+                do {
+                    publicadosNoLote = publicarLote();
+                } while (publicadosNoLote > 0);
+            } catch (RuntimeException e) {
+                log.error("❌ Falha no relay do outbox: {}", e.getMessage());
+            } finally {
+                ultimaDrenagem = System.currentTimeMillis();
+                drenando.unlock();
+            }
+        }
+    }
+
+    /**
+     * Pede uma drenagem sem bloquear quem chama (após o commit de eventos).
+     * Com a escuta LISTEN ativa não faz nada: o trigger já acorda o relay.
+     */
+    public void solicitarDrenagem() {
+        if (!notificacoesAtivas) {
+            acordar.execute(this::drenar);
+        }
+    }
+
+    @PreDestroy
+    void encerrar() {
+        acordar.shutdownNow();
+    }
+
+    /**
+     * Informa se a escuta LISTEN/NOTIFY está conectada.
+     */
+    void notificacoesAtivas(boolean ativas) {
+        this.notificacoesAtivas = ativas;
+    }
+
+    /**
+     * Publica um lote de pendentes: reserva, envia e marca, sem transação
+     * aberta durante o envio.
+     *
+     * @return quantos eventos foram publicados (e marcados)
+     */
+    int publicarLote() {
+        LocalDateTime agora = LocalDateTime.now();
+        List<EventoOutbox> pendentes = transactionTemplate.execute(status -> {
+            List<EventoOutbox> lote = repository.findPendentesParaPublicar(tamanhoLote, agora);
+            if (!lote.isEmpty()) {
+                repository.reservar(ids(lote), agora.plus(Duration.ofMillis(2 * timeoutEnvioMs)));
+            }
+            return lote;
+        });
+        if (pendentes == null || pendentes.isEmpty()) {
+            return 0;
+        }
+
+        // Todos os envios antes de esperar qualquer confirmação
+        List<CompletableFuture<?>> envios = new ArrayList<>(pendentes.size());
+        for (EventoOutbox evento : pendentes) {
+            envios.add(enviar(evento));
+        }
+
+        long prazo = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutEnvioMs);
+        List<Long> confirmados = new ArrayList<>(pendentes.size());
+        List<Long> naoConfirmados = new ArrayList<>();
+        for (int i = 0; i < pendentes.size(); i++) {
+            EventoOutbox evento = pendentes.get(i);
+            try {
+                envios.get(i).get(Math.max(0, prazo - System.nanoTime()), TimeUnit.NANOSECONDS);
+                confirmados.add(evento.getId());
+            } catch (Exception e) {
+                naoConfirmados.add(evento.getId());
+                falhas.increment();
+                log.warn("⚠️ Evento {} do outbox não confirmado: {}", evento.getEventoId(), e.getMessage());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!confirmados.isEmpty()) {
+                repository.marcarPublicados(confirmados, LocalDateTime.now());
+            }
+            if (!naoConfirmados.isEmpty()) {
+                repository.liberar(naoConfirmados);
+            }
+        });
+        publicados.increment(confirmados.size());
+        log.debug("📤 Outbox: {} de {} eventos publicados", confirmados.size(), pendentes.size());
+        return confirmados.size();
+    }
+
+    private static List<Long> ids(List<EventoOutbox> eventos) {
+        return eventos.stream().map(EventoOutbox::getId).toList();
+    }
+
+    private CompletableFuture<?> enviar(EventoOutbox evento) {
+        try {
+            Map<String, String> cabecalhos = evento.getCabecalhos() != null
+                    ? objectMapper.readValue(evento.getCabecalhos(), CABECALHOS)
+                    : Map.of();
+            byte[] payload = payload(evento, cabecalhos);
+            RecordHeaders headers = new RecordHeaders();
+            headers.add(InboxEventos.HEADER_EVENT_ID, evento.getEventoId().toString().getBytes(StandardCharsets.UTF_8));
+            cabecalhos.forEach((nome, valor) -> {
+                // O tipo do payload binário vem do schema, não do __TypeId__
+                if (!(EventosBinarios.binario(payload) && AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME.equals(nome))) {
+                    headers.add(nome, valor.getBytes(StandardCharsets.UTF_8));
+                }
+            });
+            // byte[]: o payload já está no formato do tópico
+            return kafkaTemplate.send(new ProducerRecord<>(evento.getTopico(), null,
+                    evento.getAgregadoId().toString(), payload, headers));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private byte[] payload(EventoOutbox evento, Map<String, String> cabecalhos) throws Exception {
+        Class<?> tipo = binarios != null
+                ? binarios.tipo(cabecalhos.get(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME))
+                : null;
+        if (tipo == null) {
+            return evento.getPayload().getBytes(StandardCharsets.UTF_8);
+        }
+        return binarios.codificar(eventoMapper.readValue(evento.getPayload(), tipo));
+    }
+
+    /**
+     * Remove as linhas já publicadas há mais de {@code outbox.retention-hours}.
+     */
+    @Scheduled(fixedDelayString = "${outbox.purge-interval-ms:3600000}", initialDelayString = "${outbox.purge-interval-ms:3600000}")
+    public void expurgar() {
+        Integer removidos = transactionTemplate.execute(status -> repository.expurgarPublicadosAntesDe(
+                LocalDateTime.now().minusHours(retencaoHoras)));
+        if (removidos != null && removidos > 0) {
+            log.info("🧹 Outbox: {} eventos publicados expurgados", removidos);
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package br.com.grupo99.osservice.infrastructure.messaging;
+
+import br.com.grupo99.osservice.application.dto.ReprocessamentoDltRequestDTO;
+import br.com.grupo99.osservice.application.dto.ReprocessamentoDltResponseDTO;
+import br.com.grupo99.osservice.infrastructure.config.KafkaConfig;
+import br.com.grupo99.osservice.infrastructure.serialization.ChaveUuidDeserializer;
+import br.com.grupo99.osservice.infrastructure.serialization.EventoRecebidoDeserializer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Reprocessamento (replay) das Dead Letter Topics depois da correção de um
+ * bug.
+ *
+ * Lê a DLT com um consumidor próprio, sem consumer group (assign), do início
+ * ou do offset correspondente a {@code de} até os offsets finais do momento
+ * em que o reprocessamento começou: registros que voltarem para a DLT não são
+ * lidos de novo. Os registros selecionados (eventType, chave, intervalo de
+ * tempo) voltam ao tópico de origem com o payload original e sem os headers
+ * de DLT, passando pelo fluxo normal do consumidor (lanes, inbox, retry).
+ *
+ * O envio é limitado a {@code taxa} registros/s para não competir com o
+ * tráfego ao vivo; um reprocessamento por vez, com progresso consultável e
+ * cancelamento. Em dry-run, apenas conta o que seria reenviado.
+ */
+@Slf4j
+@Service
+public class ReprocessamentoDlt {
+
+    public static final Set<String> TOPICOS = Set.of(
+            KafkaConfig.DLT_OS_EVENTS, KafkaConfig.DLT_BILLING_EVENTS, KafkaConfig.DLT_EXECUTION_EVENTS);
+
+    private static final String SUFIXO_DLT = "." + RetryTier.DLT;
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+
+    private final Supplier<Consumer<String, byte[]>> consumerFactory;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+    private final double taxaMaxima;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "dlt-replay");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicReference<Execucao> atual = new AtomicReference<>();
+
+    @Autowired
+    public ReprocessamentoDlt(
+            ConsumerFactory<String, Object> consumerFactory,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${dlt-replay.max-rate:50}") double taxaMaxima) {
+        this(() -> criarConsumer(consumerFactory), kafkaTemplate, meterRegistry, taxaMaxima);
+    }
+
+    ReprocessamentoDlt(
+            Supplier<Consumer<String, byte[]>> consumerFactory,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            MeterRegistry meterRegistry,
+            double taxaMaxima) {
+        this.consumerFactory = consumerFactory;
+        this.kafkaTemplate = kafkaTemplate;
+        this.meterRegistry = meterRegistry;
+        this.taxaMaxima = taxaMaxima;
+    }
+
+    /**
+     * Consumidor de bytes (o payload é reenviado como está), com as mesmas
+     * configurações de conexão do consumidor principal e sem consumer group.
+     * Chaves UUID binárias voltam a texto e o producer as codifica de novo.
+     */
+    private static Consumer<String, byte[]> criarConsumer(ConsumerFactory<String, Object> consumerFactory) {
+        Map<String, Object> props = new HashMap<>(consumerFactory.getConfigurationProperties());
+        props.remove(ConsumerConfig.GROUP_ID_CONFIG);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.CLIENT_ID_CONFIG, "os-service-dlt-replay");
+        return new KafkaConsumer<>(props, new ChaveUuidDeserializer(), new ByteArrayDeserializer());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        cancelar();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Inicia o reprocessamento da DLT em background.
+     *
+     * @return o progresso inicial, ou vazio se já houver um em andamento
+     */
+    public Optional<ReprocessamentoDltResponseDTO> iniciar(String topico,
+            ReprocessamentoDltRequestDTO filtro) {
+        if (!TOPICOS.contains(topico)) {
+            throw new IllegalArgumentException("Tópico não é uma DLT: " + topico);
+        }
+        double taxa = filtro.getTaxa() != null && filtro.getTaxa() > 0
+                ? Math.min(filtro.getTaxa(), taxaMaxima)
+                : taxaMaxima;
+        Execucao execucao = new Execucao(topico, filtro, taxa);
+
+        Execucao anterior = atual.get();
+        if ((anterior != null && !anterior.finalizada()) || !atual.compareAndSet(anterior, execucao)) {
+            return Optional.empty();
+        }
+        log.info("♻️ Reprocessamento {} da {} iniciado. Taxa: {}/s, Dry-run: {}",
+                execucao.id, topico, taxa, filtro.isDryRun());
+        executor.execute(() -> executar(execucao));
+        return Optional.of(execucao.progresso());
+    }
+
+    /**
+     * Progresso do reprocessamento atual (ou do último).
+     */
+    public Optional<ReprocessamentoDltResponseDTO> progresso() {
+        return Optional.ofNullable(atual.get()).map(Execucao::progresso);
+    }
+
+    /**
+     * Pede o cancelamento; os registros já reenviados não são desfeitos.
+     */
+    public Optional<ReprocessamentoDltResponseDTO> cancelar() {
+        Execucao execucao = atual.get();
+        if (execucao == null) {
+            return Optional.empty();
+        }
+        execucao.cancelado = true;
+        return Optional.of(execucao.progresso());
+    }
+
+    void executar(Execucao execucao) {
+        try (Consumer<String, byte[]> consumer = consumerFactory.get()) {
+            List<TopicPartition> particoes = consumer.partitionsFor(execucao.topico).stream()
+                    .map(info -> new TopicPartition(info.topic(), info.partition()))
+                    .toList();
+            consumer.assign(particoes);
+            Map<TopicPartition, Long> fim = new HashMap<>(consumer.endOffsets(particoes));
+            posicionar(consumer, particoes, execucao.filtro.getDe());
+
+            List<CompletableFuture<?>> envios = new ArrayList<>();
+            long intervaloNanos = (long) (1_000_000_000L / execucao.taxa);
+            long proximoEnvio = System.nanoTime();
+
+            fim.keySet().removeIf(tp -> consumer.position(tp) >= fim.get(tp));
+            while (!fim.isEmpty() && !execucao.cancelado) {
+                for (ConsumerRecord<String, byte[]> record : consumer.poll(POLL_TIMEOUT)) {
+                    Long limite = fim.get(new TopicPartition(record.topic(), record.partition()));
+                    if (limite == null || record.offset() >= limite || execucao.cancelado) {
+                        continue;
+                    }
+                    execucao.lidos.incrementAndGet();
+                    if (!selecionado(record, execucao.filtro)) {
+                        continue;
+                    }
+                    execucao.selecionados.incrementAndGet();
+                    if (execucao.filtro.isDryRun()) {
+                        continue;
+                    }
+
+                    // Ritmo fixo: no máximo taxa registros/s
+                    long espera = proximoEnvio - System.nanoTime();
+                    if (espera > 0) {
+                        LockSupport.parkNanos(espera);
+                    }
+                    proximoEnvio = Math.max(proximoEnvio, System.nanoTime()) + intervaloNanos;
+                    envios.add(reenviar(record, execucao));
+                }
+                fim.keySet().removeIf(tp -> consumer.position(tp) >= fim.get(tp));
+                envios.removeIf(CompletableFuture::isDone);
+            }
+
+            CompletableFuture.allOf(envios.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+            execucao.concluir(execucao.cancelado ? Status.CANCELADO : Status.CONCLUIDO, null);
+        } catch (Exception e) {
+            log.error("❌ Falha no reprocessamento {} da {}: {}", execucao.id, execucao.topico, e.getMessage());
+            execucao.concluir(Status.FALHOU, e.getMessage());
+        }
+        log.info("♻️ Reprocessamento {} da {} {}: {} lidos, {} selecionados, {} reenviados, {} falhas",
+                execucao.id, execucao.topico, execucao.status, execucao.lidos, execucao.selecionados,
+                execucao.reenviados, execucao.falhas);
+    }
+
+    private static void posicionar(Consumer<String, byte[]> consumer, List<TopicPartition> particoes, Instant de) {
+        if (de == null) {
+            consumer.seekToBeginning(particoes);
+            return;
+        }
+        Map<TopicPartition, Long> busca = new HashMap<>();
+        particoes.forEach(tp -> busca.put(tp, de.toEpochMilli()));
+        Map<TopicPartition, OffsetAndTimestamp> offsets = consumer.offsetsForTimes(busca);
+        for (TopicPartition tp : particoes) {
+            OffsetAndTimestamp offset = offsets.get(tp);
+            if (offset != null) {
+                consumer.seek(tp, offset.offset());
+            } else {
+                // Nenhum registro a partir de "de" nesta partição
+                consumer.seekToEnd(List.of(tp));
+            }
+        }
+    }
+
+    private static boolean selecionado(ConsumerRecord<String, byte[]> record, ReprocessamentoDltRequestDTO filtro) {
+        if (filtro.getChave() != null && !filtro.getChave().equals(record.key())) {
+            return false;
+        }
+        if (filtro.getAte() != null && record.timestamp() > filtro.getAte().toEpochMilli()) {
+            return false;
+        }
+        if (filtro.getEventType() != null) {
+            Header tipo = record.headers().lastHeader(EventoRecebidoDeserializer.HEADER_EVENT_TYPE);
+            return tipo != null && filtro.getEventType().equals(new String(tipo.value(), StandardCharsets.UTF_8));
+        }
+        return true;
+    }
+
+    /**
+     * Reenvia ao tópico de origem com o payload original, sem os headers
+     * adicionados na DLT (kafka_dlt-* e os de diagnóstico dlt*).
+     */
+    private CompletableFuture<?> reenviar(ConsumerRecord<String, byte[]> record, Execucao execucao) {
+        RecordHeaders headers = new RecordHeaders();
+        for (Header header : record.headers()) {
+            if (!header.key().startsWith("kafka_dlt-") && !header.key().startsWith("dlt")) {
+                headers.add(header);
+            }
+        }
+        ProducerRecord<String, Object> reenvio = new ProducerRecord<>(
+                execucao.destino, null, record.key(), record.value(), headers);
+        return kafkaTemplate.send(reenvio).whenComplete((resultado, erro) -> {
+            if (erro != null) {
+                execucao.falhas.incrementAndGet();
+                log.warn("⚠️ Falha ao reenviar offset {} da partição {} de {}: {}",
+                        record.offset(), record.partition(), execucao.topico, erro.getMessage());
+                return;
+            }
+            execucao.reenviados.incrementAndGet();
+            Counter.builder("kafka.dlt.replayed")
+                    .description("Registros reenviados da DLT para o tópico de origem")
+                    .tag("topic", execucao.destino)
+                    .register(meterRegistry)
+                    .increment();
+        });
+    }
+
+    enum Status {
+        EXECUTANDO, CONCLUIDO, CANCELADO, FALHOU
+    }
+
+    /**
+     * Estado de um reprocessamento, atualizado pelo thread de replay e lido
+     * pelo endpoint de progresso.
+     */
+    static final class Execucao {
+
+        private final UUID id = UUID.randomUUID();
+        private final String topico;
+        private final String destino;
+        private final ReprocessamentoDltRequestDTO filtro;
+        private final double taxa;
+        private final Instant iniciadoEm = Instant.now();
+        private final AtomicLong lidos = new AtomicLong();
+        private final AtomicLong selecionados = new AtomicLong();
+        private final AtomicLong reenviados = new AtomicLong();
+        private final AtomicLong falhas = new AtomicLong();
+        private volatile boolean cancelado;
+        private volatile Status status = Status.EXECUTANDO;
+        private volatile Instant concluidoEm;
+        private volatile String erro;
+
+        Execucao(String topico, ReprocessamentoDltRequestDTO filtro, double taxa) {
+            this.topico = topico;
+            this.destino = topico.substring(0, topico.length() - SUFIXO_DLT.length());
+            this.filtro = filtro;
+            this.taxa = taxa;
+        }
+
+        boolean finalizada() {
+            return status != Status.EXECUTANDO;
+        }
+
+        void concluir(Status status, String erro) {
+            this.erro = erro;
+            this.concluidoEm = Instant.now();
+            this.status = status;
+        }
+
+        ReprocessamentoDltResponseDTO progresso() {
+            return new ReprocessamentoDltResponseDTO(id, topico, destino, status.name(), filtro.isDryRun(), taxa,
+                    lidos.get(), selecionados.get(), reenviados.get(), falhas.get(), iniciadoEm, concluidoEm, erro);
+        }
+    }
+}
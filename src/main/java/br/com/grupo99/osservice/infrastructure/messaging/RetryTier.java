@@ -0,0 +1,77 @@
+package br.com.grupo99.osservice.infrastructure.messaging;
+
+import java.time.Duration;
+
+/**
+ * Níveis de retry não bloqueante: o registro que falha no tópico de origem
+ * segue para {@code <origem>.retry-1s}, depois {@code .retry-10s},
+ * {@code .retry-60s} e, por fim, para a DLT ({@code <origem>.DLT}).
+ *
+ * Cada nível só reprocessa o registro depois do atraso, contado a partir do
+ * timestamp de publicação no tópico de retry.
+ */
+public enum RetryTier {
+
+    RETRY_1S("retry-1s", Duration.ofSeconds(1)),
+    RETRY_10S("retry-10s", Duration.ofSeconds(10)),
+    RETRY_60S("retry-60s", Duration.ofSeconds(60));
+
+    public static final String DLT = "DLT";
+
+    private final String sufixo;
+    private final Duration atraso;
+
+    RetryTier(String sufixo, Duration atraso) {
+        this.sufixo = sufixo;
+        this.atraso = atraso;
+    }
+
+    public String getSufixo() {
+        return sufixo;
+    }
+
+    public Duration getAtraso() {
+        return atraso;
+    }
+
+    /**
+     * Nome do tópico deste nível para o tópico de origem.
+     */
+    public String topico(String origem) {
+        return origem + "." + sufixo;
+    }
+
+    /**
+     * Nível do tópico, ou null se não for um tópico de retry.
+     */
+    public static RetryTier de(String topico) {
+        for (RetryTier tier : values()) {
+            if (topico.endsWith("." + tier.sufixo)) {
+                return tier;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Tópico de origem (sem o sufixo de retry).
+     */
+    public static String origem(String topico) {
+        RetryTier tier = de(topico);
+        return tier != null ? topico.substring(0, topico.length() - tier.sufixo.length() - 1) : topico;
+    }
+
+    /**
+     * Próximo destino de um registro que falhou em {@code topico}: o nível
+     * seguinte, ou a DLT depois do último nível (ou se a falha não vale
+     * retry).
+     */
+    public static String proximoDestino(String topico, boolean retentavel) {
+        String origem = origem(topico);
+        RetryTier atual = de(topico);
+        if (!retentavel || atual == RETRY_60S) {
+            return origem + "." + DLT;
+        }
+        return atual == null ? RETRY_1S.topico(origem) : values()[atual.ordinal() + 1].topico(origem);
+    }
+}
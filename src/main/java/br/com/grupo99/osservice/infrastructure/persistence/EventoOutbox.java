@@ -0,0 +1,76 @@
+package br.com.grupo99.osservice.infrastructure.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Evento pendente de publicação (transactional outbox).
+ *
+ * O id sequencial define a ordem de publicação de cada agregado;
+ * {@code eventoId} vai no header eventId para que os consumidores descartem
+ * reentregas.
+ */
+@Entity
+@Table(name = "outbox")
+@Getter
+@NoArgsConstructor
+public class EventoOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "evento_id", nullable = false, unique = true)
+    private UUID eventoId;
+
+    @Column(name = "agregado_id", nullable = false)
+    private UUID agregadoId;
+
+    @Column(nullable = false, length = 100)
+    private String topico;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(columnDefinition = "TEXT")
+    private String cabecalhos;
+
+    @Column(name = "criado_em", nullable = false)
+    private LocalDateTime criadoEm;
+
+    @Column(name = "publicado_em")
+    private LocalDateTime publicadoEm;
+
+    @Column(name = "reservado_ate")
+    private LocalDateTime reservadoAte;
+
+    public EventoOutbox(UUID agregadoId, String topico, String eventType, String payload, String cabecalhos) {
+        this(UUID.randomUUID(), agregadoId, topico, eventType, payload, cabecalhos);
+    }
+
+    /**
+     * Com um eventoId definido por quem grava (enviado no header eventId).
+     */
+    public EventoOutbox(UUID eventoId, UUID agregadoId, String topico, String eventType, String payload,
+            String cabecalhos) {
+        this.eventoId = eventoId;
+        this.agregadoId = agregadoId;
+        this.topico = topico;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.cabecalhos = cabecalhos;
+        this.criadoEm = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.grupo99.osservice.infrastructure.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento Kafka já aplicado (inbox do consumidor).
+ *
+ * Implementa {@link Persistable} para que o save seja sempre um INSERT (em
+ * JDBC batch), sem o SELECT que o merge faria para uma chave atribuída.
+ */
+@Entity
+@Table(name = "evento_processado")
+@Getter
+@NoArgsConstructor
+public class EventoProcessado implements Persistable<String> {
+
+    @Id
+    @Column(length = 200)
+    private String chave;
+
+    @Column(nullable = false, length = 100)
+    private String topico;
+
+    @Column(name = "processado_em", nullable = false)
+    private LocalDateTime processadoEm;
+
+    public EventoProcessado(String chave, String topico) {
+        this.chave = chave;
+        this.topico = topico;
+        this.processadoEm = LocalDateTime.now();
+    }
+
+    @Override
+    public String getId() {
+        return chave;
+    }
+
+    @Override
+    @Transient
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.grupo99.osservice.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JpaEventoOutboxRepository extends JpaRepository<EventoOutbox, Long> {
+
+    /**
+     * Próximo lote de pendentes sem reserva válida, travado até o fim da
+     * transação. Só entra o pendente mais antigo de cada agregado: o evento
+     * seguinte de uma OS espera o anterior ser publicado, mesmo que esteja
+     * reservado por outro pod. SKIP LOCKED pula as linhas travadas por outro
+     * relay que está reservando seu lote.
+     */
+    @Query(value = """
+            SELECT * FROM outbox o
+            WHERE o.publicado_em IS NULL
+              AND (o.reservado_ate IS NULL OR o.reservado_ate < :agora)
+              AND o.id = (SELECT MIN(p.id) FROM outbox p
+                          WHERE p.agregado_id = o.agregado_id AND p.publicado_em IS NULL)
+            ORDER BY o.id
+            LIMIT :limite
+            FOR UPDATE SKIP LOCKED""", nativeQuery = true)
+    List<EventoOutbox> findPendentesParaPublicar(@Param("limite") int limite, @Param("agora") LocalDateTime agora);
+
+    /**
+     * Reserva o lote para envio; outro relay só o pega depois de {@code ate}.
+     */
+    @Modifying
+    @Query("UPDATE EventoOutbox e SET e.reservadoAte = :ate WHERE e.id IN :ids")
+    int reservar(@Param("ids") Collection<Long> ids, @Param("ate") LocalDateTime ate);
+
+    /**
+     * Libera as reservas de eventos sem confirmação, para o próximo ciclo.
+     */
+    @Modifying
+    @Query("UPDATE EventoOutbox e SET e.reservadoAte = NULL WHERE e.id IN :ids")
+    int liberar(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Marca o lote publicado com um único UPDATE.
+     */
+    @Modifying
+    @Query("UPDATE EventoOutbox e SET e.publicadoEm = :agora WHERE e.id IN :ids")
+    int marcarPublicados(@Param("ids") Collection<Long> ids, @Param("agora") LocalDateTime agora);
+
+    @Modifying
+    @Query("DELETE FROM EventoOutbox e WHERE e.publicadoEm < :limite")
+    int expurgarPublicadosAntesDe(@Param("limite") LocalDateTime limite);
+}
@@ -0,0 +1,26 @@
+package br.com.grupo99.osservice.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JpaEventoProcessadoRepository extends JpaRepository<EventoProcessado, String> {
+
+    /**
+     * Chaves, dentre as informadas, que já constam na inbox (uma consulta IN
+     * pela chave primária).
+     */
+    @Query("SELECT e.chave FROM EventoProcessado e WHERE e.chave IN :chaves")
+    List<String> findChavesProcessadas(@Param("chaves") Collection<String> chaves);
+
+    @Modifying
+    @Query("DELETE FROM EventoProcessado e WHERE e.processadoEm < :limite")
+    int expurgarProcessadosAntesDe(@Param("limite") LocalDateTime limite);
+}
@@ -5,10 +5,15 @@ import br.com.grupo99.osservice.domain.model.StatusOS;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -26,4 +31,52 @@ public interface JpaOrdemServicoRepository extends JpaRepository<OrdemServico, U
 
     @NonNull
     Page<OrdemServico> findAll(@NonNull Pageable pageable);
+
+    // Consultas restritas a um cliente (escopo do perfil CLIENTE), servidas
+    // pelo índice idx_os_cliente_timeline (cliente_id à esquerda)
+
+    Optional<OrdemServico> findByIdAndClienteId(UUID id, UUID clienteId);
+
+    List<OrdemServico> findByIdInAndClienteId(Collection<UUID> ids, UUID clienteId);
+
+    boolean existsByIdAndClienteId(UUID id, UUID clienteId);
+
+    List<OrdemServico> findByStatusAndClienteId(StatusOS status, UUID clienteId);
+
+    Page<OrdemServico> findByStatusAndClienteId(StatusOS status, UUID clienteId, Pageable pageable);
+
+    List<OrdemServico> findByStatusInAndClienteId(Collection<StatusOS> statuses, UUID clienteId);
+
+    long countByStatusAndClienteId(StatusOS status, UUID clienteId);
+
+    // Keyset pagination em (data_criacao DESC, id DESC), servida pelos índices
+    // idx_os_cliente_timeline e idx_os_veiculo_timeline (V3)
+
+    @Query("""
+            SELECT os FROM OrdemServico os
+            WHERE os.clienteId = :clienteId
+              AND (os.dataCriacao < :dataCriacao OR (os.dataCriacao = :dataCriacao AND os.id < :id))
+            ORDER BY os.dataCriacao DESC, os.id DESC
+            """)
+    List<OrdemServico> findTimelineByClienteId(@Param("clienteId") UUID clienteId,
+            @Param("dataCriacao") LocalDateTime dataCriacao, @Param("id") UUID id, Pageable limite);
+
+    @Query("""
+            SELECT os FROM OrdemServico os
+            WHERE os.veiculoId = :veiculoId
+              AND (os.dataCriacao < :dataCriacao OR (os.dataCriacao = :dataCriacao AND os.id < :id))
+            ORDER BY os.dataCriacao DESC, os.id DESC
+            """)
+    List<OrdemServico> findTimelineByVeiculoId(@Param("veiculoId") UUID veiculoId,
+            @Param("dataCriacao") LocalDateTime dataCriacao, @Param("id") UUID id, Pageable limite);
+
+    @Query("""
+            SELECT os FROM OrdemServico os
+            WHERE os.veiculoId = :veiculoId AND os.clienteId = :clienteId
+              AND (os.dataCriacao < :dataCriacao OR (os.dataCriacao = :dataCriacao AND os.id < :id))
+            ORDER BY os.dataCriacao DESC, os.id DESC
+            """)
+    List<OrdemServico> findTimelineByVeiculoIdAndClienteId(@Param("veiculoId") UUID veiculoId,
+            @Param("clienteId") UUID clienteId, @Param("dataCriacao") LocalDateTime dataCriacao,
+            @Param("id") UUID id, Pageable limite);
 }
\ No newline at end of file
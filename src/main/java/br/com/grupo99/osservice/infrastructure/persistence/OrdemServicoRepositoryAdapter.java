@@ -1,28 +1,50 @@
 package br.com.grupo99.osservice.infrastructure.persistence;
 
+import br.com.grupo99.osservice.domain.event.EventoOrdemServico;
+import br.com.grupo99.osservice.domain.event.EventosOrdemServico;
 import br.com.grupo99.osservice.domain.model.OrdemServico;
 import br.com.grupo99.osservice.domain.model.StatusOS;
 import br.com.grupo99.osservice.domain.repository.OrdemServicoRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Repositório de OS sobre o Spring Data JPA.
+ *
+ * Ao gravar, retira os eventos registrados no agregado e os publica com o id
+ * da OS salva ({@link EventosOrdemServico}), na mesma transação da gravação.
+ */
 @Component
 @RequiredArgsConstructor
 @SuppressWarnings("null")
 public class OrdemServicoRepositoryAdapter implements OrdemServicoRepository {
 
+    // Cursor da primeira página: posterior a qualquer data_criacao real
+    private static final LocalDateTime INICIO_TIMELINE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final UUID INICIO_TIMELINE_ID = new UUID(-1L, -1L);
+
     private final JpaOrdemServicoRepository jpaRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Transactional
     public OrdemServico save(OrdemServico ordemServico) {
-        return jpaRepository.save(ordemServico);
+        OrdemServico salva = jpaRepository.save(ordemServico);
+        publicarEventos(ordemServico, salva);
+        return salva;
     }
 
     @Override
@@ -30,6 +52,11 @@ public class OrdemServicoRepositoryAdapter implements OrdemServicoRepository {
         return jpaRepository.findById(id);
     }
 
+    @Override
+    public List<OrdemServico> findAllById(Collection<UUID> ids) {
+        return jpaRepository.findAllById(ids);
+    }
+
     @Override
     public Page<OrdemServico> findAll(Pageable pageable) {
         return jpaRepository.findAll(pageable);
@@ -53,6 +80,26 @@ public class OrdemServicoRepositoryAdapter implements OrdemServicoRepository {
                 .toList();
     }
 
+    @Override
+    public List<OrdemServico> findTimelineByClienteId(UUID clienteId, LocalDateTime antesDe, UUID antesDeId,
+            int limite) {
+        LocalDateTime data = antesDe != null ? antesDe : INICIO_TIMELINE;
+        UUID id = antesDe != null ? antesDeId : INICIO_TIMELINE_ID;
+        return jpaRepository.findTimelineByClienteId(clienteId, data, id, PageRequest.ofSize(limite));
+    }
+
+    @Override
+    public List<OrdemServico> findTimelineByVeiculoId(UUID veiculoId, UUID clienteId, LocalDateTime antesDe,
+            UUID antesDeId, int limite) {
+        LocalDateTime data = antesDe != null ? antesDe : INICIO_TIMELINE;
+        UUID id = antesDe != null ? antesDeId : INICIO_TIMELINE_ID;
+        if (clienteId == null) {
+            return jpaRepository.findTimelineByVeiculoId(veiculoId, data, id, PageRequest.ofSize(limite));
+        }
+        return jpaRepository.findTimelineByVeiculoIdAndClienteId(veiculoId, clienteId, data, id,
+                PageRequest.ofSize(limite));
+    }
+
     @Override
     public boolean existsById(UUID id) {
         return jpaRepository.existsById(id);
@@ -74,8 +121,27 @@ public class OrdemServicoRepositoryAdapter implements OrdemServicoRepository {
     }
 
     @Override
+    @Transactional
     public List<OrdemServico> saveAll(Iterable<OrdemServico> ordens) {
-        return jpaRepository.saveAll(ordens);
+        List<OrdemServico> originais = new ArrayList<>();
+        ordens.forEach(originais::add);
+        List<OrdemServico> salvas = jpaRepository.saveAll(originais);
+        // saveAll devolve as OS na ordem recebida
+        for (int i = 0; i < originais.size(); i++) {
+            publicarEventos(originais.get(i), salvas.get(i));
+        }
+        return salvas;
+    }
+
+    /**
+     * Os eventos ficam na instância recebida; o id vem da salva (uma OS nova
+     * é gravada por merge e só a cópia recebe o id gerado).
+     */
+    private void publicarEventos(OrdemServico original, OrdemServico salva) {
+        List<EventoOrdemServico> eventos = original.retirarEventos();
+        if (!eventos.isEmpty()) {
+            eventPublisher.publishEvent(new EventosOrdemServico(salva.getId(), salva.getClienteId(), eventos));
+        }
     }
 
     @Override
@@ -0,0 +1,185 @@
+package br.com.grupo99.osservice.infrastructure.persistence;
+
+import br.com.grupo99.osservice.domain.model.OrdemServico;
+import br.com.grupo99.osservice.domain.model.StatusOS;
+import br.com.grupo99.osservice.domain.repository.OrdemServicoRepository;
+import br.com.grupo99.osservice.infrastructure.security.jwt.EscopoCliente;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Decorator do repositório de OS que aplica o escopo do CLIENTE autenticado.
+ *
+ * Para CLIENTE, toda consulta vira uma consulta com {@code cliente_id =
+ * :pessoaId} no banco (nunca carregar tudo e filtrar em memória); OS de
+ * outros clientes simplesmente não existem para ele. Escritas fora do escopo
+ * são recusadas. Sem escopo (MECANICO, ADMIN, listeners), delega direto ao
+ * {@link OrdemServicoRepositoryAdapter}.
+ */
+@Component
+@Primary
+@SuppressWarnings("null")
+public class OrdemServicoRepositoryPorCliente implements OrdemServicoRepository {
+
+    private final OrdemServicoRepositoryAdapter delegate;
+    private final JpaOrdemServicoRepository jpaRepository;
+
+    public OrdemServicoRepositoryPorCliente(OrdemServicoRepositoryAdapter delegate,
+            JpaOrdemServicoRepository jpaRepository) {
+        this.delegate = delegate;
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public OrdemServico save(OrdemServico ordemServico) {
+        verificarEscrita(ordemServico);
+        return delegate.save(ordemServico);
+    }
+
+    @Override
+    public Optional<OrdemServico> findById(UUID id) {
+        Optional<UUID> escopo = EscopoCliente.atual();
+        return escopo.isPresent()
+                ? jpaRepository.findByIdAndClienteId(id, escopo.get())
+                : delegate.findById(id);
+    }
+
+    @Override
+    public List<OrdemServico> findAllById(Collection<UUID> ids) {
+        Optional<UUID> escopo = EscopoCliente.atual();
+        return escopo.isPresent()
+                ? jpaRepository.findByIdInAndClienteId(ids, escopo.get())
+                : delegate.findAllById(ids);
+    }
+
+    @Override
+    public Page<OrdemServico> findAll(Pageable pageable) {
+        Optional<UUID> escopo = EscopoCliente.atual();
+        return escopo.isPresent()
+                ? jpaRepository.findByClienteId(escopo.get(), pageable)
+                : delegate.findAll(pageable);
+    }
+
+    @Override
+    public Page<OrdemServico> findByStatus(StatusOS status, Pageable pageable) {
+        Optional<UUID> escopo = EscopoCliente.atual();
+        return escopo.isPresent()
+                ? jpaRepository.findByStatusAndClienteId(status, escopo.get(), pageable)
+                : delegate.findByStatus(status, pageable);
+    }
+
+    @Override
+    public Page<OrdemServico> findByClienteId(UUID clienteId, Pageable pageable) {
+        if (foraDoEscopo(clienteId)) {
+            return Page.empty(pageable);
+        }
+        return delegate.findByClienteId(clienteId, pageable);
+    }
+
+    @Override
+    public List<OrdemServico> findByStatusIn(List<StatusOS> statuses) {
+        Optional<UUID> escopo = EscopoCliente.atual();
+        return escopo.isPresent()
+                ? jpaRepository.findByStatusInAndClienteId(statuses, escopo.get())
+                : delegate.findByStatusIn(statuses);
+    }
+
+    @Override
+    public List<OrdemServico> findTimelineByClienteId(UUID clienteId, LocalDateTime antesDe, UUID antesDeId,
+            int limite) {
+        if (foraDoEscopo(clienteId)) {
+            return List.of();
+        }
+        return delegate.findTimelineByClienteId(clienteId, antesDe, antesDeId, limite);
+    }
+
+    @Override
+    public List<OrdemServico> findTimelineByVeiculoId(UUID veiculoId, UUID clienteId, LocalDateTime antesDe,
+            UUID antesDeId, int limite) {
+        if (clienteId != null && foraDoEscopo(clienteId)) {
+            return List.of();
+        }
+        UUID cliente = EscopoCliente.atual().orElse(clienteId);
+        return delegate.findTimelineByVeiculoId(veiculoId, cliente, antesDe, antesDeId, limite);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        Optional<UUID> escopo = EscopoCliente.atual();
+        return escopo.isPresent()
+                ? jpaRepository.existsByIdAndClienteId(id, escopo.get())
+                : delegate.existsById(id);
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        // OS de outro cliente não existe no escopo: nada a remover
+        if (existsById(id)) {
+            delegate.deleteById(id);
+        }
+    }
+
+    @Override
+    public long countByStatus(StatusOS status) {
+        Optional<UUID> escopo = EscopoCliente.atual();
+        return escopo.isPresent()
+                ? jpaRepository.countByStatusAndClienteId(status, escopo.get())
+                : delegate.countByStatus(status);
+    }
+
+    @Override
+    public void deleteAll() {
+        Optional<UUID> escopo = EscopoCliente.atual();
+        if (escopo.isPresent()) {
+            jpaRepository.deleteAll(jpaRepository.findByClienteId(escopo.get()));
+            return;
+        }
+        delegate.deleteAll();
+    }
+
+    @Override
+    public List<OrdemServico> saveAll(Iterable<OrdemServico> ordens) {
+        ordens.forEach(this::verificarEscrita);
+        return delegate.saveAll(ordens);
+    }
+
+    @Override
+    public List<OrdemServico> findByStatus(StatusOS status) {
+        Optional<UUID> escopo = EscopoCliente.atual();
+        return escopo.isPresent()
+                ? jpaRepository.findByStatusAndClienteId(status, escopo.get())
+                : delegate.findByStatus(status);
+    }
+
+    @Override
+    public List<OrdemServico> findAll() {
+        Optional<UUID> escopo = EscopoCliente.atual();
+        return escopo.isPresent()
+                ? jpaRepository.findByClienteId(escopo.get())
+                : delegate.findAll();
+    }
+
+    @Override
+    public boolean existsByVeiculoPlaca(String placa) {
+        return delegate.existsByVeiculoPlaca(placa);
+    }
+
+    private boolean foraDoEscopo(UUID clienteId) {
+        return EscopoCliente.atual().map(escopo -> !escopo.equals(clienteId)).orElse(false);
+    }
+
+    private void verificarEscrita(OrdemServico ordemServico) {
+        if (foraDoEscopo(ordemServico.getClienteId())) {
+            throw new AccessDeniedException("Cliente não pode alterar OS de outro cliente");
+        }
+    }
+}
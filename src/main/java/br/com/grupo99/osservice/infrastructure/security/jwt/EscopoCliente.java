@@ -0,0 +1,30 @@
+package br.com.grupo99.osservice.infrastructure.security.jwt;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Escopo de dados do usuário autenticado na thread atual.
+ *
+ * Para CLIENTE, retorna o pessoaId do token: as consultas devem enxergar
+ * apenas as OS desse cliente. MECANICO, ADMIN e chamadas sem usuário
+ * (listeners Kafka, jobs) não têm escopo.
+ */
+public final class EscopoCliente {
+
+    private EscopoCliente() {
+    }
+
+    public static Optional<UUID> atual() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof JwtUserDetails userDetails)
+                || !userDetails.isCliente()) {
+            return Optional.empty();
+        }
+        // CLIENTE sem pessoaId não enxerga nenhuma OS
+        return Optional.of(userDetails.getPessoaId() != null ? userDetails.getPessoaId() : new UUID(0L, 0L));
+    }
+}
@@ -0,0 +1,151 @@
+package br.com.grupo99.osservice.infrastructure.security.jwt;
+
+import br.com.grupo99.osservice.infrastructure.security.jwt.RegrasDeAcesso.Regra;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Filtro único de autenticação e autorização JWT.
+ *
+ * Em uma só passada: lê o header Authorization, valida o token (com o cache
+ * de tokens verificados do {@link JwtUtil}), autentica no SecurityContext e
+ * aplica as regras de acesso por perfil, compiladas na inicialização em
+ * {@link RegrasDeAcesso}.
+ * - CLIENTE: apenas consultas das próprias OS (pessoaId vai para o request)
+ * - MECANICO/ADMIN: acesso total; rotas /api/v1/admin/** só para ADMIN
+ *
+ * As regras são comparadas com o path decodificado e normalizado (sem
+ * context path, sem conteúdo após ';', barras repetidas colapsadas), o mesmo
+ * que o Spring MVC usa no roteamento: {@code /api/v1/ordens%2Dservico} cai
+ * na regra de {@code /api/v1/ordens-servico}.
+ *
+ * Requisições sem token, ou com token inválido, seguem sem autenticação; o
+ * Spring Security recusa as rotas que exigem login.
+ */
+@Component
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private static final Set<String> TODOS = Set.of("CLIENTE", "MECANICO", "ADMIN");
+    private static final Set<String> OFICINA = Set.of("MECANICO", "ADMIN");
+    private static final String LISTAGEM_NEGADA = "Acesso negado. Clientes não podem listar todos os itens.";
+    private static final String ESCRITA_NEGADA = "Acesso negado. Clientes só podem consultar ordens de serviço.";
+    private static final String ADMIN_NEGADO = "Acesso negado. Operação restrita a administradores.";
+
+    static final RegrasDeAcesso REGRAS = RegrasDeAcesso.builder()
+            .regra("/api/v1/admin/**", null, Set.of("ADMIN"), ADMIN_NEGADO)
+            // Listagens de todas as OS
+            .regra("/api/v1/ordens-servico", "GET", OFICINA, LISTAGEM_NEGADA)
+            .regra("/api/v1/ordens-servico/status/*", "GET", OFICINA, LISTAGEM_NEGADA)
+            // Consultas (a posse da OS é verificada no controller)
+            .regra("/api/v1/**", "GET", TODOS, null)
+            .regra("/api/v1/**", "HEAD", TODOS, null)
+            .regra("/api/v1/**", null, OFICINA, ESCRITA_NEGADA)
+            .build();
+
+    private static final UrlPathHelper CAMINHOS = UrlPathHelper.defaultInstance;
+
+    private final JwtUtil jwtUtil;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
+        this.jwtUtil = jwtUtil;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        final String authHeader = request.getHeader(AUTHORIZATION_HEADER);
+
+        // Sem token: segue sem autenticação
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        JwtUserDetails userDetails = autenticar(request, authHeader.substring(BEARER_PREFIX.length()));
+        if (userDetails == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String caminho = CAMINHOS.getPathWithinApplication(request);
+        Regra regra = REGRAS.buscar(request.getMethod(), caminho);
+        if (regra != null && !regra.permite(userDetails.getPerfil())) {
+            logger.warn("Acesso negado a {} {} para perfil {}",
+                    request.getMethod(), caminho, userDetails.getPerfil());
+            response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+            response.setContentType("application/json");
+            response.getWriter().write("{\"error\":\"" + regra.mensagemNegado() + "\"}");
+            return;
+        }
+
+        if (userDetails.isCliente()) {
+            // Armazena o pessoaId no request para validação posterior no controller
+            request.setAttribute("pessoaId", userDetails.getPessoaId().toString());
+            request.setAttribute("perfil", userDetails.getPerfil());
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Valida o token e define a autenticação no contexto do Spring Security.
+     *
+     * @return usuário autenticado, ou null se o token não for válido
+     */
+    private JwtUserDetails autenticar(HttpServletRequest request, String jwt) {
+        try {
+            Optional<JwtUserDetails> verificado = jwtUtil.verifyToken(jwt);
+            if (verificado.isEmpty()) {
+                logger.warn("Token JWT inválido");
+                SecurityContextHolder.clearContext();
+                return null;
+            }
+
+            JwtUserDetails userDetails = verificado.get();
+            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                    userDetails,
+                    null,
+                    userDetails.getAuthorities());
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+
+            logger.debug("Usuário autenticado: {} com perfil: {}",
+                    userDetails.getUsername(),
+                    userDetails.getPerfil());
+            return userDetails;
+
+        } catch (IllegalArgumentException e) {
+            // Erro de validação dos dados do token (ex: claim ausente, pessoaId inválido)
+            logger.error("Erro ao processar token JWT: {}", e.getMessage());
+            SecurityContextHolder.clearContext();
+            return null;
+        } catch (Exception e) {
+            // Outros erros (ex: token malformado, expirado, assinatura inválida)
+            logger.error("Erro ao processar token JWT: {}", e.getMessage(), e);
+            SecurityContextHolder.clearContext();
+            return null;
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package br.com.grupo99.osservice.infrastructure.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 
@@ -9,20 +13,79 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    private final long jwtExpiration;
 
-    @Value("${jwt.expiration.ms}")
-    private long jwtExpiration;
+    /**
+     * Chave HMAC, parser e cache de tokens verificados, derivados do segredo
+     * uma única vez.
+     */
+    private final Assinatura assinatura;
+
+    /**
+     * @param cacheMaxSize quantidade máxima de tokens já verificados mantidos
+     *                     em memória (0 desativa o cache)
+     */
+    public JwtUtil(
+            @Value("${jwt.secret}") String secretKey,
+            @Value("${jwt.expiration.ms}") long jwtExpiration,
+            @Value("${jwt.cache.max-size:10000}") long cacheMaxSize) {
+        this.jwtExpiration = jwtExpiration;
+        this.assinatura = Assinatura.de(secretKey, cacheMaxSize);
+    }
+
+    /**
+     * Verifica o token e retorna o usuário autenticado.
+     *
+     * Tokens já verificados ficam em cache (chave = SHA-256 do token) até o
+     * seu {@code exp}; um hit não valida a assinatura nem lê as claims outra
+     * vez. Clientes móveis repetem o mesmo token em centenas de requisições.
+     *
+     * @param token Token JWT
+     * @return Usuário do token, ou vazio se o token não for válido
+     * @throws IllegalArgumentException se faltar alguma claim obrigatória
+     * @throws io.jsonwebtoken.JwtException se o token for malformado, expirado
+     *                                      ou tiver assinatura inválida
+     */
+    public Optional<JwtUserDetails> verifyToken(String token) {
+        Cache<String, TokenVerificado> tokens = assinatura.tokens();
+        if (tokens == null) {
+            return verificar(token).map(TokenVerificado::userDetails);
+        }
+
+        String digest = digest(token);
+        TokenVerificado verificado = tokens.getIfPresent(digest);
+        if (verificado != null) {
+            return Optional.of(verificado.userDetails());
+        }
+
+        Optional<TokenVerificado> novo = verificar(token);
+        novo.ifPresent(t -> tokens.put(digest, t));
+        return novo.map(TokenVerificado::userDetails);
+    }
+
+    /**
+     * Valida a assinatura e a expiração do token e retorna suas claims.
+     * Deve ser chamado uma única vez por requisição; os demais métodos
+     * {@code extract*(String)} fazem um parse completo a cada chamada.
+     */
+    public Claims parseClaims(String token) {
+        return assinatura.parser().parseClaimsJws(token).getBody();
+    }
 
     /**
      * Extrai o nome de utilizador do token JWT.
@@ -94,12 +157,20 @@ public class JwtUtil {
      * @return JwtUserDetails com informações do usuário
      */
     public JwtUserDetails extractUserDetails(String token) {
-        String username = extractUsername(token);
-        String pessoaId = extractPessoaId(token);
-        String numeroDocumento = extractNumeroDocumento(token);
-        String tipoPessoa = extractTipoPessoa(token);
-        String cargo = extractCargo(token);
-        String perfil = extractPerfil(token);
+        return extractUserDetails(parseClaims(token));
+    }
+
+    /**
+     * Cria um JwtUserDetails a partir de claims já validadas por
+     * {@link #parseClaims(String)}.
+     */
+    public JwtUserDetails extractUserDetails(Claims claims) {
+        String username = claims.getSubject();
+        String pessoaId = claimObrigatoria(claims, "pessoaId");
+        String numeroDocumento = claimObrigatoria(claims, "numeroDocumento");
+        String tipoPessoa = claimObrigatoria(claims, "tipoPessoa");
+        String cargo = claims.get("cargo", String.class);
+        String perfil = claimObrigatoria(claims, "perfil");
 
         return JwtUserDetails.from(username, pessoaId, numeroDocumento, tipoPessoa, cargo, perfil);
     }
@@ -109,7 +180,7 @@ public class JwtUtil {
      * resolução.
      */
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = parseClaims(token);
         return claimsResolver.apply(claims);
     }
 
@@ -137,28 +208,93 @@ public class JwtUtil {
      * Valida se um token JWT é válido para um determinado utilizador.
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(parseClaims(token), userDetails);
+    }
+
+    /**
+     * Valida claims já extraídas para um determinado utilizador.
+     */
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        final String username = claims.getSubject();
+        return (username.equals(userDetails.getUsername())) && !isTokenExpired(claims);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private boolean isTokenExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.before(new Date());
+    }
+
+    private String claimObrigatoria(Claims claims, String nome) {
+        String valor = claims.get(nome, String.class);
+        if (valor == null || valor.trim().isEmpty()) {
+            throw new IllegalArgumentException("Token JWT não contém claim '" + nome + "'");
+        }
+        return valor;
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private Optional<TokenVerificado> verificar(String token) {
+        Claims claims = parseClaims(token);
+        JwtUserDetails userDetails = extractUserDetails(claims);
+        if (!isTokenValid(claims, userDetails)) {
+            return Optional.empty();
+        }
+        // Nunca além do exp do token nem do tempo de vida configurado
+        long limite = System.currentTimeMillis() + jwtExpiration;
+        Date expiration = claims.getExpiration();
+        long expiraEm = expiration != null ? Math.min(expiration.getTime(), limite) : limite;
+        return Optional.of(new TokenVerificado(userDetails, expiraEm));
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
     }
 
     private Key getSignInKey() {
-        byte[] decodedKey = java.util.Base64.getDecoder().decode(secretKey);
-        return Keys.hmacShaKeyFor(decodedKey);
+        return assinatura.chave();
+    }
+
+    private record Assinatura(Key chave, JwtParser parser, Cache<String, TokenVerificado> tokens) {
+
+        static Assinatura de(String segredo, long cacheMaxSize) {
+            Key chave = Keys.hmacShaKeyFor(Base64.getDecoder().decode(segredo));
+            Cache<String, TokenVerificado> tokens = cacheMaxSize > 0
+                    ? Caffeine.newBuilder()
+                            .maximumSize(cacheMaxSize)
+                            .expireAfter(new ExpiraComToken())
+                            .build()
+                    : null;
+            return new Assinatura(chave, Jwts.parserBuilder().setSigningKey(chave).build(), tokens);
+        }
+    }
+
+    private record TokenVerificado(JwtUserDetails userDetails, long expiraEm) {
+    }
+
+    /**
+     * Cada entrada expira junto com o token que a originou.
+     */
+    private static final class ExpiraComToken implements Expiry<String, TokenVerificado> {
+
+        @Override
+        public long expireAfterCreate(String digest, TokenVerificado token, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, token.expiraEm() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, TokenVerificado token, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(digest, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String digest, TokenVerificado token, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,156 @@
+package br.com.grupo99.osservice.infrastructure.security.jwt;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Regras de autorização por rota, compiladas uma única vez em uma árvore de
+ * segmentos de path. A busca percorre a URI sem alocar (sem split/regex):
+ * segmento literal tem prioridade sobre {@code *} (um segmento qualquer), que
+ * tem prioridade sobre {@code **} (todo o restante do path).
+ *
+ * Em cada nó, uma regra específica do método HTTP tem prioridade sobre a
+ * regra válida para qualquer método.
+ */
+final class RegrasDeAcesso {
+
+    /**
+     * Perfis que podem acessar a rota e a mensagem devolvida aos demais.
+     */
+    record Regra(Set<String> perfis, String mensagemNegado) {
+
+        boolean permite(String perfil) {
+            return perfis.contains(perfil);
+        }
+    }
+
+    private static final class No {
+        private final Map<String, No> literais = new HashMap<>();
+        private No segmento;
+        private No resto;
+        private final Map<String, Regra> porMetodo = new HashMap<>();
+        private Regra qualquerMetodo;
+
+        Regra regra(String metodo) {
+            Regra regra = porMetodo.get(metodo);
+            return regra != null ? regra : qualquerMetodo;
+        }
+    }
+
+    private final No raiz;
+
+    private RegrasDeAcesso(No raiz) {
+        this.raiz = raiz;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Regra mais específica para a requisição, ou {@code null} se nenhuma
+     * regra cobre a rota (basta estar autenticado).
+     */
+    Regra buscar(String metodo, String uri) {
+        return buscar(raiz, metodo, uri, inicioSegmento(uri, 0));
+    }
+
+    private Regra buscar(No no, String metodo, String uri, int inicio) {
+        if (inicio >= uri.length()) {
+            Regra regra = no.regra(metodo);
+            if (regra == null && no.resto != null) {
+                regra = no.resto.regra(metodo);
+            }
+            return regra;
+        }
+
+        int fim = uri.indexOf('/', inicio);
+        if (fim < 0) {
+            fim = uri.length();
+        }
+        int proximo = inicioSegmento(uri, fim);
+
+        No literal = buscarLiteral(no, uri, inicio, fim);
+        if (literal != null) {
+            Regra regra = buscar(literal, metodo, uri, proximo);
+            if (regra != null) {
+                return regra;
+            }
+        }
+        if (no.segmento != null) {
+            Regra regra = buscar(no.segmento, metodo, uri, proximo);
+            if (regra != null) {
+                return regra;
+            }
+        }
+        return no.resto != null ? no.resto.regra(metodo) : null;
+    }
+
+    private static No buscarLiteral(No no, String uri, int inicio, int fim) {
+        // Poucos filhos por nó: compara sem criar substring
+        for (Map.Entry<String, No> filho : no.literais.entrySet()) {
+            String literal = filho.getKey();
+            if (literal.length() == fim - inicio && uri.regionMatches(inicio, literal, 0, literal.length())) {
+                return filho.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static int inicioSegmento(String uri, int posicao) {
+        while (posicao < uri.length() && uri.charAt(posicao) == '/') {
+            posicao++;
+        }
+        return posicao;
+    }
+
+    static final class Builder {
+
+        private final No raiz = new No();
+
+        private Builder() {
+        }
+
+        /**
+         * @param padrao  path com segmentos literais, {@code *} ou {@code **} (último)
+         * @param metodo  método HTTP, ou {@code null} para qualquer método
+         * @param perfis  perfis autorizados
+         * @param negado  mensagem de erro para os demais perfis
+         */
+        Builder regra(String padrao, String metodo, Set<String> perfis, String negado) {
+            No no = raiz;
+            for (String segmento : padrao.split("/")) {
+                if (segmento.isEmpty()) {
+                    continue;
+                }
+                switch (segmento) {
+                    case "**" -> {
+                        if (no.resto == null) {
+                            no.resto = new No();
+                        }
+                        no = no.resto;
+                    }
+                    case "*" -> {
+                        if (no.segmento == null) {
+                            no.segmento = new No();
+                        }
+                        no = no.segmento;
+                    }
+                    default -> no = no.literais.computeIfAbsent(segmento, s -> new No());
+                }
+            }
+            Regra regra = new Regra(Set.copyOf(perfis), negado);
+            if (metodo == null) {
+                no.qualquerMetodo = regra;
+            } else {
+                no.porMetodo.put(metodo, regra);
+            }
+            return this;
+        }
+
+        RegrasDeAcesso build() {
+            return new RegrasDeAcesso(raiz);
+        }
+    }
+}
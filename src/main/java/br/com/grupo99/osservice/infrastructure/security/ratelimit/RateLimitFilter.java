@@ -0,0 +1,67 @@
+package br.com.grupo99.osservice.infrastructure.security.ratelimit;
+
+import br.com.grupo99.osservice.infrastructure.security.jwt.JwtUserDetails;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filtro de rate limiting por pessoa autenticada.
+ * Executa após os filtros JWT, usando o pessoaId e o perfil do token.
+ * Excesso de requisições recebe 429 com o header Retry-After.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final RateLimiter rateLimiter;
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled = true;
+
+    public RateLimitFilter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (!enabled || authentication == null
+                || !(authentication.getPrincipal() instanceof JwtUserDetails userDetails)
+                || userDetails.getPessoaId() == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long esperaNanos = rateLimiter.tryAcquire(userDetails.getPessoaId(), userDetails.getPerfil());
+        if (esperaNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfter = Math.max(1, (esperaNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        logger.warn("Rate limit excedido para pessoa {} ({})", userDetails.getPessoaId(), userDetails.getPerfil());
+
+        response.setStatus(429);
+        response.setHeader("Retry-After", String.valueOf(retryAfter));
+        response.setContentType("application/json");
+        response.getWriter().write("{\"error\":\"Limite de requisições excedido. Tente novamente mais tarde.\"}");
+    }
+}
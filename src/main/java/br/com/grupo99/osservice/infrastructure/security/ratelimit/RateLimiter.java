@@ -0,0 +1,125 @@
+package br.com.grupo99.osservice.infrastructure.security.ratelimit;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Rate limiter por pessoa autenticada, com orçamentos diferentes por perfil
+ * (CLIENTE, MECANICO, ADMIN).
+ *
+ * Os buckets ficam em um mapa concorrente limitado a {@code maxEntries};
+ * buckets ociosos são removidos periodicamente, fora do caminho da
+ * requisição. Com o mapa cheio, novas pessoas compartilham um bucket de
+ * overflow do perfil até a próxima limpeza, mantendo a memória limitada e a
+ * decisão em O(1) mesmo sob uma enxurrada de pessoas distintas.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    static final String PERFIL_CLIENTE = "CLIENTE";
+    static final String PERFIL_MECANICO = "MECANICO";
+    static final String PERFIL_ADMIN = "ADMIN";
+
+    private final Map<UUID, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, Orcamento> orcamentos;
+    private final Map<String, TokenBucket> overflow = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final long ociosoNanos;
+    private final ScheduledExecutorService limpeza;
+
+    public RateLimiter(
+            @Value("${rate-limit.cliente.requests-per-second:5}") double clienteRps,
+            @Value("${rate-limit.cliente.burst:20}") int clienteBurst,
+            @Value("${rate-limit.mecanico.requests-per-second:20}") double mecanicoRps,
+            @Value("${rate-limit.mecanico.burst:50}") int mecanicoBurst,
+            @Value("${rate-limit.admin.requests-per-second:50}") double adminRps,
+            @Value("${rate-limit.admin.burst:100}") int adminBurst,
+            @Value("${rate-limit.max-entries:100000}") int maxEntries,
+            @Value("${rate-limit.idle-eviction-ms:300000}") long idleEvictionMs) {
+        this.orcamentos = Map.of(
+                PERFIL_CLIENTE, new Orcamento(clienteRps, clienteBurst),
+                PERFIL_MECANICO, new Orcamento(mecanicoRps, mecanicoBurst),
+                PERFIL_ADMIN, new Orcamento(adminRps, adminBurst));
+        this.maxEntries = maxEntries;
+        this.ociosoNanos = TimeUnit.MILLISECONDS.toNanos(idleEvictionMs);
+        this.limpeza = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "rate-limit-eviction");
+            t.setDaemon(true);
+            return t;
+        });
+        long intervalo = Math.max(1000L, idleEvictionMs / 2);
+        this.limpeza.scheduleWithFixedDelay(this::removerOciosos, intervalo, intervalo, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Decide se a requisição da pessoa pode prosseguir.
+     *
+     * @return 0 se permitida; caso contrário, nanossegundos até o próximo token
+     */
+    public long tryAcquire(UUID pessoaId, String perfil) {
+        long agora = System.nanoTime();
+        TokenBucket bucket = buckets.get(pessoaId);
+        if (bucket == null) {
+            bucket = criarBucket(pessoaId, perfil, agora);
+        }
+        return bucket.tryConsume(agora);
+    }
+
+    public int getBucketsAtivos() {
+        return buckets.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        limpeza.shutdownNow();
+    }
+
+    private TokenBucket criarBucket(UUID pessoaId, String perfil, long agora) {
+        Orcamento orcamento = orcamentoDo(perfil);
+        if (buckets.size() >= maxEntries) {
+            // Sem varrer o mapa aqui: a remoção de ociosos é da tarefa de limpeza
+            return overflow.computeIfAbsent(perfilNormalizado(perfil),
+                    p -> new TokenBucket(orcamento.rps(), orcamento.burst(), agora));
+        }
+        return buckets.computeIfAbsent(pessoaId,
+                id -> new TokenBucket(orcamento.rps(), orcamento.burst(), agora));
+    }
+
+    void removerOciosos() {
+        long agora = System.nanoTime();
+        AtomicInteger removidos = new AtomicInteger();
+        buckets.entrySet().removeIf(e -> {
+            boolean ocioso = e.getValue().isOcioso(agora, ociosoNanos);
+            if (ocioso) {
+                removidos.incrementAndGet();
+            }
+            return ocioso;
+        });
+        if (removidos.get() > 0) {
+            log.debug("🧹 {} buckets de rate limit ociosos removidos", removidos.get());
+        }
+    }
+
+    private Orcamento orcamentoDo(String perfil) {
+        return orcamentos.get(perfilNormalizado(perfil));
+    }
+
+    private String perfilNormalizado(String perfil) {
+        // Perfil desconhecido recebe o orçamento mais restritivo
+        return perfil != null && orcamentos.containsKey(perfil) ? perfil : PERFIL_CLIENTE;
+    }
+
+    private record Orcamento(double rps, int burst) {
+    }
+}
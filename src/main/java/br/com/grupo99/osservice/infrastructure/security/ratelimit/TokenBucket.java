@@ -0,0 +1,60 @@
+package br.com.grupo99.osservice.infrastructure.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket sem locks, implementado como GCRA (Generic Cell Rate
+ * Algorithm).
+ *
+ * Todo o estado do bucket é um único {@code long}: o instante teórico de
+ * chegada (TAT) da próxima requisição. Consumir um token é um único
+ * compare-and-set, sem alocação e sem bloqueio.
+ */
+final class TokenBucket {
+
+    private final long intervaloNanos;
+    private final long toleranciaNanos;
+    private final AtomicLong tat;
+
+    /**
+     * @param requisicoesPorSegundo taxa sustentada de reposição de tokens
+     * @param burst                 capacidade do bucket (rajada máxima)
+     * @param agoraNanos            instante de criação (bucket cheio)
+     */
+    TokenBucket(double requisicoesPorSegundo, int burst, long agoraNanos) {
+        if (requisicoesPorSegundo <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("Taxa e burst devem ser positivos");
+        }
+        this.intervaloNanos = (long) (1_000_000_000L / requisicoesPorSegundo);
+        this.toleranciaNanos = intervaloNanos * burst;
+        this.tat = new AtomicLong(agoraNanos);
+    }
+
+    /**
+     * Tenta consumir um token.
+     *
+     * @return 0 se a requisição foi permitida; caso contrário, quantos
+     *         nanossegundos faltam para o próximo token
+     */
+    long tryConsume(long agoraNanos) {
+        for (;;) {
+            long atual = tat.get();
+            long novoTat = Math.max(atual, agoraNanos) + intervaloNanos;
+            long espera = novoTat - agoraNanos - toleranciaNanos;
+            if (espera > 0) {
+                return espera;
+            }
+            if (tat.compareAndSet(atual, novoTat)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Bucket ocioso: está cheio há pelo menos {@code ociosoNanos}, logo pode
+     * ser descartado sem mudar nenhuma decisão futura.
+     */
+    boolean isOcioso(long agoraNanos, long ociosoNanos) {
+        return agoraNanos - tat.get() >= ociosoNanos;
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.grupo99.osservice.infrastructure.serialization;
+
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Lê as chaves escritas pelo {@link ChaveUuidSerializer} e as chaves texto
+ * (UTF-8) dos produtores antigos: 16 bytes viram o UUID em texto, o resto é
+ * decodificado como UTF-8. Nenhum UUID em texto tem 16 bytes; uma chave
+ * texto de exatamente 16 bytes seria lida como UUID, mas os produtores da
+ * Saga usam sempre o id da OS como chave.
+ */
+public class ChaveUuidDeserializer implements Deserializer<String> {
+
+    @Override
+    public String deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length == 16) {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            return new UUID(buffer.getLong(), buffer.getLong()).toString();
+        }
+        return new String(data, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.grupo99.osservice.infrastructure.serialization;
+
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Chave do registro em 16 bytes quando é um UUID (id da OS), em vez dos 36
+ * caracteres do texto. Outras chaves seguem em UTF-8.
+ *
+ * A partição é calculada sobre os bytes da chave: ligar este serializer
+ * muda a partição de cada OS. A troca deve acontecer com os tópicos
+ * drenados para não misturar eventos da mesma OS em duas partições.
+ */
+public class ChaveUuidSerializer implements Serializer<String> {
+
+    @Override
+    public byte[] serialize(String topic, String data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length() == 36) {
+            try {
+                UUID uuid = UUID.fromString(data);
+                return ByteBuffer.allocate(16)
+                        .putLong(uuid.getMostSignificantBits())
+                        .putLong(uuid.getLeastSignificantBits())
+                        .array();
+            } catch (IllegalArgumentException e) {
+                // não é UUID: segue como texto
+            }
+        }
+        return data.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,127 @@
+package br.com.grupo99.osservice.infrastructure.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+
+/**
+ * Escrita direta de {@link LocalDateTime} no {@link JsonGenerator}, sem
+ * passar por {@link DateTimeFormatter}.
+ *
+ * Produz exatamente a mesma saída do JavaTimeModule: o padrão
+ * {@code yyyy-MM-dd'T'HH:mm:ss} dos DTOs, ISO-8601 ou array de números
+ * conforme {@link SerializationFeature#WRITE_DATES_AS_TIMESTAMPS}.
+ */
+final class DataHoraJson {
+
+    private static final DateTimeFormatter PADRAO_DTO = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private DataHoraJson() {
+    }
+
+    /**
+     * Equivalente a {@code @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")}.
+     */
+    static void escreverPadraoDto(JsonGenerator gen, LocalDateTime valor) throws IOException {
+        if (valor == null) {
+            gen.writeNull();
+            return;
+        }
+        if (!anoDeQuatroDigitos(valor)) {
+            gen.writeString(valor.format(PADRAO_DTO));
+            return;
+        }
+        char[] buf = new char[19];
+        escreverAteSegundos(buf, valor);
+        gen.writeString(buf, 0, 19);
+    }
+
+    /**
+     * Equivalente ao LocalDateTimeSerializer padrão do JavaTimeModule.
+     */
+    static void escrever(JsonGenerator gen, SerializerProvider provider, LocalDateTime valor) throws IOException {
+        if (valor == null) {
+            gen.writeNull();
+            return;
+        }
+        if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            escreverArray(gen, provider, valor);
+            return;
+        }
+        if (!anoDeQuatroDigitos(valor)) {
+            gen.writeString(valor.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            return;
+        }
+        char[] buf = new char[29];
+        escreverAteSegundos(buf, valor);
+        int tamanho = 19;
+        int nano = valor.getNano();
+        if (nano > 0) {
+            // ISO_LOCAL_DATE_TIME omite os zeros à direita da fração
+            buf[tamanho++] = '.';
+            int digitos = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digitos--;
+            }
+            for (int i = tamanho + digitos - 1; i >= tamanho; i--) {
+                buf[i] = (char) ('0' + nano % 10);
+                nano /= 10;
+            }
+            tamanho += digitos;
+        }
+        gen.writeString(buf, 0, tamanho);
+    }
+
+    private static void escreverArray(JsonGenerator gen, SerializerProvider provider, LocalDateTime valor)
+            throws IOException {
+        gen.writeStartArray();
+        gen.writeNumber(valor.getYear());
+        gen.writeNumber(valor.getMonthValue());
+        gen.writeNumber(valor.getDayOfMonth());
+        gen.writeNumber(valor.getHour());
+        gen.writeNumber(valor.getMinute());
+        int segundos = valor.getSecond();
+        int nano = valor.getNano();
+        if (segundos > 0 || nano > 0) {
+            gen.writeNumber(segundos);
+            if (nano > 0) {
+                if (provider.isEnabled(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)) {
+                    gen.writeNumber(nano);
+                } else {
+                    gen.writeNumber(valor.get(ChronoField.MILLI_OF_SECOND));
+                }
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    private static boolean anoDeQuatroDigitos(LocalDateTime valor) {
+        return valor.getYear() >= 0 && valor.getYear() <= 9999;
+    }
+
+    private static void escreverAteSegundos(char[] buf, LocalDateTime valor) {
+        doisDigitos(buf, 0, valor.getYear() / 100);
+        doisDigitos(buf, 2, valor.getYear() % 100);
+        buf[4] = '-';
+        doisDigitos(buf, 5, valor.getMonthValue());
+        buf[7] = '-';
+        doisDigitos(buf, 8, valor.getDayOfMonth());
+        buf[10] = 'T';
+        doisDigitos(buf, 11, valor.getHour());
+        buf[13] = ':';
+        doisDigitos(buf, 14, valor.getMinute());
+        buf[16] = ':';
+        doisDigitos(buf, 17, valor.getSecond());
+    }
+
+    private static void doisDigitos(char[] buf, int pos, int valor) {
+        buf[pos] = (char) ('0' + valor / 10);
+        buf[pos + 1] = (char) ('0' + valor % 10);
+    }
+}
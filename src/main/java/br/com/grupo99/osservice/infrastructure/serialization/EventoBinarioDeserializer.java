@@ -0,0 +1,44 @@
+package br.com.grupo99.osservice.infrastructure.serialization;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * Deserializer dos eventos de os-events para consumidores: payload binário
+ * (primeiro byte {@code 0x00}) é decodificado pelo {@link EventosBinarios};
+ * JSON segue pelo deserializer de fallback. Permite trocar o formato do
+ * produtor sem coordenar a troca nos consumidores.
+ */
+public class EventoBinarioDeserializer implements Deserializer<Object> {
+
+    private final EventosBinarios eventos;
+    private final Deserializer<Object> json;
+
+    public EventoBinarioDeserializer(EventosBinarios eventos, Deserializer<Object> json) {
+        this.eventos = eventos;
+        this.json = json;
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return deserialize(topic, null, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (!EventosBinarios.binario(data)) {
+            return headers != null ? json.deserialize(topic, headers, data) : json.deserialize(topic, data);
+        }
+        try {
+            return eventos.decodificar(data);
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException("Payload binário inválido no tópico " + topic, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        json.close();
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.grupo99.osservice.infrastructure.serialization;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Serializer binário dos eventos da Saga ({@link EventosBinarios}); tipos
+ * sem codec seguem pelo serializer JSON de fallback.
+ */
+public class EventoBinarioSerializer implements Serializer<Object> {
+
+    private final EventosBinarios eventos;
+    private final Serializer<Object> json;
+
+    public EventoBinarioSerializer(EventosBinarios eventos, Serializer<Object> json) {
+        this.eventos = eventos;
+        this.json = json;
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return serialize(topic, null, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data == null) {
+            return null;
+        }
+        if (!eventos.suporta(data.getClass())) {
+            return json.serialize(topic, headers, data);
+        }
+        try {
+            return eventos.codificar(data);
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException("Evento " + data.getClass().getSimpleName()
+                    + " inválido para o tópico " + topic, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        json.close();
+    }
+}
@@ -0,0 +1,122 @@
+package br.com.grupo99.osservice.infrastructure.serialization;
+
+import br.com.grupo99.osservice.application.events.EventoRecebido;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Deserializer dos eventos consumidos: o header {@code eventType} escolhe,
+ * em um mapa pré-computado, o {@link ObjectReader} do record de destino, e
+ * o JSON é decodificado direto nele (sem Map intermediário).
+ *
+ * Payload binário (primeiro byte {@code 0x00}) é decodificado pelo
+ * {@link EventosBinarios}, e o schema precisa corresponder ao header; JSON
+ * continua aceito, então os produtores trocam de formato sem coordenação.
+ *
+ * Tipos de evento sem record correspondente retornam {@code null}, sem
+ * parse do payload. JSON inválido lança {@link SerializationException};
+ * envolvido em ErrorHandlingDeserializer, o erro fica no registro e o
+ * listener o envia para a DLT.
+ */
+public class EventoRecebidoDeserializer implements Deserializer<Object> {
+
+    public static final String HEADER_EVENT_TYPE = "eventType";
+
+    private static final ObjectMapper MAPPER = JacksonUtils.enhancedObjectMapper()
+            .registerModule(new BlackbirdModule());
+
+    private static final Map<String, Class<? extends EventoRecebido>> TIPOS = Map.of(
+            "ORCAMENTO_APROVADO", EventoRecebido.OrcamentoAprovado.class,
+            "ORCAMENTO_REJEITADO", EventoRecebido.OrcamentoRejeitado.class,
+            "EXECUCAO_CONCLUIDA", EventoRecebido.ExecucaoConcluida.class,
+            "EXECUCAO_FALHOU", EventoRecebido.ExecucaoFalhou.class);
+
+    // Chave em bytes: a busca não decodifica o header para String
+    private final Map<Chave, ObjectReader> readers;
+    private final EventosBinarios binarios;
+
+    public EventoRecebidoDeserializer() {
+        this(EventosBinarios.padrao());
+    }
+
+    public EventoRecebidoDeserializer(EventosBinarios binarios) {
+        Map<Chave, ObjectReader> porTipo = new HashMap<>();
+        TIPOS.forEach((tipo, classe) -> porTipo.put(
+                new Chave(tipo.getBytes(StandardCharsets.UTF_8)), MAPPER.readerFor(classe)));
+        this.readers = Map.copyOf(porTipo);
+        this.binarios = binarios;
+    }
+
+    /**
+     * Valor do header como chave de busca (igualdade por conteúdo).
+     */
+    private record Chave(byte[] bytes) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Chave outra && Arrays.equals(bytes, outra.bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(bytes);
+        }
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        // Sem headers não há como escolher o tipo
+        return null;
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null || headers == null) {
+            return null;
+        }
+        Header eventType = headers.lastHeader(HEADER_EVENT_TYPE);
+        ObjectReader reader = eventType != null && eventType.value() != null
+                ? readers.get(new Chave(eventType.value()))
+                : null;
+        if (reader == null) {
+            return null;
+        }
+        if (EventosBinarios.binario(data)) {
+            return decodificarBinario(topic, eventType.value(), data);
+        }
+        try {
+            return reader.readValue(data);
+        } catch (IOException e) {
+            throw new SerializationException("Payload inválido para o evento "
+                    + new String(eventType.value(), StandardCharsets.UTF_8) + " do tópico " + topic, e);
+        }
+    }
+
+    private Object decodificarBinario(String topic, byte[] eventType, byte[] data) {
+        String tipo = new String(eventType, StandardCharsets.UTF_8);
+        Object evento;
+        try {
+            evento = binarios.decodificar(data);
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException("Payload binário inválido para o evento " + tipo + " do tópico "
+                    + topic, e);
+        }
+        if (!TIPOS.get(tipo).isInstance(evento)) {
+            throw new SerializationException("Payload binário de " + evento.getClass().getSimpleName()
+                    + " com header " + tipo + " no tópico " + topic);
+        }
+        return evento;
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.grupo99.osservice.infrastructure.serialization;
+
+import br.com.grupo99.osservice.application.events.OSCanceladaEvent;
+import br.com.grupo99.osservice.application.events.OSCriadaEvent;
+import br.com.grupo99.osservice.application.events.StatusMudadoEvent;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+import static br.com.grupo99.osservice.infrastructure.serialization.OrdemServicoResponseSerializer.escreverUuid;
+
+/**
+ * Serializers escritos à mão para os eventos da Saga publicados no Kafka e
+ * no stream SSE. A saída é idêntica à serialização por reflexão, inclusive o
+ * formato do timestamp, que segue a configuração do ObjectMapper em uso.
+ */
+final class EventoSerializers {
+
+    private EventoSerializers() {
+    }
+
+    static class OSCriada extends StdSerializer<OSCriadaEvent> {
+
+        OSCriada() {
+            super(OSCriadaEvent.class);
+        }
+
+        @Override
+        public void serialize(OSCriadaEvent event, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject(event);
+            escreverUuid(gen, "osId", event.getOsId());
+            escreverUuid(gen, "clienteId", event.getClienteId());
+            escreverUuid(gen, "veiculoId", event.getVeiculoId());
+            gen.writeStringField("descricao", event.getDescricao());
+            gen.writeFieldName("timestamp");
+            DataHoraJson.escrever(gen, provider, event.getTimestamp());
+            gen.writeStringField("eventType", event.getEventType());
+            gen.writeEndObject();
+        }
+    }
+
+    static class StatusMudado extends StdSerializer<StatusMudadoEvent> {
+
+        StatusMudado() {
+            super(StatusMudadoEvent.class);
+        }
+
+        @Override
+        public void serialize(StatusMudadoEvent event, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject(event);
+            escreverUuid(gen, "osId", event.getOsId());
+            gen.writeStringField("statusAnterior", event.getStatusAnterior());
+            gen.writeStringField("statusNovo", event.getStatusNovo());
+            gen.writeFieldName("timestamp");
+            DataHoraJson.escrever(gen, provider, event.getTimestamp());
+            gen.writeStringField("eventType", event.getEventType());
+            gen.writeEndObject();
+        }
+    }
+
+    static class OSCancelada extends StdSerializer<OSCanceladaEvent> {
+
+        OSCancelada() {
+            super(OSCanceladaEvent.class);
+        }
+
+        @Override
+        public void serialize(OSCanceladaEvent event, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject(event);
+            escreverUuid(gen, "osId", event.getOsId());
+            gen.writeStringField("motivo", event.getMotivo());
+            gen.writeStringField("etapaFalha", event.getEtapaFalha());
+            gen.writeFieldName("timestamp");
+            DataHoraJson.escrever(gen, provider, event.getTimestamp());
+            gen.writeStringField("eventType", event.getEventType());
+            gen.writeEndObject();
+        }
+    }
+}
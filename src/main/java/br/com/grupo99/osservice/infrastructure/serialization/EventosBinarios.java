@@ -0,0 +1,221 @@
+package br.com.grupo99.osservice.infrastructure.serialization;
+
+import br.com.grupo99.osservice.application.events.EventoRecebido.ExecucaoConcluida;
+import br.com.grupo99.osservice.application.events.EventoRecebido.ExecucaoFalhou;
+import br.com.grupo99.osservice.application.events.EventoRecebido.OrcamentoAprovado;
+import br.com.grupo99.osservice.application.events.EventoRecebido.OrcamentoRejeitado;
+import br.com.grupo99.osservice.application.events.OSCanceladaEvent;
+import br.com.grupo99.osservice.application.events.OSCriadaEvent;
+import br.com.grupo99.osservice.application.events.StatusMudadoEvent;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Codecs binários dos eventos da Saga: os publicados em os-events e os
+ * consumidos de billing-events e execution-events.
+ *
+ * Cada codec liga os campos de um schema do {@link RegistroSchemas} aos
+ * getters da classe (escrita) e a um construtor (leitura). Na carga, os
+ * campos do codec são conferidos com a última versão do schema: um campo
+ * novo na classe sem schema correspondente (ou o contrário) falha na
+ * subida, não em produção.
+ */
+public final class EventosBinarios {
+
+    private static final int CAPACIDADE_INICIAL = 96;
+
+    private final RegistroSchemas registro;
+    private final Map<Class<?>, Codec<?>> porClasse = new HashMap<>();
+    private final Map<String, Codec<?>> porNomeClasse = new HashMap<>();
+    private final Map<Integer, Codec<?>> porId = new HashMap<>();
+
+    /**
+     * Liga uma classe a um schema.
+     */
+    private record Codec<T>(Class<T> tipo, SchemaEvento schema, Map<String, Function<T, Object>> campos,
+            Function<Map<String, Object>, T> criar) {
+
+        @SuppressWarnings("unchecked")
+        Object valor(Object evento, String campo) {
+            return campos.get(campo).apply((T) evento);
+        }
+    }
+
+    private static final class Padrao {
+        private static final EventosBinarios INSTANCIA = new EventosBinarios(RegistroSchemas.padrao());
+    }
+
+    public static EventosBinarios padrao() {
+        return Padrao.INSTANCIA;
+    }
+
+    public EventosBinarios(RegistroSchemas registro) {
+        this.registro = registro;
+
+        registrar(OSCriadaEvent.class, "OSCriada", new Campos<OSCriadaEvent>()
+                .campo("osId", OSCriadaEvent::getOsId)
+                .campo("clienteId", OSCriadaEvent::getClienteId)
+                .campo("veiculoId", OSCriadaEvent::getVeiculoId)
+                .campo("descricao", OSCriadaEvent::getDescricao)
+                .campo("timestamp", OSCriadaEvent::getTimestamp),
+                (v, tipo) -> new OSCriadaEvent((UUID) v.get("osId"), (UUID) v.get("clienteId"),
+                        (UUID) v.get("veiculoId"), (String) v.get("descricao"),
+                        (LocalDateTime) v.get("timestamp"), tipo));
+        registrar(StatusMudadoEvent.class, "StatusMudado", new Campos<StatusMudadoEvent>()
+                .campo("osId", StatusMudadoEvent::getOsId)
+                .campo("statusAnterior", StatusMudadoEvent::getStatusAnterior)
+                .campo("statusNovo", StatusMudadoEvent::getStatusNovo)
+                .campo("timestamp", StatusMudadoEvent::getTimestamp),
+                (v, tipo) -> new StatusMudadoEvent((UUID) v.get("osId"), (String) v.get("statusAnterior"),
+                        (String) v.get("statusNovo"), (LocalDateTime) v.get("timestamp"), tipo));
+        registrar(OSCanceladaEvent.class, "OSCancelada", new Campos<OSCanceladaEvent>()
+                .campo("osId", OSCanceladaEvent::getOsId)
+                .campo("motivo", OSCanceladaEvent::getMotivo)
+                .campo("etapaFalha", OSCanceladaEvent::getEtapaFalha)
+                .campo("timestamp", OSCanceladaEvent::getTimestamp),
+                (v, tipo) -> new OSCanceladaEvent((UUID) v.get("osId"), (String) v.get("motivo"),
+                        (String) v.get("etapaFalha"), (LocalDateTime) v.get("timestamp"), tipo));
+
+        registrar(OrcamentoAprovado.class, "OrcamentoAprovado", new Campos<OrcamentoAprovado>()
+                .campo("osId", OrcamentoAprovado::osId)
+                .campo("valorAprovado", OrcamentoAprovado::valorAprovado)
+                .campo("aprovadoPor", OrcamentoAprovado::aprovadoPor),
+                (v, tipo) -> new OrcamentoAprovado((UUID) v.get("osId"),
+                        (BigDecimal) v.get("valorAprovado"), (String) v.get("aprovadoPor")));
+        registrar(OrcamentoRejeitado.class, "OrcamentoRejeitado", new Campos<OrcamentoRejeitado>()
+                .campo("osId", OrcamentoRejeitado::osId)
+                .campo("motivo", OrcamentoRejeitado::motivo),
+                (v, tipo) -> new OrcamentoRejeitado((UUID) v.get("osId"), (String) v.get("motivo")));
+        registrar(ExecucaoConcluida.class, "ExecucaoConcluida", new Campos<ExecucaoConcluida>()
+                .campo("osId", ExecucaoConcluida::osId)
+                .campo("observacoes", ExecucaoConcluida::observacoes)
+                .campo("executadoPor", ExecucaoConcluida::executadoPor),
+                (v, tipo) -> new ExecucaoConcluida((UUID) v.get("osId"),
+                        (String) v.get("observacoes"), (String) v.get("executadoPor")));
+        registrar(ExecucaoFalhou.class, "ExecucaoFalhou", new Campos<ExecucaoFalhou>()
+                .campo("osId", ExecucaoFalhou::osId)
+                .campo("motivo", ExecucaoFalhou::motivo)
+                .campo("requerRetrabalho", ExecucaoFalhou::requerRetrabalho),
+                (v, tipo) -> new ExecucaoFalhou((UUID) v.get("osId"), (String) v.get("motivo"),
+                        Boolean.TRUE.equals(v.get("requerRetrabalho"))));
+    }
+
+    /**
+     * Campos do codec, na forma nome → getter.
+     */
+    private static final class Campos<T> {
+
+        private final Map<String, Function<T, Object>> getters = new LinkedHashMap<>();
+
+        Campos<T> campo(String nome, Function<T, ?> getter) {
+            getters.put(nome, getter::apply);
+            return this;
+        }
+    }
+
+    private <T> void registrar(Class<T> tipo, String nomeSchema, Campos<T> declarados,
+            BiFunction<Map<String, Object>, String, T> construtor) {
+        Map<String, Function<T, Object>> campos = declarados.getters;
+        SchemaEvento schema = registro.ultima(nomeSchema);
+        Set<String> doSchema = new HashSet<>();
+        schema.fields().forEach(campo -> doSchema.add(campo.name()));
+        if (!doSchema.equals(campos.keySet())) {
+            throw new IllegalStateException("Codec de " + tipo.getSimpleName() + " " + campos.keySet()
+                    + " diverge do schema " + nomeSchema + " v" + schema.version() + " " + doSchema);
+        }
+        Codec<T> codec = new Codec<>(tipo, schema, campos, valores -> construtor.apply(valores, schema.eventType()));
+        porClasse.put(tipo, codec);
+        porNomeClasse.put(tipo.getName(), codec);
+        porId.put(schema.id(), codec);
+    }
+
+    public boolean suporta(Class<?> tipo) {
+        return porClasse.containsKey(tipo);
+    }
+
+    /**
+     * Classe com codec binário pelo nome (header {@code __TypeId__}).
+     *
+     * @return null se não houver codec
+     */
+    public Class<?> tipo(String nomeClasse) {
+        Codec<?> codec = nomeClasse != null ? porNomeClasse.get(nomeClasse) : null;
+        return codec != null ? codec.tipo() : null;
+    }
+
+    public static boolean binario(byte[] dados) {
+        return FormatoBinario.binario(dados);
+    }
+
+    /**
+     * Codifica com a última versão do schema. O eventType não entra no corpo.
+     *
+     * @throws IllegalArgumentException se o tipo não tiver codec ou faltar
+     *                                  um campo obrigatório
+     */
+    public byte[] codificar(Object evento) {
+        Codec<?> codec = porClasse.get(evento.getClass());
+        if (codec == null) {
+            throw new IllegalArgumentException("Sem codec binário para " + evento.getClass().getName());
+        }
+        SchemaEvento schema = codec.schema();
+        FormatoBinario.Escrita saida = new FormatoBinario.Escrita(CAPACIDADE_INICIAL);
+        saida.byteBruto(FormatoBinario.MAGICO);
+        saida.varint(schema.id());
+        saida.varint(schema.version());
+        for (SchemaEvento.Campo campo : schema.fields()) {
+            Object valor = codec.valor(evento, campo.name());
+            if (campo.optional()) {
+                saida.byteBruto(valor != null ? 1 : 0);
+                if (valor == null) {
+                    continue;
+                }
+            } else if (valor == null) {
+                throw new IllegalArgumentException("Campo obrigatório " + campo.name() + " nulo em "
+                        + schema.name());
+            }
+            FormatoBinario.escrever(saida, campo.type(), valor);
+        }
+        return saida.bytes();
+    }
+
+    /**
+     * Decodifica pelo schema de escrita (id e versão do payload). Campos
+     * ausentes na versão escrita ficam nulos.
+     *
+     * @throws IllegalArgumentException se o payload for inválido ou o schema
+     *                                  desconhecido
+     */
+    public Object decodificar(byte[] dados) {
+        if (!binario(dados)) {
+            throw new IllegalArgumentException("Payload não binário");
+        }
+        FormatoBinario.Leitura entrada = new FormatoBinario.Leitura(dados, 1);
+        int id = (int) entrada.varint();
+        int versao = (int) entrada.varint();
+        SchemaEvento schema = registro.escrita(id, versao);
+        Codec<?> codec = porId.get(id);
+        if (schema == null || codec == null) {
+            throw new IllegalArgumentException("Schema " + id + " v" + versao + " desconhecido");
+        }
+        List<SchemaEvento.Campo> campos = schema.fields();
+        Map<String, Object> valores = new HashMap<>(campos.size() * 2);
+        for (SchemaEvento.Campo campo : campos) {
+            if (campo.optional() && entrada.byteBruto() == 0) {
+                continue;
+            }
+            valores.put(campo.name(), FormatoBinario.ler(entrada, campo.type()));
+        }
+        return codec.criar().apply(valores);
+    }
+}
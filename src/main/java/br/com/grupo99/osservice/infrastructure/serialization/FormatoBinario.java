@@ -0,0 +1,216 @@
+package br.com.grupo99.osservice.infrastructure.serialization;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Codificação binária dos campos dos eventos, no estilo do Avro: inteiros
+ * em varint (zigzag quando podem ser negativos), strings com tamanho
+ * prefixado, UUID em 16 bytes.
+ *
+ * Payload: {@link #MAGICO}, id do schema (varint), versão (varint) e os
+ * campos na ordem do schema. JSON nunca começa com 0x00, então o primeiro
+ * byte basta para distinguir os formatos.
+ */
+final class FormatoBinario {
+
+    static final byte MAGICO = 0x00;
+
+    private FormatoBinario() {
+    }
+
+    static boolean binario(byte[] dados) {
+        return dados != null && dados.length > 0 && dados[0] == MAGICO;
+    }
+
+    static void escrever(Escrita saida, SchemaEvento.Tipo tipo, Object valor) {
+        switch (tipo) {
+            case UUID -> saida.uuid((UUID) valor);
+            case STRING -> saida.string((String) valor);
+            case TIMESTAMP -> saida.timestamp((LocalDateTime) valor);
+            case BOOLEAN -> saida.booleano((Boolean) valor);
+            case DECIMAL -> saida.decimal((BigDecimal) valor);
+        }
+    }
+
+    static Object ler(Leitura entrada, SchemaEvento.Tipo tipo) {
+        return switch (tipo) {
+            case UUID -> entrada.uuid();
+            case STRING -> entrada.string();
+            case TIMESTAMP -> entrada.timestamp();
+            case BOOLEAN -> entrada.booleano();
+            case DECIMAL -> entrada.decimal();
+        };
+    }
+
+    /**
+     * Buffer de escrita que cresce conforme necessário.
+     */
+    static final class Escrita {
+
+        private byte[] buf;
+        private int pos;
+
+        Escrita(int capacidade) {
+            this.buf = new byte[capacidade];
+        }
+
+        byte[] bytes() {
+            return Arrays.copyOf(buf, pos);
+        }
+
+        void garantir(int n) {
+            if (pos + n > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, pos + n));
+            }
+        }
+
+        void byteBruto(int b) {
+            garantir(1);
+            buf[pos++] = (byte) b;
+        }
+
+        void varint(long valor) {
+            garantir(10);
+            while ((valor & ~0x7FL) != 0) {
+                buf[pos++] = (byte) ((valor & 0x7F) | 0x80);
+                valor >>>= 7;
+            }
+            buf[pos++] = (byte) valor;
+        }
+
+        void zigzag(long valor) {
+            varint((valor << 1) ^ (valor >> 63));
+        }
+
+        void uuid(UUID valor) {
+            garantir(16);
+            escreverLong(valor.getMostSignificantBits());
+            escreverLong(valor.getLeastSignificantBits());
+        }
+
+        private void escreverLong(long valor) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buf[pos++] = (byte) (valor >>> shift);
+            }
+        }
+
+        void string(String valor) {
+            bytesComTamanho(valor.getBytes(StandardCharsets.UTF_8));
+        }
+
+        void timestamp(LocalDateTime valor) {
+            zigzag(valor.toEpochSecond(ZoneOffset.UTC));
+            varint(valor.getNano());
+        }
+
+        void booleano(Boolean valor) {
+            byteBruto(valor ? 1 : 0);
+        }
+
+        void decimal(BigDecimal valor) {
+            zigzag(valor.scale());
+            bytesComTamanho(valor.unscaledValue().toByteArray());
+        }
+
+        private void bytesComTamanho(byte[] bytes) {
+            varint(bytes.length);
+            garantir(bytes.length);
+            System.arraycopy(bytes, 0, buf, pos, bytes.length);
+            pos += bytes.length;
+        }
+    }
+
+    /**
+     * Leitura sequencial de um payload; dados truncados lançam
+     * {@link IllegalArgumentException}.
+     */
+    static final class Leitura {
+
+        private final byte[] dados;
+        private int pos;
+
+        Leitura(byte[] dados, int inicio) {
+            this.dados = dados;
+            this.pos = inicio;
+        }
+
+        int byteBruto() {
+            exigir(1);
+            return dados[pos++] & 0xFF;
+        }
+
+        long varint() {
+            long valor = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = byteBruto();
+                valor |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return valor;
+                }
+            }
+            throw new IllegalArgumentException("Varint malformado na posição " + pos);
+        }
+
+        long zigzag() {
+            long valor = varint();
+            return (valor >>> 1) ^ -(valor & 1);
+        }
+
+        UUID uuid() {
+            exigir(16);
+            return new UUID(lerLong(), lerLong());
+        }
+
+        private long lerLong() {
+            long valor = 0;
+            for (int i = 0; i < 8; i++) {
+                valor = (valor << 8) | (dados[pos++] & 0xFF);
+            }
+            return valor;
+        }
+
+        String string() {
+            int tamanho = tamanho();
+            String valor = new String(dados, pos, tamanho, StandardCharsets.UTF_8);
+            pos += tamanho;
+            return valor;
+        }
+
+        LocalDateTime timestamp() {
+            long segundos = zigzag();
+            return LocalDateTime.ofEpochSecond(segundos, (int) varint(), ZoneOffset.UTC);
+        }
+
+        boolean booleano() {
+            return byteBruto() != 0;
+        }
+
+        BigDecimal decimal() {
+            int escala = (int) zigzag();
+            int tamanho = tamanho();
+            BigInteger naoEscalado = new BigInteger(dados, pos, tamanho);
+            pos += tamanho;
+            return new BigDecimal(naoEscalado, escala);
+        }
+
+        private int tamanho() {
+            long tamanho = varint();
+            if (tamanho < 0 || tamanho > dados.length - pos) {
+                throw new IllegalArgumentException("Tamanho inválido (" + tamanho + ") na posição " + pos);
+            }
+            return (int) tamanho;
+        }
+
+        private void exigir(int n) {
+            if (pos + n > dados.length) {
+                throw new IllegalArgumentException("Payload truncado na posição " + pos);
+            }
+        }
+    }
+}
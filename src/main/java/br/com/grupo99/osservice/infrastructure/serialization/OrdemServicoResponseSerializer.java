@@ -0,0 +1,83 @@
+package br.com.grupo99.osservice.infrastructure.serialization;
+
+import br.com.grupo99.osservice.application.dto.OrdemServicoResponseDTO;
+import br.com.grupo99.osservice.application.dto.OrdemServicoResponseDTO.HistoricoStatusDTO;
+import br.com.grupo99.osservice.domain.model.StatusOS;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Serializer escrito à mão para {@link OrdemServicoResponseDTO}, a resposta
+ * mais frequente da API. Mantém a mesma ordem de campos e o mesmo formato de
+ * data ({@code @JsonFormat}) da serialização por reflexão.
+ */
+class OrdemServicoResponseSerializer extends StdSerializer<OrdemServicoResponseDTO> {
+
+    OrdemServicoResponseSerializer() {
+        super(OrdemServicoResponseDTO.class);
+    }
+
+    @Override
+    public void serialize(OrdemServicoResponseDTO dto, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        gen.writeStartObject(dto);
+        escreverUuid(gen, "id", dto.getId());
+        escreverUuid(gen, "clienteId", dto.getClienteId());
+        escreverUuid(gen, "veiculoId", dto.getVeiculoId());
+        escreverStatus(gen, "status", dto.getStatus());
+        gen.writeStringField("descricaoProblema", dto.getDescricaoProblema());
+        gen.writeFieldName("valorTotal");
+        if (dto.getValorTotal() != null) {
+            gen.writeNumber(dto.getValorTotal());
+        } else {
+            gen.writeNull();
+        }
+        gen.writeFieldName("dataCriacao");
+        DataHoraJson.escreverPadraoDto(gen, dto.getDataCriacao());
+        gen.writeFieldName("dataFinalizacao");
+        DataHoraJson.escreverPadraoDto(gen, dto.getDataFinalizacao());
+        gen.writeFieldName("dataEntrega");
+        DataHoraJson.escreverPadraoDto(gen, dto.getDataEntrega());
+
+        gen.writeFieldName("historico");
+        List<HistoricoStatusDTO> historico = dto.getHistorico();
+        if (historico == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartArray(historico, historico.size());
+            for (HistoricoStatusDTO h : historico) {
+                escreverHistorico(gen, h);
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndObject();
+    }
+
+    private static void escreverHistorico(JsonGenerator gen, HistoricoStatusDTO h) throws IOException {
+        if (h == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject(h);
+        escreverStatus(gen, "statusAnterior", h.getStatusAnterior());
+        escreverStatus(gen, "novoStatus", h.getNovoStatus());
+        gen.writeStringField("observacao", h.getObservacao());
+        gen.writeStringField("usuarioAlteracao", h.getUsuarioAlteracao());
+        gen.writeFieldName("dataAlteracao");
+        DataHoraJson.escreverPadraoDto(gen, h.getDataAlteracao());
+        gen.writeEndObject();
+    }
+
+    static void escreverUuid(JsonGenerator gen, String campo, UUID valor) throws IOException {
+        gen.writeStringField(campo, valor != null ? valor.toString() : null);
+    }
+
+    private static void escreverStatus(JsonGenerator gen, String campo, StatusOS valor) throws IOException {
+        gen.writeStringField(campo, valor != null ? valor.name() : null);
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.grupo99.osservice.infrastructure.serialization;
+
+import br.com.grupo99.osservice.application.dto.OrdemServicoResponseDTO;
+import br.com.grupo99.osservice.application.events.OSCanceladaEvent;
+import br.com.grupo99.osservice.application.events.OSCriadaEvent;
+import br.com.grupo99.osservice.application.events.StatusMudadoEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.kafka.support.JacksonUtils;
+
+/**
+ * Módulo Jackson com os serializers escritos à mão para os tipos mais
+ * serializados do serviço (resposta de OS e eventos da Saga).
+ *
+ * Demais tipos continuam usando reflexão, acelerada pelo
+ * {@link BlackbirdModule}.
+ */
+public class OsServiceJacksonModule extends SimpleModule {
+
+    public OsServiceJacksonModule() {
+        super("OsServiceJacksonModule");
+        addSerializer(OrdemServicoResponseDTO.class, new OrdemServicoResponseSerializer());
+        addSerializer(OSCriadaEvent.class, new EventoSerializers.OSCriada());
+        addSerializer(StatusMudadoEvent.class, new EventoSerializers.StatusMudado());
+        addSerializer(OSCanceladaEvent.class, new EventoSerializers.OSCancelada());
+    }
+
+    /**
+     * ObjectMapper do producer Kafka: mesma configuração do JsonSerializer
+     * padrão do Spring Kafka (datas como array), mais os módulos de
+     * desempenho. O formato no tópico não muda.
+     */
+    public static ObjectMapper kafkaObjectMapper() {
+        return JacksonUtils.enhancedObjectMapper()
+                .registerModule(new BlackbirdModule())
+                .registerModule(new OsServiceJacksonModule());
+    }
+}
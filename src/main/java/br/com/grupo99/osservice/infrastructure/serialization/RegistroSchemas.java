@@ -0,0 +1,173 @@
+package br.com.grupo99.osservice.infrastructure.serialization;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Registro de schemas dos eventos binários, lido de arquivos JSON no
+ * classpath ({@value #LOCAL_PADRAO}), no lugar de um schema registry externo.
+ *
+ * A evolução é validada na carga: uma versão nova deve repetir, na mesma
+ * ordem e com o mesmo tipo, todos os campos da anterior, e só pode
+ * acrescentar campos opcionais no fim. Assim um leitor novo lê dados antigos
+ * (campos ausentes ficam nulos) e um leitor antigo lê dados novos (decodifica
+ * o prefixo que conhece e ignora o resto). Schema incompatível impede a
+ * subida do serviço.
+ */
+public final class RegistroSchemas {
+
+    public static final String LOCAL_PADRAO = "classpath*:schemas/*.json";
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private final Map<Integer, NavigableMap<Integer, SchemaEvento>> porId;
+    private final Map<String, SchemaEvento> ultimaPorNome;
+
+    private RegistroSchemas(Map<Integer, NavigableMap<Integer, SchemaEvento>> porId) {
+        this.porId = porId;
+        Map<String, SchemaEvento> ultimas = new HashMap<>();
+        porId.values().forEach(versoes -> ultimas.put(versoes.lastEntry().getValue().name(),
+                versoes.lastEntry().getValue()));
+        this.ultimaPorNome = Map.copyOf(ultimas);
+    }
+
+    private static final class Padrao {
+        private static final RegistroSchemas INSTANCIA = carregar(LOCAL_PADRAO);
+    }
+
+    /**
+     * Schemas empacotados com o serviço.
+     */
+    public static RegistroSchemas padrao() {
+        return Padrao.INSTANCIA;
+    }
+
+    public static RegistroSchemas carregar(String local) {
+        List<SchemaEvento> schemas = new ArrayList<>();
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(local)) {
+                try (InputStream in = resource.getInputStream()) {
+                    schemas.add(MAPPER.readValue(in, SchemaEvento.class));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler os schemas de " + local, e);
+        }
+        return de(schemas);
+    }
+
+    /**
+     * Monta o registro validando ids, nomes e a compatibilidade entre versões.
+     *
+     * @throws IllegalStateException se algum schema for inválido ou incompatível
+     */
+    public static RegistroSchemas de(Collection<SchemaEvento> schemas) {
+        Map<Integer, NavigableMap<Integer, SchemaEvento>> porId = new HashMap<>();
+        Map<String, Integer> idPorNome = new HashMap<>();
+        for (SchemaEvento schema : schemas) {
+            validarCampos(schema);
+            Integer id = idPorNome.putIfAbsent(schema.name(), schema.id());
+            if (id != null && id != schema.id()) {
+                throw new IllegalStateException("Schema " + schema.name() + " com ids diferentes: " + id + " e "
+                        + schema.id());
+            }
+            NavigableMap<Integer, SchemaEvento> versoes = porId.computeIfAbsent(schema.id(), k -> new TreeMap<>());
+            SchemaEvento anterior = versoes.put(schema.version(), schema);
+            if (anterior != null) {
+                throw new IllegalStateException("Schema " + schema.id() + " v" + schema.version() + " duplicado");
+            }
+            if (!versoes.firstEntry().getValue().name().equals(schema.name())) {
+                throw new IllegalStateException("Id " + schema.id() + " usado por "
+                        + versoes.firstEntry().getValue().name() + " e " + schema.name());
+            }
+        }
+        porId.values().forEach(RegistroSchemas::validarEvolucao);
+        porId.replaceAll((id, versoes) -> Collections.unmodifiableNavigableMap(versoes));
+        return new RegistroSchemas(Map.copyOf(porId));
+    }
+
+    private static void validarCampos(SchemaEvento schema) {
+        if (schema.name() == null || schema.version() < 1 || schema.fields().isEmpty()) {
+            throw new IllegalStateException("Schema " + schema.id() + " sem nome, versão ou campos");
+        }
+        Set<String> nomes = new HashSet<>();
+        for (SchemaEvento.Campo campo : schema.fields()) {
+            if (campo.type() == null || !nomes.add(campo.name())) {
+                throw new IllegalStateException("Campo " + campo.name() + " inválido ou repetido em "
+                        + schema.name() + " v" + schema.version());
+            }
+        }
+    }
+
+    private static void validarEvolucao(NavigableMap<Integer, SchemaEvento> versoes) {
+        SchemaEvento anterior = null;
+        for (SchemaEvento atual : versoes.values()) {
+            if (anterior != null) {
+                List<SchemaEvento.Campo> antigos = anterior.fields();
+                List<SchemaEvento.Campo> novos = atual.fields();
+                if (novos.size() < antigos.size() || !novos.subList(0, antigos.size()).equals(antigos)) {
+                    throw new IllegalStateException(atual.name() + " v" + atual.version()
+                            + " incompatível com v" + anterior.version()
+                            + ": campos existentes não podem ser removidos, reordenados ou alterados");
+                }
+                for (SchemaEvento.Campo novo : novos.subList(antigos.size(), novos.size())) {
+                    if (!novo.optional()) {
+                        throw new IllegalStateException(atual.name() + " v" + atual.version() + ": campo novo "
+                                + novo.name() + " deve ser opcional");
+                    }
+                }
+            }
+            anterior = atual;
+        }
+    }
+
+    /**
+     * Versão mais recente do schema, usada na escrita.
+     */
+    public SchemaEvento ultima(String nome) {
+        SchemaEvento schema = ultimaPorNome.get(nome);
+        if (schema == null) {
+            throw new IllegalArgumentException("Schema não registrado: " + nome);
+        }
+        return schema;
+    }
+
+    /**
+     * Schema com que um payload foi escrito. Versão mais nova que a conhecida
+     * é lida pela última versão local (prefixo compatível).
+     *
+     * @return null se o id não for conhecido
+     */
+    public SchemaEvento escrita(int id, int versao) {
+        NavigableMap<Integer, SchemaEvento> versoes = porId.get(id);
+        if (versoes == null) {
+            return null;
+        }
+        SchemaEvento exata = versoes.get(versao);
+        if (exata != null) {
+            return exata;
+        }
+        return versao > versoes.lastKey() ? versoes.lastEntry().getValue() : null;
+    }
+}
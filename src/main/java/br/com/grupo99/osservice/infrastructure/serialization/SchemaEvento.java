@@ -0,0 +1,37 @@
+package br.com.grupo99.osservice.infrastructure.serialization;
+
+import java.util.List;
+
+/**
+ * Versão de um schema de evento do {@link RegistroSchemas}.
+ *
+ * O {@code id} identifica o evento em todas as versões e vai no cabeçalho
+ * do payload binário junto com a versão. O {@code eventType} não faz parte
+ * do corpo (já está no header do registro Kafka): é restaurado na leitura.
+ */
+public record SchemaEvento(int id, String name, int version, String eventType, List<Campo> fields) {
+
+    public SchemaEvento {
+        fields = List.copyOf(fields);
+    }
+
+    /**
+     * Campo do schema, na ordem de escrita. Opcionais levam um byte de
+     * presença antes do valor.
+     */
+    public record Campo(String name, Tipo type, boolean optional) {
+    }
+
+    public enum Tipo {
+        /** 16 bytes (mais e menos significativos, big-endian) */
+        UUID,
+        /** tamanho (varint) + UTF-8 */
+        STRING,
+        /** segundos desde a época (zigzag varint) + nanos (varint), sem fuso, como o LocalDateTime */
+        TIMESTAMP,
+        /** 1 byte */
+        BOOLEAN,
+        /** escala (zigzag varint) + valor não escalado (tamanho + complemento de dois) */
+        DECIMAL
+    }
+}
@@ -0,0 +1,295 @@
+package br.com.grupo99.osservice.infrastructure.stream;
+
+import br.com.grupo99.osservice.application.events.StatusMudadoEvent;
+import br.com.grupo99.osservice.domain.event.EventoOrdemServico;
+import br.com.grupo99.osservice.domain.event.EventosOrdemServico;
+import br.com.grupo99.osservice.domain.model.StatusOS;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Fan-out de mudanças de status de OS para clientes conectados via
+ * Server-Sent Events.
+ *
+ * Os assinantes são indexados por cliente e por OS. Cada mudança de status é
+ * serializada uma única vez e enfileirada no buffer limitado de cada
+ * assinante interessado; a escrita na conexão é feita por um pool pequeno de
+ * threads, então milhares de conexões ociosas custam apenas memória.
+ *
+ * A escrita no socket é bloqueante: um envio que passa de
+ * {@code stream.send-timeout-ms} desconecta o assinante e, até a escrita
+ * presa retornar (timeout de escrita do container), o pool ganha uma thread
+ * no lugar da que ficou presa. Conexões lentas não param a entrega das
+ * demais.
+ *
+ * As mudanças chegam pelos eventos do agregado, só depois do commit da
+ * transação que as gravou: um rollback nunca é anunciado aos assinantes.
+ */
+@Slf4j
+@Component
+public class StatusStreamBroadcaster {
+
+    static final String EVENT_STATUS_MUDADO = "STATUS_MUDADO";
+
+    // Limite de threads extras no lugar de envios presos, por thread do pool
+    private static final int FATOR_MAXIMO_COMPENSACAO = 4;
+
+    private final Map<UUID, Set<StatusStreamSubscriber>> assinantesPorCliente = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<StatusStreamSubscriber>> assinantesPorOrdem = new ConcurrentHashMap<>();
+    private final AtomicInteger totalAssinantes = new AtomicInteger();
+    // Despejados cuja escrita ainda não retornou
+    private final Set<StatusStreamSubscriber> enviosPresos = ConcurrentHashMap.newKeySet();
+
+    private final ObjectWriter eventWriter;
+    private final ThreadPoolExecutor deliveryExecutor;
+    private final ScheduledExecutorService heartbeatScheduler;
+    private final int bufferSize;
+    private final long timeoutMs;
+    private final int maxSubscribers;
+    private final int deliveryThreads;
+    private final int enviosPorVez;
+    private final long sendTimeoutMs;
+
+    public StatusStreamBroadcaster(
+            ObjectMapper objectMapper,
+            @Value("${stream.buffer-size:32}") int bufferSize,
+            @Value("${stream.timeout-ms:1800000}") long timeoutMs,
+            @Value("${stream.max-subscribers:20000}") int maxSubscribers,
+            @Value("${stream.delivery-threads:4}") int deliveryThreads,
+            @Value("${stream.heartbeat-interval-ms:30000}") long heartbeatIntervalMs,
+            @Value("${stream.sends-per-turn:8}") int enviosPorVez,
+            @Value("${stream.send-timeout-ms:5000}") long sendTimeoutMs) {
+        this.eventWriter = objectMapper.writerFor(StatusMudadoEvent.class);
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+        this.maxSubscribers = maxSubscribers;
+        this.deliveryThreads = deliveryThreads;
+        this.enviosPorVez = enviosPorVez;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.deliveryExecutor = new ThreadPoolExecutor(deliveryThreads, deliveryThreads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), daemon("sse-delivery-"));
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(daemon("sse-heartbeat-"));
+        this.heartbeatScheduler.scheduleAtFixedRate(this::enviarHeartbeat,
+                heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+        this.heartbeatScheduler.scheduleAtFixedRate(this::verificarEnvios,
+                sendTimeoutMs, sendTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Abre um stream com as mudanças de status de todas as OS de um cliente.
+     */
+    public SseEmitter assinarCliente(UUID clienteId) {
+        return assinar(assinantesPorCliente, clienteId);
+    }
+
+    /**
+     * Abre um stream com as mudanças de status de uma OS específica.
+     */
+    public SseEmitter assinarOrdem(UUID osId) {
+        return assinar(assinantesPorOrdem, osId);
+    }
+
+    /**
+     * Notifica as mudanças de status de uma OS após o commit (API e
+     * consumidores Kafka gravam pelo repositório, que publica os eventos).
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void notificar(EventosOrdemServico eventos) {
+        for (EventoOrdemServico evento : eventos.eventos()) {
+            switch (evento) {
+                case EventoOrdemServico.StatusMudado mudado -> publicar(eventos.osId(), eventos.clienteId(),
+                        mudado.statusAnterior(), mudado.statusNovo());
+                case EventoOrdemServico.OSCancelada cancelada -> publicar(eventos.osId(), eventos.clienteId(),
+                        cancelada.statusAnterior(), StatusOS.CANCELADA);
+                case EventoOrdemServico.OSCriada criada -> {
+                    // Criação não é mudança de status: nada a notificar
+                }
+            }
+        }
+    }
+
+    /**
+     * Notifica os assinantes da OS e do cliente de uma transição de status já
+     * confirmada no banco.
+     */
+    public void publicar(UUID osId, UUID clienteId, StatusOS statusAnterior, StatusOS statusNovo) {
+        if (osId == null || statusNovo == null) {
+            return;
+        }
+        Set<StatusStreamSubscriber> porOrdem = assinantesPorOrdem.get(osId);
+        Set<StatusStreamSubscriber> porCliente = clienteId != null
+                ? assinantesPorCliente.get(clienteId)
+                : null;
+        if (porOrdem == null && porCliente == null) {
+            return;
+        }
+
+        StatusMudadoEvent event = new StatusMudadoEvent(
+                osId,
+                statusAnterior != null ? statusAnterior.name() : null,
+                statusNovo.name(),
+                LocalDateTime.now(),
+                EVENT_STATUS_MUDADO);
+
+        Set<ResponseBodyEmitter.DataWithMediaType> dados;
+        try {
+            dados = SseEmitter.event()
+                    .name(EVENT_STATUS_MUDADO)
+                    .data(eventWriter.writeValueAsString(event), MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.error("❌ Erro ao serializar evento SSE da OS {}: {}", osId, e.getMessage());
+            return;
+        }
+
+        if (porOrdem != null) {
+            porOrdem.forEach(s -> s.offer(dados));
+        }
+        if (porCliente != null) {
+            porCliente.forEach(s -> s.offer(dados));
+        }
+    }
+
+    public int getTotalAssinantes() {
+        return totalAssinantes.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatScheduler.shutdownNow();
+        assinantesPorCliente.values().forEach(set -> set.forEach(StatusStreamSubscriber::close));
+        assinantesPorOrdem.values().forEach(set -> set.forEach(StatusStreamSubscriber::close));
+        deliveryExecutor.shutdown();
+    }
+
+    private SseEmitter assinar(Map<UUID, Set<StatusStreamSubscriber>> indice, UUID chave) {
+        if (totalAssinantes.incrementAndGet() > maxSubscribers) {
+            totalAssinantes.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Limite de conexões de stream atingido");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        StatusStreamSubscriber subscriber = new StatusStreamSubscriber(emitter, bufferSize, enviosPorVez,
+                deliveryExecutor);
+        subscriber.onClose(() -> remover(indice, chave, subscriber));
+
+        indice.compute(chave, (k, set) -> {
+            Set<StatusStreamSubscriber> assinantes = set != null ? set : ConcurrentHashMap.newKeySet();
+            assinantes.add(subscriber);
+            return assinantes;
+        });
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        log.debug("📡 Novo assinante SSE {} para {}. Total: {}", subscriber.getId(), chave, totalAssinantes.get());
+        return emitter;
+    }
+
+    private void remover(Map<UUID, Set<StatusStreamSubscriber>> indice, UUID chave,
+            StatusStreamSubscriber subscriber) {
+        boolean[] removido = { false };
+        indice.computeIfPresent(chave, (k, set) -> {
+            removido[0] = set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+        if (removido[0]) {
+            totalAssinantes.decrementAndGet();
+        }
+    }
+
+    private void enviarHeartbeat() {
+        try {
+            Set<ResponseBodyEmitter.DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+            // Só envia para quem está ocioso: heartbeat não deve causar eviction
+            assinantesPorCliente.values().forEach(set -> set.forEach(s -> {
+                if (s.isIdle()) {
+                    s.offer(heartbeat);
+                }
+            }));
+            assinantesPorOrdem.values().forEach(set -> set.forEach(s -> {
+                if (s.isIdle()) {
+                    s.offer(heartbeat);
+                }
+            }));
+        } catch (Exception e) {
+            log.warn("⚠️ Falha ao enviar heartbeat SSE: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Despeja os assinantes com envio acima do prazo e repõe no pool as
+     * threads presas nas escritas deles.
+     */
+    void verificarEnvios() {
+        try {
+            long agora = System.nanoTime();
+            long prazo = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+            enviosPresos.removeIf(s -> !s.isEnviando());
+            Consumer<StatusStreamSubscriber> verificar = s -> {
+                if (s.envioExpirado(agora, prazo)) {
+                    log.warn("🐢 Assinante SSE {} lento - envio acima de {} ms, desconectando",
+                            s.getId(), sendTimeoutMs);
+                    enviosPresos.add(s);
+                    s.despejar();
+                }
+            };
+            assinantesPorCliente.values().forEach(set -> set.forEach(verificar));
+            assinantesPorOrdem.values().forEach(set -> set.forEach(verificar));
+            ajustarPool(deliveryThreads + Math.min(enviosPresos.size(), deliveryThreads * FATOR_MAXIMO_COMPENSACAO));
+        } catch (Exception e) {
+            log.warn("⚠️ Falha ao verificar envios SSE: {}", e.getMessage());
+        }
+    }
+
+    int getTamanhoPoolEntrega() {
+        return deliveryExecutor.getCorePoolSize();
+    }
+
+    private void ajustarPool(int threads) {
+        // O máximo nunca pode ficar abaixo do core: a ordem depende do sentido
+        if (threads > deliveryExecutor.getMaximumPoolSize()) {
+            deliveryExecutor.setMaximumPoolSize(threads);
+            deliveryExecutor.setCorePoolSize(threads);
+        } else if (threads < deliveryExecutor.getCorePoolSize()) {
+            deliveryExecutor.setCorePoolSize(threads);
+            deliveryExecutor.setMaximumPoolSize(threads);
+        }
+    }
+
+    private static java.util.concurrent.ThreadFactory daemon(String prefixo) {
+        AtomicInteger contador = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefixo + contador.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
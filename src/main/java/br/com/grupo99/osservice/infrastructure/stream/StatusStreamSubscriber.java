@@ -0,0 +1,164 @@
+package br.com.grupo99.osservice.infrastructure.stream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Assinante de um stream SSE de mudanças de status.
+ *
+ * Cada assinante possui um buffer limitado de eventos já serializados. A
+ * entrega é feita por um executor compartilhado e nunca há mais de uma tarefa
+ * de entrega pendente por assinante, de modo que conexões ociosas não ocupam
+ * threads. Cada vez na thread de entrega envia no máximo {@code enviosPorVez}
+ * eventos; o restante volta para o fim da fila do executor, atrás dos outros
+ * assinantes. Quando o buffer enche, ou quando um envio passa do prazo
+ * ({@link #envioExpirado}), o assinante é considerado lento e é desconectado
+ * (o cliente reconecta e consulta o estado atual).
+ */
+@Slf4j
+class StatusStreamSubscriber {
+
+    private final UUID id = UUID.randomUUID();
+    private final SseEmitter emitter;
+    private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> buffer;
+    private final int enviosPorVez;
+    private final Executor deliveryExecutor;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final AtomicBoolean completado = new AtomicBoolean(false);
+    // System.nanoTime() do início do envio em andamento; 0 sem envio
+    private volatile long envioDesde;
+    private volatile Runnable onClose = () -> {
+    };
+
+    StatusStreamSubscriber(SseEmitter emitter, int bufferSize, int enviosPorVez, Executor deliveryExecutor) {
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.enviosPorVez = Math.max(1, enviosPorVez);
+        this.deliveryExecutor = deliveryExecutor;
+    }
+
+    UUID getId() {
+        return id;
+    }
+
+    void onClose(Runnable callback) {
+        this.onClose = callback;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    boolean isIdle() {
+        return buffer.isEmpty();
+    }
+
+    boolean isEnviando() {
+        return envioDesde != 0;
+    }
+
+    /**
+     * Indica se o envio em andamento começou há mais de {@code prazoNanos}:
+     * a conexão não está consumindo e segura uma thread de entrega.
+     */
+    boolean envioExpirado(long agoraNanos, long prazoNanos) {
+        long desde = envioDesde;
+        return desde != 0 && agoraNanos - desde > prazoNanos;
+    }
+
+    /**
+     * Enfileira um evento para entrega.
+     *
+     * @return false se o buffer estava cheio e o assinante foi desconectado
+     */
+    boolean offer(Set<ResponseBodyEmitter.DataWithMediaType> evento) {
+        if (closed.get()) {
+            return false;
+        }
+        if (!buffer.offer(evento)) {
+            log.warn("🐢 Assinante SSE {} lento - buffer cheio, desconectando", id);
+            close();
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            buffer.clear();
+            completar();
+            onClose.run();
+        }
+    }
+
+    /**
+     * Desconecta o assinante com um envio preso. O emitter fica travado pela
+     * escrita em andamento: se ela ainda não retornou, quem o completa é a
+     * thread de entrega, quando a escrita terminar ou falhar.
+     */
+    void despejar() {
+        if (closed.compareAndSet(false, true)) {
+            buffer.clear();
+            onClose.run();
+        }
+        if (!isEnviando()) {
+            completar();
+        }
+    }
+
+    private void completar() {
+        if (completado.compareAndSet(false, true)) {
+            emitter.complete();
+        }
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            deliveryExecutor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            int enviados = 0;
+            Set<ResponseBodyEmitter.DataWithMediaType> evento;
+            while (enviados < enviosPorVez && !closed.get() && (evento = buffer.poll()) != null) {
+                enviar(evento);
+                enviados++;
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Conexão SSE {} encerrada pelo cliente: {}", id, e.getMessage());
+            close();
+        } finally {
+            draining.set(false);
+        }
+        if (closed.get()) {
+            // Despejado durante o envio: o emitter só agora está livre
+            completar();
+        } else if (!buffer.isEmpty()) {
+            // Restante do buffer (ou evento que chegou entre o último poll e a
+            // liberação do flag) volta para o fim da fila do executor
+            scheduleDrain();
+        }
+    }
+
+    private void enviar(Set<ResponseBodyEmitter.DataWithMediaType> evento) throws IOException {
+        envioDesde = System.nanoTime();
+        try {
+            emitter.send(evento);
+        } finally {
+            envioDesde = 0;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+-- Índices compostos para a timeline paginada por cursor (keyset)
+-- ORDER BY data_criacao DESC, id DESC por cliente e por veículo
+CREATE INDEX idx_os_cliente_timeline ON ordem_servico(cliente_id, data_criacao DESC, id DESC);
+CREATE INDEX idx_os_veiculo_timeline ON ordem_servico(veiculo_id, data_criacao DESC, id DESC) INCLUDE (cliente_id);
+
+-- Os índices simples ficam redundantes (mesmo prefixo)
+DROP INDEX IF EXISTS idx_os_cliente;
+DROP INDEX IF EXISTS idx_os_veiculo;
@@ -0,0 +1,13 @@
+-- Inbox do consumidor Kafka: eventos já aplicados, gravados na mesma
+-- transação da mudança de status (consumo idempotente)
+CREATE TABLE IF NOT EXISTS evento_processado (
+    chave VARCHAR(200) PRIMARY KEY,
+    topico VARCHAR(100) NOT NULL,
+    processado_em TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Expurgo dos registros antigos (redeliveries só ocorrem em janelas curtas)
+CREATE INDEX idx_evento_processado_data ON evento_processado(processado_em);
+
+COMMENT ON TABLE evento_processado IS 'Eventos Kafka consumidos, para descartar reentregas';
+COMMENT ON COLUMN evento_processado.chave IS 'eventId do produtor ou topico:particao:offset';
@@ -0,0 +1,23 @@
+-- Outbox transacional: eventos da Saga gravados na mesma transação da
+-- mudança da OS e publicados no Kafka pelo OutboxRelay
+CREATE TABLE IF NOT EXISTS outbox (
+    id BIGSERIAL PRIMARY KEY,
+    evento_id UUID NOT NULL UNIQUE,
+    agregado_id UUID NOT NULL,
+    topico VARCHAR(100) NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload TEXT NOT NULL,
+    cabecalhos TEXT,
+    criado_em TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    publicado_em TIMESTAMP
+);
+
+-- Fila de pendentes (o relay lê em ordem de id); só as linhas não publicadas
+CREATE INDEX idx_outbox_pendente ON outbox(id) WHERE publicado_em IS NULL;
+
+-- Expurgo das linhas já publicadas
+CREATE INDEX idx_outbox_publicado_em ON outbox(publicado_em) WHERE publicado_em IS NOT NULL;
+
+COMMENT ON TABLE outbox IS 'Eventos a publicar no Kafka (transactional outbox)';
+COMMENT ON COLUMN outbox.evento_id IS 'Enviado no header eventId (deduplicação nos consumidores)';
+COMMENT ON COLUMN outbox.cabecalhos IS 'Headers Kafka adicionais, em JSON';
@@ -0,0 +1,14 @@
+-- Aviso de novos eventos no outbox: o OutboxRelay escuta o canal com LISTEN
+-- e drena logo após o commit, sem polling frequente da tabela
+CREATE OR REPLACE FUNCTION notificar_outbox() RETURNS trigger AS $$
+BEGIN
+    -- Payload fixo: o Postgres entrega uma única notificação por transação
+    PERFORM pg_notify('outbox_pendente', '');
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_outbox_notificar
+    AFTER INSERT ON outbox
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notificar_outbox();
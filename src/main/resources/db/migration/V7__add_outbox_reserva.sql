@@ -0,0 +1,9 @@
+-- Reserva das linhas em envio: o relay trava e reserva um lote numa
+-- transação curta, envia fora dela e marca os publicados em outra. Uma
+-- reserva vencida (pod que caiu no meio do envio) volta a ser elegível.
+ALTER TABLE outbox ADD COLUMN reservado_ate TIMESTAMP;
+
+-- Evento pendente mais antigo de cada OS (ordem de publicação por agregado)
+CREATE INDEX idx_outbox_pendente_agregado ON outbox(agregado_id, id) WHERE publicado_em IS NULL;
+
+COMMENT ON COLUMN outbox.reservado_ate IS 'Reserva de envio pelo OutboxRelay; vencida, a linha volta a ser elegível';
@@ -76,20 +76,9 @@ public class SagaPatternSteps {
                 dados.get("veiculoPlaca"),
                 dados.get("descricao"));
 
+        // O save publica o OS_CRIADA registrado pelo agregado
         ordemServico = ordemServicoRepository.save(ordemServico);
         osId = ordemServico.getId();
-
-        // Simula publicação do evento
-        OSCriadaEvent evento = new OSCriadaEvent(
-                ordemServico.getId(),
-                ordemServico.getClienteId(),
-                ordemServico.getVeiculoId(),
-                ordemServico.getDescricaoProblema(),
-                LocalDateTime.now(),
-                "OS_CRIADA");
-
-        doNothing().when(eventPublisher).publishOSCriada(any(OSCriadaEvent.class));
-        eventPublisher.publishOSCriada(evento);
     }
 
     @Então("o evento {string} deve ser publicado na fila {string}")
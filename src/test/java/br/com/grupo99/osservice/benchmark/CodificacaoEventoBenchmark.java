@@ -0,0 +1,98 @@
+package br.com.grupo99.osservice.benchmark;
+
+import br.com.grupo99.osservice.application.events.OSCanceladaEvent;
+import br.com.grupo99.osservice.application.events.OSCriadaEvent;
+import br.com.grupo99.osservice.application.events.StatusMudadoEvent;
+import br.com.grupo99.osservice.infrastructure.serialization.ChaveUuidSerializer;
+import br.com.grupo99.osservice.infrastructure.serialization.EventosBinarios;
+import br.com.grupo99.osservice.infrastructure.serialization.OsServiceJacksonModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Eventos da Saga em JSON (Jackson do Kafka) versus o formato binário do
+ * {@link EventosBinarios}: tempo de escrita e leitura por evento. Os bytes
+ * por evento (payload e chave) são impressos no setup.
+ *
+ * Execução: mvn -Pbenchmark test -DskipTests -Djmh.includes=CodificacaoEventoBenchmark
+ * (o perfil usa -prof gc; ver gc.alloc.rate.norm para bytes alocados por op)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CodificacaoEventoBenchmark {
+
+    @Param({ "OS_CRIADA", "STATUS_MUDADO", "OS_CANCELADA" })
+    public String eventType;
+
+    private ObjectMapper json;
+    private EventosBinarios binarios;
+    private Object evento;
+    private Class<?> tipo;
+    private byte[] comoJson;
+    private byte[] comoBinario;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        json = OsServiceJacksonModule.kafkaObjectMapper();
+        binarios = EventosBinarios.padrao();
+
+        UUID osId = UUID.randomUUID();
+        LocalDateTime instante = LocalDateTime.of(2026, 2, 2, 16, 45, 12, 123_456_789);
+        evento = switch (eventType) {
+            case "OS_CRIADA" -> new OSCriadaEvent(osId, UUID.randomUUID(), UUID.randomUUID(),
+                    "Barulho no motor ao acelerar", instante, eventType);
+            case "STATUS_MUDADO" -> new StatusMudadoEvent(osId, "EM_EXECUCAO", "FINALIZADA", instante, eventType);
+            case "OS_CANCELADA" -> new OSCanceladaEvent(osId, "Orçamento rejeitado pelo cliente", "ORCAMENTO",
+                    instante, eventType);
+            default -> throw new IllegalArgumentException(eventType);
+        };
+        tipo = evento.getClass();
+        comoJson = json.writeValueAsBytes(evento);
+        comoBinario = binarios.codificar(evento);
+
+        int chaveTexto = osId.toString().getBytes(StandardCharsets.UTF_8).length;
+        int chaveBinaria = new ChaveUuidSerializer().serialize(null, osId.toString()).length;
+        System.out.printf("%n%s: payload %d bytes (JSON) / %d bytes (binário); chave %d / %d bytes%n",
+                eventType, comoJson.length, comoBinario.length, chaveTexto, chaveBinaria);
+    }
+
+    @Benchmark
+    public byte[] escritaJson() throws Exception {
+        return json.writeValueAsBytes(evento);
+    }
+
+    @Benchmark
+    public byte[] escritaBinaria() {
+        return binarios.codificar(evento);
+    }
+
+    @Benchmark
+    public Object leituraJson() throws Exception {
+        return json.readValue(comoJson, tipo);
+    }
+
+    @Benchmark
+    public Object leituraBinaria() {
+        return binarios.decodificar(comoBinario);
+    }
+}
@@ -0,0 +1,133 @@
+package br.com.grupo99.osservice.benchmark;
+
+import br.com.grupo99.osservice.infrastructure.security.jwt.JwtAuthenticationFilter;
+import br.com.grupo99.osservice.infrastructure.security.jwt.JwtUserDetails;
+import br.com.grupo99.osservice.infrastructure.security.jwt.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Custo por requisição do JwtAuthenticationFilter (autenticação + regras de
+ * acesso em uma passada) para um CLIENTE: token repetido (hit no cache de
+ * tokens verificados), parse único com chave e parser pré-computados (cache
+ * desativado), requisição negada (403) e o caminho anterior, que derivava a
+ * chave e validava a assinatura a cada claim lida (10 vezes por requisição).
+ *
+ * Execução: mvn -Pbenchmark test -DskipTests -Djmh.includes=JwtFilterChainBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtFilterChainBenchmark {
+
+    private static final String SEGREDO = "dGVzdC1zZWNyZXQta2V5LXdpdGgtbWluaW11bS0yNTYtYml0cy1mb3ItaHMyNTYtc2lnbmluZw==";
+    private static final FilterChain FIM = (request, response) -> {
+    };
+
+    private JwtAuthenticationFilter filtro;
+    private JwtAuthenticationFilter filtroSemCache;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        filtro = new JwtAuthenticationFilter(new JwtUtil(SEGREDO, 3_600_000L, 10_000));
+
+        JwtUtil semCache = new JwtUtil(SEGREDO, 3_600_000L, 0);
+        filtroSemCache = new JwtAuthenticationFilter(semCache);
+
+        token = Jwts.builder()
+                .setClaims(Map.of(
+                        "pessoaId", UUID.randomUUID().toString(),
+                        "numeroDocumento", "12345678900",
+                        "tipoPessoa", "FISICA",
+                        "perfil", "CLIENTE"))
+                .setSubject("cliente@email.com")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 86_400_000L))
+                .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(SEGREDO)))
+                .compact();
+    }
+
+    @Benchmark
+    public Object tokenRepetido() throws Exception {
+        return executar(filtro, "GET", "/api/v1/ordens-servico/123");
+    }
+
+    @Benchmark
+    public Object semCache() throws Exception {
+        return executar(filtroSemCache, "GET", "/api/v1/ordens-servico/123");
+    }
+
+    @Benchmark
+    public Object escritaNegada() throws Exception {
+        return executar(filtro, "PUT", "/api/v1/ordens-servico/123/status");
+    }
+
+    private Object executar(JwtAuthenticationFilter filtro, String metodo, String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(metodo, uri);
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filtro.doFilter(request, response, FIM);
+            return request.getAttribute("pessoaId") != null ? request.getAttribute("pessoaId") : response.getStatus();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    /**
+     * Reproduz o custo do caminho anterior: seis parses em extractUserDetails,
+     * dois em isTokenValid e dois no filtro de autorização, cada um derivando
+     * a chave HMAC e construindo um parser novo.
+     */
+    @Benchmark
+    public Object cadeiaLegada() {
+        JwtUserDetails userDetails = JwtUserDetails.from(
+                legado(Claims::getSubject),
+                legado(c -> c.get("pessoaId", String.class)),
+                legado(c -> c.get("numeroDocumento", String.class)),
+                legado(c -> c.get("tipoPessoa", String.class)),
+                legado(c -> c.get("cargo", String.class)),
+                legado(c -> c.get("perfil", String.class)));
+        boolean valido = legado(Claims::getSubject).equals(userDetails.getUsername())
+                && !legado(Claims::getExpiration).before(new Date());
+        String perfil = legado(c -> c.get("perfil", String.class));
+        String pessoaId = legado(c -> c.get("pessoaId", String.class));
+        return valido && "CLIENTE".equals(perfil) ? pessoaId : null;
+    }
+
+    private <T> T legado(Function<Claims, T> resolver) {
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Base64.getDecoder().decode(SEGREDO)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+        return resolver.apply(claims);
+    }
+}
@@ -0,0 +1,98 @@
+package br.com.grupo99.osservice.benchmark;
+
+import br.com.grupo99.osservice.infrastructure.security.ratelimit.RateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de uma decisão do rate limiter no caminho da requisição.
+ *
+ * Execução: mvn -Pbenchmark test -DskipTests -Djmh.includes=RateLimiterBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+    private static final int PESSOAS = 10_000;
+
+    private RateLimiter permissivo;
+    private RateLimiter restritivo;
+    private RateLimiter cheio;
+    private UUID[] pessoas;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Orçamentos altos: mede o caminho de requisição permitida
+        permissivo = new RateLimiter(1e9, 1_000_000, 1e9, 1_000_000, 1e9, 1_000_000, 100_000, 300_000);
+        // Orçamentos mínimos: mede o caminho de requisição negada (429)
+        restritivo = new RateLimiter(0.001, 1, 0.001, 1, 0.001, 1, 100_000, 300_000);
+        // Mapa já cheio (limite = PESSOAS): pessoas novas caem no overflow
+        cheio = new RateLimiter(1e9, 1_000_000, 1e9, 1_000_000, 1e9, 1_000_000, PESSOAS, 300_000);
+        pessoas = new UUID[PESSOAS];
+        for (int i = 0; i < PESSOAS; i++) {
+            pessoas[i] = UUID.randomUUID();
+            permissivo.tryAcquire(pessoas[i], "CLIENTE");
+            restritivo.tryAcquire(pessoas[i], "CLIENTE");
+            cheio.tryAcquire(pessoas[i], "CLIENTE");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        permissivo.shutdown();
+        restritivo.shutdown();
+        cheio.shutdown();
+    }
+
+    @Benchmark
+    public long permitidaMesmaPessoa() {
+        return permissivo.tryAcquire(pessoas[0], "CLIENTE");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long permitidaMesmaPessoaContendida() {
+        return permissivo.tryAcquire(pessoas[0], "CLIENTE");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long permitidaPessoasDistintas() {
+        return permissivo.tryAcquire(pessoas[ThreadLocalRandom.current().nextInt(PESSOAS)], "MECANICO");
+    }
+
+    /**
+     * Enxurrada de pessoas distintas com o mapa cheio: cada requisição é de
+     * uma pessoa nova.
+     */
+    @Benchmark
+    @Threads(4)
+    public long mapaCheioPessoasNovas() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return cheio.tryAcquire(new UUID(random.nextLong(), random.nextLong()), "CLIENTE");
+    }
+
+    @Benchmark
+    public long negada() {
+        return restritivo.tryAcquire(pessoas[0], "CLIENTE");
+    }
+}
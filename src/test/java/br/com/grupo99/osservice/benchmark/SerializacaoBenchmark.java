@@ -0,0 +1,106 @@
+package br.com.grupo99.osservice.benchmark;
+
+import br.com.grupo99.osservice.application.dto.OrdemServicoResponseDTO;
+import br.com.grupo99.osservice.application.events.StatusMudadoEvent;
+import br.com.grupo99.osservice.domain.model.StatusOS;
+import br.com.grupo99.osservice.infrastructure.serialization.OsServiceJacksonModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização da resposta de OS (REST) e do evento STATUS_MUDADO (Kafka):
+ * reflexão padrão versus Blackbird + serializers escritos à mão.
+ *
+ * Execução: mvn -Pbenchmark test -DskipTests -Djmh.includes=SerializacaoBenchmark
+ * (o perfil usa -prof gc; ver gc.alloc.rate.norm para bytes alocados por op)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializacaoBenchmark {
+
+    private ObjectWriter restReflexao;
+    private ObjectWriter restOtimizado;
+    private ObjectWriter kafkaReflexao;
+    private ObjectWriter kafkaOtimizado;
+    private OrdemServicoResponseDTO dto;
+    private StatusMudadoEvent evento;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper rest = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper restTuned = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new BlackbirdModule(), new OsServiceJacksonModule())
+                .build();
+        restReflexao = rest.writerFor(OrdemServicoResponseDTO.class);
+        restOtimizado = restTuned.writerFor(OrdemServicoResponseDTO.class);
+        kafkaReflexao = JacksonUtils.enhancedObjectMapper().writer();
+        kafkaOtimizado = OsServiceJacksonModule.kafkaObjectMapper().writer();
+
+        dto = new OrdemServicoResponseDTO();
+        dto.setId(UUID.randomUUID());
+        dto.setClienteId(UUID.randomUUID());
+        dto.setVeiculoId(UUID.randomUUID());
+        dto.setStatus(StatusOS.ENTREGUE);
+        dto.setDescricaoProblema("Barulho no motor ao acelerar");
+        dto.setValorTotal(new BigDecimal("1250.90"));
+        dto.setDataCriacao(LocalDateTime.of(2026, 1, 31, 10, 0));
+        dto.setDataFinalizacao(LocalDateTime.of(2026, 2, 2, 16, 45, 12));
+        dto.setDataEntrega(LocalDateTime.of(2026, 2, 3, 9, 15, 30));
+        List<OrdemServicoResponseDTO.HistoricoStatusDTO> historico = new ArrayList<>();
+        StatusOS[] fluxo = { StatusOS.RECEBIDA, StatusOS.EM_DIAGNOSTICO, StatusOS.AGUARDANDO_APROVACAO,
+                StatusOS.AGUARDANDO_PAGAMENTO, StatusOS.EM_EXECUCAO, StatusOS.FINALIZADA, StatusOS.ENTREGUE };
+        for (int i = 1; i < fluxo.length; i++) {
+            historico.add(new OrdemServicoResponseDTO.HistoricoStatusDTO(fluxo[i - 1], fluxo[i],
+                    "Transição " + i, "mecanico@oficina.com", LocalDateTime.of(2026, 2, 1, 8 + i, 0, 0)));
+        }
+        dto.setHistorico(historico);
+
+        evento = new StatusMudadoEvent(UUID.randomUUID(), "EM_EXECUCAO", "FINALIZADA",
+                LocalDateTime.of(2026, 2, 2, 16, 45, 12, 123_456_789), "STATUS_MUDADO");
+    }
+
+    @Benchmark
+    public byte[] respostaReflexao() throws Exception {
+        return restReflexao.writeValueAsBytes(dto);
+    }
+
+    @Benchmark
+    public byte[] respostaOtimizada() throws Exception {
+        return restOtimizado.writeValueAsBytes(dto);
+    }
+
+    @Benchmark
+    public byte[] eventoReflexao() throws Exception {
+        return kafkaReflexao.writeValueAsBytes(evento);
+    }
+
+    @Benchmark
+    public byte[] eventoOtimizado() throws Exception {
+        return kafkaOtimizado.writeValueAsBytes(evento);
+    }
+}
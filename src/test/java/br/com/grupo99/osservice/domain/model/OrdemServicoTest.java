@@ -1,8 +1,13 @@
 package br.com.grupo99.osservice.domain.model;
 
+import br.com.grupo99.osservice.domain.event.EventoOrdemServico;
+import br.com.grupo99.osservice.domain.exception.TransicaoInvalidaException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("OrdemServico - Testes Unitários")
@@ -195,4 +200,45 @@ class OrdemServicoTest {
                 () -> OrdemServico.criar("Cliente", "email@test.com", "11999999999", "III-9999", null));
     }
 
+    @Test
+    @DisplayName("Deve registrar eventos de criação, mudança de status e cancelamento na ordem")
+    void deveRegistrarEventosDeDominio() {
+        // Arrange
+        UUID clienteId = UUID.randomUUID();
+        UUID veiculoId = UUID.randomUUID();
+        OrdemServico os = new OrdemServico(clienteId, veiculoId, "Freio rangendo");
+
+        // Act
+        os.atualizarStatus(StatusOS.EM_DIAGNOSTICO, "Diagnóstico iniciado", "mecanico");
+        os.cancelar("Cliente desistiu", "atendente");
+        List<EventoOrdemServico> eventos = os.retirarEventos();
+
+        // Assert
+        assertEquals(3, eventos.size());
+        assertEquals(new EventoOrdemServico.OSCriada(clienteId, veiculoId, "Freio rangendo", os.getDataCriacao()),
+                eventos.get(0));
+        EventoOrdemServico.StatusMudado mudado = assertInstanceOf(EventoOrdemServico.StatusMudado.class,
+                eventos.get(1));
+        assertEquals(StatusOS.RECEBIDA, mudado.statusAnterior());
+        assertEquals(StatusOS.EM_DIAGNOSTICO, mudado.statusNovo());
+        EventoOrdemServico.OSCancelada cancelada = assertInstanceOf(EventoOrdemServico.OSCancelada.class,
+                eventos.get(2));
+        assertEquals(StatusOS.EM_DIAGNOSTICO, cancelada.statusAnterior());
+        assertEquals("Cliente desistiu", cancelada.motivo());
+        assertTrue(os.retirarEventos().isEmpty(), "retirar deve esvaziar os eventos pendentes");
+    }
+
+    @Test
+    @DisplayName("Transição recusada não deve registrar evento")
+    void transicaoRecusadaNaoDeveRegistrarEvento() {
+        // Arrange
+        OrdemServico os = new OrdemServico(UUID.randomUUID(), UUID.randomUUID(), "Troca de óleo");
+        os.retirarEventos();
+
+        // Act & Assert
+        assertThrows(TransicaoInvalidaException.class,
+                () -> os.atualizarStatus(StatusOS.ENTREGUE, "Pulo inválido", "mecanico"));
+        assertTrue(os.retirarEventos().isEmpty());
+    }
+
 }
@@ -0,0 +1,153 @@
+package br.com.grupo99.osservice.infrastructure.cache;
+
+import br.com.grupo99.osservice.application.dto.OrdemServicoResponseDTO;
+import br.com.grupo99.osservice.domain.model.OrdemServico;
+import br.com.grupo99.osservice.domain.repository.OrdemServicoRepository;
+import br.com.grupo99.osservice.infrastructure.security.jwt.JwtUserDetails;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OrdemServicoConsultaCoalescida")
+class OrdemServicoConsultaCoalescidaTest {
+
+    private OrdemServicoRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    private OrdemServicoConsultaCoalescida consulta;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(OrdemServicoRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        consulta = new OrdemServicoConsultaCoalescida(repository, meterRegistry);
+    }
+
+    private OrdemServico criarOS(UUID id) {
+        OrdemServico os = new OrdemServico(UUID.randomUUID(), UUID.randomUUID(), "Barulho no motor");
+        os.setId(id);
+        return os;
+    }
+
+    @Test
+    @DisplayName("Deve converter a OS para DTO")
+    void deveConverterParaDTO() {
+        UUID id = UUID.randomUUID();
+        when(repository.findById(id)).thenReturn(Optional.of(criarOS(id)));
+
+        Optional<OrdemServicoResponseDTO> dto = consulta.buscarPorId(id);
+
+        assertThat(dto).isPresent();
+        assertThat(dto.get().getId()).isEqualTo(id);
+        assertThat(consulta.buscarPorId(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Chamadas concorrentes para o mesmo ID devem compartilhar uma carga")
+    void deveCoalescerChamadasConcorrentes() throws Exception {
+        UUID id = UUID.randomUUID();
+        CountDownLatch cargaIniciada = new CountDownLatch(1);
+        CountDownLatch liberarCarga = new CountDownLatch(1);
+        when(repository.findById(id)).thenAnswer(inv -> {
+            cargaIniciada.countDown();
+            liberarCarga.await(5, TimeUnit.SECONDS);
+            return Optional.of(criarOS(id));
+        });
+
+        int chamadas = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(chamadas);
+        try {
+            List<Future<Optional<OrdemServicoResponseDTO>>> resultados = new ArrayList<>();
+            resultados.add(executor.submit(() -> consulta.buscarPorId(id)));
+            assertThat(cargaIniciada.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 1; i < chamadas; i++) {
+                resultados.add(executor.submit(() -> consulta.buscarPorId(id)));
+            }
+            // Aguarda as demais chamadas encontrarem a carga em andamento
+            while (meterRegistry.counter("os.consulta.coalescidas").count() < chamadas - 1) {
+                Thread.sleep(5);
+            }
+            liberarCarga.countDown();
+
+            for (Future<Optional<OrdemServicoResponseDTO>> resultado : resultados) {
+                assertThat(resultado.get(5, TimeUnit.SECONDS)).get()
+                        .extracting(OrdemServicoResponseDTO::getId).isEqualTo(id);
+            }
+        } finally {
+            liberarCarga.countDown();
+            executor.shutdownNow();
+        }
+
+        verify(repository, times(1)).findById(id);
+        assertThat(meterRegistry.get("os.consulta.em_andamento").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Falha na carga deve ser propagada e não deve ficar retida")
+    void falhaNaoDeveFicarRetida() {
+        UUID id = UUID.randomUUID();
+        when(repository.findById(id))
+                .thenThrow(new IllegalStateException("Banco indisponível"))
+                .thenReturn(Optional.of(criarOS(id)));
+
+        assertThatThrownBy(() -> consulta.buscarPorId(id)).isInstanceOf(IllegalStateException.class);
+        assertThat(consulta.buscarPorId(id)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Carga iniciada por um CLIENTE não deve ser compartilhada com outro escopo")
+    void naoDeveCompartilharCargaEntreEscopos() throws Exception {
+        UUID id = UUID.randomUUID();
+        CountDownLatch cargaIniciada = new CountDownLatch(1);
+        CountDownLatch liberarCarga = new CountDownLatch(1);
+        when(repository.findById(id)).thenAnswer(inv -> {
+            cargaIniciada.countDown();
+            liberarCarga.await(5, TimeUnit.SECONDS);
+            // No escopo do CLIENTE, a OS de outro cliente não existe
+            return Optional.empty();
+        }).thenReturn(Optional.of(criarOS(id)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            Future<Optional<OrdemServicoResponseDTO>> doCliente = executor.submit(() -> {
+                JwtUserDetails cliente = JwtUserDetails.from("cliente@email.com", UUID.randomUUID().toString(),
+                        "12345678900", "FISICA", null, "CLIENTE");
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(cliente, null, cliente.getAuthorities()));
+                try {
+                    return consulta.buscarPorId(id);
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            });
+            assertThat(cargaIniciada.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // Mecânico (sem escopo) faz a própria carga
+            assertThat(consulta.buscarPorId(id)).isPresent();
+            liberarCarga.countDown();
+            assertThat(doCliente.get(5, TimeUnit.SECONDS)).isEmpty();
+        } finally {
+            liberarCarga.countDown();
+            executor.shutdownNow();
+        }
+
+        verify(repository, times(2)).findById(id);
+        assertThat(meterRegistry.counter("os.consulta.coalescidas").count()).isZero();
+    }
+}
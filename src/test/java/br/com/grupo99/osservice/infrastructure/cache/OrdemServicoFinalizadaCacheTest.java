@@ -0,0 +1,142 @@
+package br.com.grupo99.osservice.infrastructure.cache;
+
+import br.com.grupo99.osservice.application.dto.OrdemServicoResponseDTO;
+import br.com.grupo99.osservice.domain.model.StatusOS;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OrdemServicoFinalizadaCache")
+class OrdemServicoFinalizadaCacheTest {
+
+    private ObjectMapper objectMapper;
+    private OrdemServicoFinalizadaCache cache;
+    private OrdemServicoFinalizadaCacheFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        cache = new OrdemServicoFinalizadaCache(objectMapper, new SimpleMeterRegistry(), 1024 * 1024, 256);
+        filter = new OrdemServicoFinalizadaCacheFilter(cache);
+    }
+
+    private OrdemServicoResponseDTO criarDTO(StatusOS status) {
+        OrdemServicoResponseDTO dto = new OrdemServicoResponseDTO();
+        dto.setId(UUID.randomUUID());
+        dto.setClienteId(UUID.randomUUID());
+        dto.setVeiculoId(UUID.randomUUID());
+        dto.setStatus(status);
+        dto.setDescricaoProblema("Troca de óleo e revisão completa ".repeat(20));
+        dto.setDataCriacao(LocalDateTime.of(2024, 1, 10, 8, 30));
+        dto.setDataEntrega(LocalDateTime.of(2024, 1, 12, 17, 0));
+        return dto;
+    }
+
+    private MockHttpServletRequest get(UUID id) {
+        return new MockHttpServletRequest("GET", OrdemServicoFinalizadaCacheFilter.PREFIXO + id);
+    }
+
+    @Test
+    @DisplayName("Deve armazenar apenas OS em estado final")
+    void deveArmazenarApenasEstadoFinal() {
+        OrdemServicoResponseDTO emExecucao = criarDTO(StatusOS.EM_EXECUCAO);
+        OrdemServicoResponseDTO entregue = criarDTO(StatusOS.ENTREGUE);
+
+        cache.armazenar(emExecucao);
+        cache.armazenar(entregue);
+
+        assertThat(cache.buscar(emExecucao.getId())).isEmpty();
+        assertThat(cache.buscar(entregue.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("Bytes armazenados devem ser idênticos à serialização do Jackson")
+    void bytesDevemSerIdenticos() throws Exception {
+        OrdemServicoResponseDTO dto = criarDTO(StatusOS.CANCELADA);
+        cache.armazenar(dto);
+
+        var resposta = cache.buscar(dto.getId()).orElseThrow();
+
+        assertThat(resposta.json()).isEqualTo(objectMapper.writeValueAsBytes(dto));
+        assertThat(resposta.gzip()).isNotNull();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(resposta.gzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(resposta.json());
+        }
+    }
+
+    @Test
+    @DisplayName("Filtro deve servir hit do cache com Cache-Control imutável")
+    void filtroDeveServirDoCache() throws Exception {
+        OrdemServicoResponseDTO dto = criarDTO(StatusOS.ENTREGUE);
+        cache.armazenar(dto);
+        FilterChain chain = mock(FilterChain.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(get(dto.getId()), response, chain);
+
+        verify(chain, never()).doFilter(any(), any());
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("Cache-Control")).isEqualTo(OrdemServicoFinalizadaCacheFilter.CACHE_CONTROL_IMUTAVEL);
+        assertThat(response.getHeader("ETag")).isNotBlank();
+        assertThat(response.getContentAsByteArray()).isEqualTo(objectMapper.writeValueAsBytes(dto));
+    }
+
+    @Test
+    @DisplayName("Filtro deve responder gzip quando aceito e 304 para ETag conhecido")
+    void filtroDeveResponderGzipE304() throws Exception {
+        OrdemServicoResponseDTO dto = criarDTO(StatusOS.ENTREGUE);
+        cache.armazenar(dto);
+        FilterChain chain = mock(FilterChain.class);
+
+        MockHttpServletRequest comGzip = get(dto.getId());
+        comGzip.addHeader("Accept-Encoding", "gzip, deflate");
+        MockHttpServletResponse gzip = new MockHttpServletResponse();
+        filter.doFilter(comGzip, gzip, chain);
+
+        assertThat(gzip.getHeader("Content-Encoding")).isEqualTo("gzip");
+
+        MockHttpServletRequest condicional = get(dto.getId());
+        condicional.addHeader("If-None-Match", gzip.getHeader("ETag"));
+        MockHttpServletResponse naoModificado = new MockHttpServletResponse();
+        filter.doFilter(condicional, naoModificado, chain);
+
+        assertThat(naoModificado.getStatus()).isEqualTo(304);
+        assertThat(naoModificado.getContentAsByteArray()).isEmpty();
+        verify(chain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("Filtro deve delegar ao controller em miss, após invalidação ou para CLIENTE de outra OS")
+    void filtroDeveDelegar() throws Exception {
+        OrdemServicoResponseDTO dto = criarDTO(StatusOS.ENTREGUE);
+        cache.armazenar(dto);
+        FilterChain chain = mock(FilterChain.class);
+
+        MockHttpServletRequest outroCliente = get(dto.getId());
+        outroCliente.setAttribute("perfil", "CLIENTE");
+        outroCliente.setAttribute("pessoaId", UUID.randomUUID().toString());
+        filter.doFilter(outroCliente, new MockHttpServletResponse(), chain);
+
+        filter.doFilter(get(UUID.randomUUID()), new MockHttpServletResponse(), chain);
+
+        cache.invalidar(dto.getId());
+        filter.doFilter(get(dto.getId()), new MockHttpServletResponse(), chain);
+
+        verify(chain, times(3)).doFilter(any(), any());
+    }
+}
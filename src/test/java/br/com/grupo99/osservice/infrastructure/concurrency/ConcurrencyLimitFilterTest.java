@@ -0,0 +1,98 @@
+package br.com.grupo99.osservice.infrastructure.concurrency;
+
+import br.com.grupo99.osservice.infrastructure.concurrency.ConcurrencyLimiter.Prioridade;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ConcurrencyLimitFilter")
+class ConcurrencyLimitFilterTest {
+
+    private ConcurrencyLimiter limiter;
+    private ConcurrencyLimitFilter filter;
+    private FilterChain filterChain;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new ConcurrencyLimiter(new SimpleMeterRegistry(), 2, 1, 10, 0.9, 0.5);
+        filter = new ConcurrencyLimitFilter(limiter);
+        filterChain = mock(FilterChain.class);
+    }
+
+    @Test
+    @DisplayName("Deve classificar escritas, leituras e listagens")
+    void deveClassificarRequisicoes() {
+        assertThat(ConcurrencyLimitFilter.classificar(new MockHttpServletRequest("PUT", "/api/v1/ordens-servico/1/status")))
+                .isEqualTo(Prioridade.ESCRITA);
+        assertThat(ConcurrencyLimitFilter.classificar(new MockHttpServletRequest("GET", "/api/v1/ordens-servico/1")))
+                .isEqualTo(Prioridade.LEITURA);
+        assertThat(ConcurrencyLimitFilter.classificar(new MockHttpServletRequest("GET", "/api/v1/ordens-servico")))
+                .isEqualTo(Prioridade.LISTAGEM);
+        assertThat(ConcurrencyLimitFilter.classificar(new MockHttpServletRequest("GET", "/api/v1/ordens-servico/status/RECEBIDA")))
+                .isEqualTo(Prioridade.LISTAGEM);
+        assertThat(ConcurrencyLimitFilter.classificar(new MockHttpServletRequest("GET", "/api/v1/clientes/1/ordens-servico")))
+                .isEqualTo(Prioridade.LISTAGEM);
+    }
+
+    @Test
+    @DisplayName("Deve responder 503 com Retry-After quando não há vaga")
+    void deveResponder503SemVaga() throws Exception {
+        // Listagem pode ocupar apenas 1 das 2 vagas
+        limiter.tentarAdquirir(Prioridade.LISTAGEM).orElseThrow();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/ordens-servico"), response, filterChain);
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        verify(filterChain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("Escrita deve passar quando listagens já estão recusadas")
+    void escritaDevePassarComListagensRecusadas() throws Exception {
+        limiter.tentarAdquirir(Prioridade.LISTAGEM).orElseThrow();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/ordens-servico"), response, filterChain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        verify(filterChain).doFilter(any(), any());
+        assertThat(limiter.getEmAndamento()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Requisição cancelada pelo cliente deve liberar a vaga")
+    void canceladaDeveLiberarVaga() throws Exception {
+        doThrow(new IOException("Connection reset by peer")).when(filterChain).doFilter(any(), any());
+
+        assertThatThrownBy(() -> filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/ordens-servico/1"),
+                new MockHttpServletResponse(), filterChain))
+                .isInstanceOf(IOException.class);
+
+        assertThat(limiter.getEmAndamento()).isZero();
+    }
+
+    @Test
+    @DisplayName("Streams SSE não devem passar pelo limite")
+    void streamsNaoDevemSerLimitados() throws Exception {
+        limiter.tentarAdquirir(Prioridade.ESCRITA).orElseThrow();
+        limiter.tentarAdquirir(Prioridade.ESCRITA).orElseThrow();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/ordens-servico/1/stream"),
+                new MockHttpServletResponse(), filterChain);
+
+        verify(filterChain).doFilter(any(), any());
+    }
+}
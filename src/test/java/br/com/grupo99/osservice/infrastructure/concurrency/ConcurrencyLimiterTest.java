@@ -0,0 +1,111 @@
+package br.com.grupo99.osservice.infrastructure.concurrency;
+
+import br.com.grupo99.osservice.infrastructure.concurrency.ConcurrencyLimiter.Permissao;
+import br.com.grupo99.osservice.infrastructure.concurrency.ConcurrencyLimiter.Prioridade;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConcurrencyLimiter")
+class ConcurrencyLimiterTest {
+
+    private static final long RTT_NORMAL = TimeUnit.MILLISECONDS.toNanos(20);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ConcurrencyLimiter criar(int inicial, int minimo, int maximo) {
+        return new ConcurrencyLimiter(meterRegistry, inicial, minimo, maximo, 0.9, 0.6);
+    }
+
+    private List<Permissao> ocupar(ConcurrencyLimiter limiter, Prioridade prioridade) {
+        List<Permissao> permissoes = new ArrayList<>();
+        Optional<Permissao> permissao;
+        while ((permissao = limiter.tentarAdquirir(prioridade)).isPresent()) {
+            permissoes.add(permissao.get());
+        }
+        return permissoes;
+    }
+
+    @Test
+    @DisplayName("Listagens devem ser recusadas antes de leituras e escritas")
+    void devePriorizarEscritas() {
+        ConcurrencyLimiter limiter = criar(10, 1, 100);
+
+        List<Permissao> listagens = ocupar(limiter, Prioridade.LISTAGEM);
+        List<Permissao> leituras = ocupar(limiter, Prioridade.LEITURA);
+        List<Permissao> escritas = ocupar(limiter, Prioridade.ESCRITA);
+
+        assertThat(listagens).hasSize(6);
+        assertThat(leituras).hasSize(3);
+        assertThat(escritas).hasSize(1);
+        assertThat(limiter.getEmAndamento()).isEqualTo(10);
+        assertThat(meterRegistry.get("http.concurrency.rejected").tag("prioridade", "LISTAGEM").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("http.concurrency.inflight").gauge().value()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Limite deve crescer com latência estável sob carga")
+    void limiteDeveCrescerComLatenciaEstavel() {
+        ConcurrencyLimiter limiter = criar(10, 1, 100);
+
+        for (int i = 0; i < 200; i++) {
+            List<Permissao> lote = ocupar(limiter, Prioridade.ESCRITA);
+            lote.forEach(p -> p.liberar(RTT_NORMAL));
+        }
+
+        assertThat(limiter.getLimite()).isGreaterThan(10);
+        assertThat(limiter.getEmAndamento()).isZero();
+    }
+
+    @Test
+    @DisplayName("Limite deve cair quando a latência sobe acima da linha de base")
+    void limiteDeveCairComLatenciaAlta() {
+        ConcurrencyLimiter limiter = criar(50, 5, 100);
+        for (int i = 0; i < 100; i++) {
+            ocupar(limiter, Prioridade.ESCRITA).forEach(p -> p.liberar(RTT_NORMAL));
+        }
+        int limiteSaudavel = limiter.getLimite();
+
+        // Pool de conexões saturado: latência 10x maior
+        for (int i = 0; i < 3; i++) {
+            ocupar(limiter, Prioridade.ESCRITA).forEach(p -> p.liberar(RTT_NORMAL * 10));
+        }
+
+        assertThat(limiter.getLimite()).isLessThan(limiteSaudavel / 2);
+        assertThat(limiter.getLimite()).isGreaterThanOrEqualTo(5);
+        assertThat(meterRegistry.get("http.concurrency.limit").gauge().value()).isEqualTo(limiter.getLimite());
+    }
+
+    @Test
+    @DisplayName("Vaga liberada sem amostra não deve mudar o limite")
+    void ignorarNaoDeveAmostrar() {
+        ConcurrencyLimiter limiter = criar(10, 1, 100);
+
+        for (int i = 0; i < 200; i++) {
+            ocupar(limiter, Prioridade.ESCRITA).forEach(Permissao::ignorar);
+        }
+
+        assertThat(limiter.getLimite()).isEqualTo(10);
+        assertThat(limiter.getEmAndamento()).isZero();
+    }
+
+    @Test
+    @DisplayName("Limite não deve crescer com pouca carga")
+    void limiteNaoDeveCrescerSemCarga() {
+        ConcurrencyLimiter limiter = criar(20, 1, 100);
+
+        for (int i = 0; i < 500; i++) {
+            limiter.tentarAdquirir(Prioridade.LEITURA).orElseThrow().liberar(RTT_NORMAL);
+        }
+
+        assertThat(limiter.getLimite()).isEqualTo(20);
+    }
+}
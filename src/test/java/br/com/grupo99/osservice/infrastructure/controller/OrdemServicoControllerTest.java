@@ -2,37 +2,51 @@ package br.com.grupo99.osservice.infrastructure.controller;
 
 import br.com.grupo99.osservice.application.dto.AtualizarStatusRequestDTO;
 import br.com.grupo99.osservice.application.dto.OrdemServicoRequestDTO;
+import br.com.grupo99.osservice.domain.event.EventoOrdemServico;
 import br.com.grupo99.osservice.domain.model.OrdemServico;
 import br.com.grupo99.osservice.domain.model.StatusOS;
 import br.com.grupo99.osservice.domain.repository.OrdemServicoRepository;
+import br.com.grupo99.osservice.infrastructure.cache.OrdemServicoConsultaCoalescida;
+import br.com.grupo99.osservice.infrastructure.cache.OrdemServicoFinalizadaCache;
+import br.com.grupo99.osservice.infrastructure.security.jwt.JwtUserDetails;
+import br.com.grupo99.osservice.infrastructure.stream.StatusStreamBroadcaster;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(controllers = OrdemServicoController.class, excludeFilters = {
                 @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = br.com.grupo99.osservice.infrastructure.config.SecurityConfig.class),
-                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = br.com.grupo99.osservice.infrastructure.security.jwt.JwtRequestFilter.class),
-                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = br.com.grupo99.osservice.infrastructure.security.jwt.JwtAuthorizationFilter.class)
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = br.com.grupo99.osservice.infrastructure.security.jwt.JwtAuthenticationFilter.class),
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = br.com.grupo99.osservice.infrastructure.security.ratelimit.RateLimitFilter.class),
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = br.com.grupo99.osservice.infrastructure.concurrency.ConcurrencyLimitFilter.class)
 }, excludeAutoConfiguration = {
                 org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration.class,
                 org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration.class,
@@ -43,6 +57,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
                 org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration.class,
                 org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration.class
 })
+@Import({ OrdemServicoConsultaCoalescida.class, SimpleMeterRegistry.class })
 @AutoConfigureMockMvc(addFilters = false)
 @ActiveProfiles("test")
 @DisplayName("OrdemServicoController - Testes Unitários")
@@ -57,8 +72,28 @@ class OrdemServicoControllerTest {
         @MockBean
         private OrdemServicoRepository repository;
 
+        @MockBean
+        private StatusStreamBroadcaster statusStreamBroadcaster;
+
+        @MockBean
+        private OrdemServicoFinalizadaCache finalizadaCache;
+
         private static final String BASE_URL = "/api/v1/ordens-servico";
 
+        @AfterEach
+        void limparAutenticacao() {
+                SecurityContextHolder.clearContext();
+        }
+
+        private UUID autenticarCliente() {
+                UUID pessoaId = UUID.randomUUID();
+                JwtUserDetails userDetails = JwtUserDetails.from("cliente@email.com", pessoaId.toString(),
+                                "12345678900", "FISICA", null, "CLIENTE");
+                SecurityContextHolder.getContext().setAuthentication(
+                                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+                return pessoaId;
+        }
+
         private OrdemServico criarOSMock() {
                 UUID id = UUID.randomUUID();
                 UUID clienteId = UUID.randomUUID();
@@ -93,7 +128,12 @@ class OrdemServicoControllerTest {
                                 .andExpect(jsonPath("$.status").value("RECEBIDA"))
                                 .andExpect(jsonPath("$.descricaoProblema").value("Problema no motor"));
 
-                verify(repository, times(1)).save(any(OrdemServico.class));
+                // OS_CRIADA registrado no agregado, publicado pelo repositório ao gravar
+                ArgumentCaptor<OrdemServico> gravada = ArgumentCaptor.forClass(OrdemServico.class);
+                verify(repository, times(1)).save(gravada.capture());
+                assertThat(gravada.getValue().retirarEventos())
+                                .singleElement()
+                                .isInstanceOf(EventoOrdemServico.OSCriada.class);
         }
 
         @Test
@@ -130,6 +170,8 @@ class OrdemServicoControllerTest {
                                 .andExpect(status().isOk())
                                 .andExpect(jsonPath("$.id").value(os.getId().toString()))
                                 .andExpect(jsonPath("$.status").value("RECEBIDA"));
+
+                verify(finalizadaCache).armazenar(any());
         }
 
         @Test
@@ -193,6 +235,79 @@ class OrdemServicoControllerTest {
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(objectMapper.writeValueAsString(request)))
                                 .andExpect(status().isOk());
+
+                // Assinantes SSE são notificados pelos eventos da OS, após o commit
+                verifyNoInteractions(statusStreamBroadcaster);
+                assertThat(os.retirarEventos()).containsExactly(new EventoOrdemServico.StatusMudado(
+                                StatusOS.RECEBIDA, StatusOS.EM_DIAGNOSTICO, os.getUpdatedAt()));
+        }
+
+        @Test
+        @DisplayName("GET /stream - Deve abrir stream SSE por cliente")
+        void deveAbrirStreamPorCliente() throws Exception {
+                UUID clienteId = UUID.randomUUID();
+                when(statusStreamBroadcaster.assinarCliente(clienteId))
+                                .thenReturn(new SseEmitter());
+
+                mockMvc.perform(get(BASE_URL + "/stream").param("clienteId", clienteId.toString()))
+                                .andExpect(request().asyncStarted());
+
+                verify(statusStreamBroadcaster).assinarCliente(clienteId);
+        }
+
+        @Test
+        @DisplayName("GET /stream - CLIENTE deve assinar o próprio cliente, do token")
+        void clienteDeveAssinarOProprioStream() throws Exception {
+                UUID pessoaId = autenticarCliente();
+                when(statusStreamBroadcaster.assinarCliente(pessoaId)).thenReturn(new SseEmitter());
+
+                mockMvc.perform(get(BASE_URL + "/stream"))
+                                .andExpect(request().asyncStarted());
+
+                verify(statusStreamBroadcaster).assinarCliente(pessoaId);
+        }
+
+        @Test
+        @DisplayName("GET /stream - CLIENTE não deve assinar o stream de outro cliente")
+        void clienteNaoDeveAssinarStreamDeOutroCliente() throws Exception {
+                autenticarCliente();
+
+                mockMvc.perform(get(BASE_URL + "/stream").param("clienteId", UUID.randomUUID().toString()))
+                                .andExpect(status().isForbidden());
+
+                verifyNoInteractions(statusStreamBroadcaster);
+        }
+
+        @Test
+        @DisplayName("GET /{id}/stream - CLIENTE não deve assinar OS de outro cliente")
+        void clienteNaoDeveAssinarOsDeOutroCliente() throws Exception {
+                autenticarCliente();
+                OrdemServico deOutro = criarOSMock();
+                when(repository.findById(deOutro.getId())).thenReturn(Optional.of(deOutro));
+                UUID inexistente = UUID.randomUUID();
+                when(repository.findById(inexistente)).thenReturn(Optional.empty());
+
+                mockMvc.perform(get(BASE_URL + "/" + deOutro.getId() + "/stream"))
+                                .andExpect(status().isNotFound());
+                mockMvc.perform(get(BASE_URL + "/" + inexistente + "/stream"))
+                                .andExpect(status().isNotFound());
+
+                verifyNoInteractions(statusStreamBroadcaster);
+        }
+
+        @Test
+        @DisplayName("GET /{id}/stream - CLIENTE deve assinar a própria OS")
+        void clienteDeveAssinarAPropriaOs() throws Exception {
+                UUID pessoaId = autenticarCliente();
+                OrdemServico propria = criarOSMock();
+                propria.setClienteId(pessoaId);
+                when(repository.findById(propria.getId())).thenReturn(Optional.of(propria));
+                when(statusStreamBroadcaster.assinarOrdem(propria.getId())).thenReturn(new SseEmitter());
+
+                mockMvc.perform(get(BASE_URL + "/" + propria.getId() + "/stream"))
+                                .andExpect(request().asyncStarted());
+
+                verify(statusStreamBroadcaster).assinarOrdem(propria.getId());
         }
 
         @Test
@@ -221,6 +336,7 @@ class OrdemServicoControllerTest {
                                 .andExpect(status().isNoContent());
 
                 verify(repository, times(1)).deleteById(id);
+                verify(finalizadaCache).invalidar(id);
         }
 
         @Test
@@ -0,0 +1,152 @@
+package br.com.grupo99.osservice.infrastructure.controller;
+
+import br.com.grupo99.osservice.domain.model.OrdemServico;
+import br.com.grupo99.osservice.domain.model.StatusOS;
+import br.com.grupo99.osservice.domain.repository.OrdemServicoRepository;
+import br.com.grupo99.osservice.infrastructure.cache.OrdemServicoFinalizadaCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = OrdemServicoTimelineController.class, excludeFilters = {
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = br.com.grupo99.osservice.infrastructure.config.SecurityConfig.class),
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = br.com.grupo99.osservice.infrastructure.security.jwt.JwtAuthenticationFilter.class),
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = br.com.grupo99.osservice.infrastructure.security.ratelimit.RateLimitFilter.class),
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = br.com.grupo99.osservice.infrastructure.concurrency.ConcurrencyLimitFilter.class)
+}, excludeAutoConfiguration = {
+                org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration.class,
+                org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration.class,
+                org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration.class,
+                org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration.class,
+                org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration.class,
+                org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration.class,
+                org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration.class,
+                org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration.class
+})
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+@DisplayName("OrdemServicoTimelineController - Testes Unitários")
+class OrdemServicoTimelineControllerTest {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @MockBean
+        private OrdemServicoRepository repository;
+
+        @MockBean
+        private OrdemServicoFinalizadaCache finalizadaCache;
+
+        private OrdemServico criarOS(UUID clienteId, LocalDateTime dataCriacao) {
+                OrdemServico os = new OrdemServico();
+                os.setId(UUID.randomUUID());
+                os.setClienteId(clienteId);
+                os.setVeiculoId(UUID.randomUUID());
+                os.setStatus(StatusOS.RECEBIDA);
+                os.setDescricaoProblema("Problema no motor");
+                os.setValorTotal(BigDecimal.ZERO);
+                os.setDataCriacao(dataCriacao);
+                os.setHistorico(new ArrayList<>());
+                return os;
+        }
+
+        @Test
+        @DisplayName("GET /clientes/{id}/ordens-servico - Deve retornar página com próximo cursor")
+        void deveRetornarPaginaComCursor() throws Exception {
+                UUID clienteId = UUID.randomUUID();
+                LocalDateTime agora = LocalDateTime.of(2026, 1, 31, 10, 0);
+                List<OrdemServico> ordens = List.of(
+                                criarOS(clienteId, agora),
+                                criarOS(clienteId, agora.minusDays(1)),
+                                criarOS(clienteId, agora.minusDays(2)));
+                when(repository.findTimelineByClienteId(eq(clienteId), isNull(), isNull(), eq(3)))
+                                .thenReturn(ordens);
+
+                String resposta = mockMvc.perform(get("/api/v1/clientes/" + clienteId + "/ordens-servico")
+                                .param("limite", "2"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.itens", hasSize(2)))
+                                .andExpect(jsonPath("$.itens[0].id").value(ordens.get(0).getId().toString()))
+                                .andExpect(jsonPath("$.proximoCursor").isNotEmpty())
+                                .andReturn().getResponse().getContentAsString();
+
+                String cursor = com.jayway.jsonpath.JsonPath.read(resposta, "$.proximoCursor");
+                OrdemServico ultima = ordens.get(1);
+                when(repository.findTimelineByClienteId(clienteId, ultima.getDataCriacao(), ultima.getId(), 3))
+                                .thenReturn(List.of(ordens.get(2)));
+
+                mockMvc.perform(get("/api/v1/clientes/" + clienteId + "/ordens-servico")
+                                .param("limite", "2")
+                                .param("cursor", cursor))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.itens", hasSize(1)))
+                                .andExpect(jsonPath("$.proximoCursor").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 para cursor inválido ou limite fora da faixa")
+        void deveRetornar400ParaParametrosInvalidos() throws Exception {
+                String url = "/api/v1/clientes/" + UUID.randomUUID() + "/ordens-servico";
+
+                mockMvc.perform(get(url).param("cursor", "nao-e-um-cursor"))
+                                .andExpect(status().isBadRequest());
+                mockMvc.perform(get(url).param("limite", "0"))
+                                .andExpect(status().isBadRequest());
+                mockMvc.perform(get(url).param("limite", "101"))
+                                .andExpect(status().isBadRequest());
+
+                verifyNoInteractions(repository);
+        }
+
+        @Test
+        @DisplayName("CLIENTE não deve listar OS de outro cliente")
+        void clienteNaoDeveListarOutroCliente() throws Exception {
+                mockMvc.perform(get("/api/v1/clientes/" + UUID.randomUUID() + "/ordens-servico")
+                                .requestAttr("perfil", "CLIENTE")
+                                .requestAttr("pessoaId", UUID.randomUUID().toString()))
+                                .andExpect(status().isForbidden());
+
+                verifyNoInteractions(repository);
+        }
+
+        @Test
+        @DisplayName("GET /veiculos/{id}/ordens-servico - CLIENTE deve ver apenas as próprias OS")
+        void clienteDeveVerApenasPropriasOSDoVeiculo() throws Exception {
+                UUID veiculoId = UUID.randomUUID();
+                UUID pessoaId = UUID.randomUUID();
+                when(repository.findTimelineByVeiculoId(eq(veiculoId), any(), isNull(), isNull(), anyInt()))
+                                .thenReturn(List.of());
+
+                mockMvc.perform(get("/api/v1/veiculos/" + veiculoId + "/ordens-servico")
+                                .requestAttr("perfil", "CLIENTE")
+                                .requestAttr("pessoaId", pessoaId.toString()))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.itens", hasSize(0)));
+                mockMvc.perform(get("/api/v1/veiculos/" + veiculoId + "/ordens-servico"))
+                                .andExpect(status().isOk());
+
+                verify(repository).findTimelineByVeiculoId(veiculoId, pessoaId, null, null,
+                                OrdemServicoTimelineController.LIMITE_PADRAO + 1);
+                verify(repository).findTimelineByVeiculoId(veiculoId, null, null, null,
+                                OrdemServicoTimelineController.LIMITE_PADRAO + 1);
+        }
+}
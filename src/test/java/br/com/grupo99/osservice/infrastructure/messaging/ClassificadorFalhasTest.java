@@ -0,0 +1,116 @@
+package br.com.grupo99.osservice.infrastructure.messaging;
+
+import br.com.grupo99.osservice.domain.exception.OrdemServicoNaoEncontradaException;
+import br.com.grupo99.osservice.domain.exception.TransicaoInvalidaException;
+import br.com.grupo99.osservice.domain.model.OrdemServico;
+import br.com.grupo99.osservice.domain.model.StatusOS;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.ListenerExecutionFailedException;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLTransientConnectionException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@DisplayName("ClassificadorFalhas - Causas de falha no consumo")
+class ClassificadorFalhasTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ClassificadorFalhas classificador;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        classificador = new ClassificadorFalhas(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Transição inválida do agregado não deve ser retentável")
+    void transicaoInvalidaNaoRetentavel() {
+        OrdemServico os = new OrdemServico(UUID.randomUUID(), UUID.randomUUID(), "Troca de óleo");
+        Throwable erro = catchThrowable(() -> os.atualizarStatus(StatusOS.FINALIZADA, "teste", "teste"));
+
+        assertThat(erro).isInstanceOf(TransicaoInvalidaException.class).isInstanceOf(IllegalStateException.class);
+        assertThat(classificador.causa(erro)).isEqualTo(TransicaoInvalidaException.CODIGO);
+        assertThat(classificador.retentavel(erro)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve encontrar a causa dentro das exceções do container")
+    void deveDesembrulharExcecoesDoContainer() {
+        Exception naoEncontrada = new ListenerExecutionFailedException("falha",
+                new BatchListenerFailedException("lote", new OrdemServicoNaoEncontradaException(UUID.randomUUID()), 0));
+        Exception payload = new DeserializationException("json inválido", new byte[0], false, null);
+        Exception banco = new ListenerExecutionFailedException("falha",
+                new DataAccessResourceFailureException("Banco indisponível"));
+
+        assertThat(classificador.causa(naoEncontrada)).isEqualTo(OrdemServicoNaoEncontradaException.CODIGO);
+        assertThat(classificador.causa(payload)).isEqualTo(ClassificadorFalhas.PAYLOAD_INVALIDO);
+        assertThat(classificador.causa(banco)).isEqualTo(ClassificadorFalhas.TRANSITORIA);
+        assertThat(classificador.retentavel(banco)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Só falhas de conversão do registro são payload inválido")
+    void illegalArgumentGenericoDeveSerTransitorio() {
+        Exception chave = new ListenerExecutionFailedException("falha", new BatchListenerFailedException("lote",
+                new MessageConversionException("Chave do registro não é o id de uma OS: x",
+                        new IllegalArgumentException("Invalid UUID string: x")), 0));
+        Exception bug = new ListenerExecutionFailedException("falha",
+                new IllegalStateException("inesperado", new IllegalArgumentException("argumento inválido")));
+
+        assertThat(classificador.causa(chave)).isEqualTo(ClassificadorFalhas.PAYLOAD_INVALIDO);
+        assertThat(classificador.causa(bug)).isEqualTo(ClassificadorFalhas.TRANSITORIA);
+        assertThat(classificador.retentavel(bug)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Falha de conexão ou transação deve ser de infraestrutura")
+    void deveReconhecerFalhaDeInfraestrutura() {
+        Exception conexao = new ListenerExecutionFailedException("falha",
+                new BatchListenerFailedException("lote", new DataAccessResourceFailureException("Banco indisponível"),
+                        0));
+        Exception transacao = new CannotCreateTransactionException("Sem conexão",
+                new SQLTransientConnectionException("timeout no pool"));
+        Exception outra = new ListenerExecutionFailedException("falha", new IllegalStateException("inesperado"));
+
+        assertThat(classificador.infraestrutura(conexao)).isTrue();
+        assertThat(classificador.infraestrutura(transacao)).isTrue();
+        assertThat(classificador.infraestrutura(outra)).isFalse();
+        assertThat(classificador.infraestrutura(new OrdemServicoNaoEncontradaException(UUID.randomUUID()))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve adicionar headers de diagnóstico e contar por causa")
+    void deveAdicionarHeadersEContar() {
+        UUID osId = UUID.randomUUID();
+        ConsumerRecord<String, Object> record = new ConsumerRecord<>("billing-events.retry-10s", 0, 0L,
+                osId.toString(), null);
+        Exception erro = new OrdemServicoNaoEncontradaException(osId);
+
+        Headers headers = classificador.cabecalhos(record, erro);
+        classificador.contarDlt(record.topic(), erro);
+
+        assertThat(valor(headers, ClassificadorFalhas.HEADER_CAUSA)).isEqualTo("OS_NAO_ENCONTRADA");
+        assertThat(valor(headers, ClassificadorFalhas.HEADER_RETENTAVEL)).isEqualTo("false");
+        assertThat(valor(headers, ClassificadorFalhas.HEADER_OS_ID)).isEqualTo(osId.toString());
+        assertThat(meterRegistry.counter("kafka.dlt.sent", "topic", "billing-events", "cause", "OS_NAO_ENCONTRADA")
+                .count()).isEqualTo(1.0);
+    }
+
+    private static String valor(Headers headers, String nome) {
+        return new String(headers.lastHeader(nome).value(), StandardCharsets.UTF_8);
+    }
+}
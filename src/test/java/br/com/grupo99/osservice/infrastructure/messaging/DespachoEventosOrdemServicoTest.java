@@ -0,0 +1,134 @@
+package br.com.grupo99.osservice.infrastructure.messaging;
+
+import br.com.grupo99.osservice.domain.model.OrdemServico;
+import br.com.grupo99.osservice.domain.model.StatusOS;
+import br.com.grupo99.osservice.domain.repository.OrdemServicoRepository;
+import br.com.grupo99.osservice.infrastructure.persistence.EventoOutbox;
+import br.com.grupo99.osservice.infrastructure.persistence.JpaEventoOutboxRepository;
+import br.com.grupo99.osservice.infrastructure.stream.StatusStreamBroadcaster;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("DespachoEventosOrdemServico - Eventos do agregado no outbox e no stream")
+class DespachoEventosOrdemServicoTest {
+
+    @Autowired
+    private OrdemServicoRepository repository;
+
+    @Autowired
+    private JpaEventoOutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // O relay fica desligado no perfil de teste; o mock registra os pedidos de drenagem
+    @MockBean
+    private OutboxRelay relay;
+
+    @SpyBean
+    private StatusStreamBroadcaster broadcaster;
+
+    private TransactionTemplate transacao;
+
+    @BeforeEach
+    void setUp() {
+        transacao = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @DisplayName("Eventos de várias OS na mesma transação vão ao outbox e acordam o relay após o commit")
+    void deveGravarEventosEAcordarRelayAposCommit() {
+        List<UUID> ids = transacao.execute(status -> {
+            OrdemServico primeira = repository.save(novaOrdem());
+            OrdemServico segunda = repository.save(novaOrdem());
+            // Relay só é acordado depois do commit
+            verifyNoInteractions(relay);
+            return List.of(primeira.getId(), segunda.getId());
+        });
+
+        transacao.executeWithoutResult(status -> {
+            OrdemServico os = repository.findById(ids.get(0)).orElseThrow();
+            os.atualizarStatus(StatusOS.EM_DIAGNOSTICO, "Diagnóstico iniciado", "mecanico");
+            repository.save(os);
+            // Assinantes SSE também só depois do commit
+            verify(broadcaster, never()).publicar(any(UUID.class), any(), any(), any());
+        });
+
+        verify(broadcaster).publicar(eq(ids.get(0)), any(UUID.class), eq(StatusOS.RECEBIDA),
+                eq(StatusOS.EM_DIAGNOSTICO));
+        assertThat(tipos(ids.get(0))).containsExactly("OS_CRIADA", "STATUS_MUDADO");
+        assertThat(tipos(ids.get(1))).containsExactly("OS_CRIADA");
+        verify(relay, atLeast(2)).solicitarDrenagem();
+    }
+
+    @Test
+    @DisplayName("Rollback não deve deixar eventos no outbox nem acordar o relay")
+    void rollbackNaoDeveVazarEventos() {
+        UUID id = transacao.execute(status -> {
+            OrdemServico os = repository.save(novaOrdem());
+            os.atualizarStatus(StatusOS.EM_DIAGNOSTICO, "Diagnóstico iniciado", "mecanico");
+            repository.save(os);
+            status.setRollbackOnly();
+            return os.getId();
+        });
+
+        assertThat(tipos(id)).isEmpty();
+        verify(relay, never()).solicitarDrenagem();
+        verify(broadcaster, never()).publicar(eq(id), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Relay deve reservar só o pendente mais antigo de cada OS")
+    void deveReservarSoOPendenteMaisAntigoDeCadaOs() {
+        List<UUID> ids = transacao.execute(status -> {
+            OrdemServico primeira = repository.save(novaOrdem());
+            OrdemServico segunda = repository.save(novaOrdem());
+            return List.of(primeira.getId(), segunda.getId());
+        });
+        transacao.executeWithoutResult(status -> {
+            OrdemServico os = repository.findById(ids.get(0)).orElseThrow();
+            os.atualizarStatus(StatusOS.EM_DIAGNOSTICO, "Diagnóstico iniciado", "mecanico");
+            repository.save(os);
+        });
+
+        List<String> lote = transacao.execute(status -> outboxRepository
+                .findPendentesParaPublicar(Integer.MAX_VALUE, LocalDateTime.now()).stream()
+                .filter(evento -> ids.contains(evento.getAgregadoId()))
+                .map(EventoOutbox::getEventType)
+                .toList());
+
+        // O STATUS_MUDADO da primeira OS espera a publicação do OS_CRIADA
+        assertThat(lote).containsExactly("OS_CRIADA", "OS_CRIADA");
+    }
+
+    private static OrdemServico novaOrdem() {
+        return new OrdemServico(UUID.randomUUID(), UUID.randomUUID(), "Barulho no motor");
+    }
+
+    private List<String> tipos(UUID osId) {
+        return outboxRepository.findAll().stream()
+                .filter(evento -> evento.getAgregadoId().equals(osId))
+                .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                .map(EventoOutbox::getEventType)
+                .toList();
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.grupo99.osservice.infrastructure.messaging;
+
+import br.com.grupo99.osservice.infrastructure.config.KafkaConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EventoIrrelevanteFilter")
+class EventoIrrelevanteFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EventoIrrelevanteFilter filter = new EventoIrrelevanteFilter(meterRegistry);
+
+    private static ConsumerRecord<String, Object> registro(String topico, String eventType) {
+        ConsumerRecord<String, Object> record = new ConsumerRecord<>(topico, 0, 0L, "chave", null);
+        if (eventType != null) {
+            record.headers().add(new RecordHeader("eventType", eventType.getBytes(StandardCharsets.UTF_8)));
+        }
+        return record;
+    }
+
+    private double descartados(String topico, String eventType) {
+        return meterRegistry.get("kafka.consumer.skipped")
+                .tag("topic", topico)
+                .tag("eventType", eventType)
+                .counter()
+                .count();
+    }
+
+    @Test
+    @DisplayName("Deve manter os eventos tratados no tópico")
+    void deveManterEventosTratados() {
+        assertThat(filter.filter(registro(KafkaConfig.TOPIC_BILLING_EVENTS, "ORCAMENTO_APROVADO"))).isFalse();
+        assertThat(filter.filter(registro(KafkaConfig.TOPIC_EXECUTION_EVENTS, "EXECUCAO_FALHOU"))).isFalse();
+        assertThat(meterRegistry.find("kafka.consumer.skipped").counters()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve descartar e contar tipos não tratados, inclusive de outro tópico")
+    void deveDescartarTiposNaoTratados() {
+        assertThat(filter.filter(registro(KafkaConfig.TOPIC_BILLING_EVENTS, "PAGAMENTO_CONFIRMADO"))).isTrue();
+        assertThat(filter.filter(registro(KafkaConfig.TOPIC_BILLING_EVENTS, "PAGAMENTO_CONFIRMADO"))).isTrue();
+        assertThat(filter.filter(registro(KafkaConfig.TOPIC_BILLING_EVENTS, "EXECUCAO_CONCLUIDA"))).isTrue();
+        assertThat(filter.filter(registro(KafkaConfig.TOPIC_EXECUTION_EVENTS, null))).isTrue();
+
+        assertThat(descartados(KafkaConfig.TOPIC_BILLING_EVENTS, "PAGAMENTO_CONFIRMADO")).isEqualTo(2);
+        assertThat(descartados(KafkaConfig.TOPIC_BILLING_EVENTS, "EXECUCAO_CONCLUIDA")).isEqualTo(1);
+        assertThat(descartados(KafkaConfig.TOPIC_EXECUTION_EVENTS, "UNKNOWN")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Tópicos sem tipos cadastrados não devem ser filtrados")
+    void topicoSemCadastroNaoDeveSerFiltrado() {
+        assertThat(filter.filter(registro(KafkaConfig.TOPIC_OS_EVENTS, "QUALQUER"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve limitar a cardinalidade da tag eventType")
+    void deveLimitarCardinalidade() {
+        for (int i = 0; i < EventoIrrelevanteFilter.MAX_TIPOS_CONTADOS + 10; i++) {
+            filter.filter(registro(KafkaConfig.TOPIC_BILLING_EVENTS, "TIPO_" + i));
+        }
+
+        assertThat(meterRegistry.find("kafka.consumer.skipped").counters())
+                .hasSize(EventoIrrelevanteFilter.MAX_TIPOS_CONTADOS + 1);
+        assertThat(descartados(KafkaConfig.TOPIC_BILLING_EVENTS, "OUTROS")).isEqualTo(10);
+    }
+}
@@ -0,0 +1,109 @@
+package br.com.grupo99.osservice.infrastructure.messaging;
+
+import br.com.grupo99.osservice.infrastructure.persistence.JpaEventoProcessadoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@DisplayName("InboxEventos")
+class InboxEventosTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JpaEventoProcessadoRepository repository;
+    private InboxEventos inbox;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(JpaEventoProcessadoRepository.class);
+        inbox = new InboxEventos(repository, meterRegistry, mock(PlatformTransactionManager.class), 100, 720);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private ConsumerRecord<String, Object> registro(long offset) {
+        return new ConsumerRecord<>("billing-events", 2, offset, "chave", "valor");
+    }
+
+    @Test
+    @DisplayName("Chave deve usar o eventId do produtor ou a posição do registro")
+    void chaveDeveUsarEventIdOuPosicao() {
+        ConsumerRecord<String, Object> comEventId = registro(7);
+        comEventId.headers().add(new RecordHeader("eventId", "evt-123".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(InboxEventos.chave(comEventId)).isEqualTo("evt-123");
+        assertThat(InboxEventos.chave(registro(7))).isEqualTo("billing-events:2:7");
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco só para as chaves fora do LRU")
+    void deveConsultarBancoSoParaChavesForaDoLru() {
+        inbox.registrar(List.of(registro(1)));
+        when(repository.findChavesProcessadas(List.of("billing-events:2:2"))).thenReturn(List.of("billing-events:2:2"));
+
+        Set<String> processados = inbox.jaProcessados(List.of("billing-events:2:1", "billing-events:2:2"));
+
+        assertThat(processados).containsExactlyInAnyOrder("billing-events:2:1", "billing-events:2:2");
+        verify(repository).findChavesProcessadas(List.of("billing-events:2:2"));
+        // A chave vinda do banco também passa a ser reconhecida pelo LRU
+        assertThat(inbox.processadoRecentemente("billing-events:2:2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("LRU só deve ser atualizado após o commit")
+    void lruSoDeveSerAtualizadoAposCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        inbox.registrar(List.of(registro(5)));
+
+        verify(repository).saveAll(anyCollection());
+        assertThat(inbox.processadoRecentemente("billing-events:2:5")).isFalse();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(inbox.processadoRecentemente("billing-events:2:5")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve contar duplicados por tópico")
+    void deveContarDuplicados() {
+        inbox.contarDuplicado("billing-events");
+        inbox.contarDuplicado("billing-events");
+
+        assertThat(meterRegistry.get("kafka.consumer.duplicates").tag("topic", "billing-events").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Expurgo deve remover as chaves mais antigas que a retenção")
+    void expurgoDeveRespeitarRetencao() {
+        LocalDateTime antes = LocalDateTime.now();
+
+        inbox.expurgar();
+
+        ArgumentCaptor<LocalDateTime> limite = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository).expurgarProcessadosAntesDe(limite.capture());
+        assertThat(Duration.between(limite.getValue(), antes).toHours()).isBetween(719L, 720L);
+    }
+}
@@ -0,0 +1,183 @@
+package br.com.grupo99.osservice.infrastructure.messaging;
+
+import br.com.grupo99.osservice.application.events.EventoRecebido;
+import br.com.grupo99.osservice.domain.model.OrdemServico;
+import br.com.grupo99.osservice.domain.model.StatusOS;
+import br.com.grupo99.osservice.domain.repository.OrdemServicoRepository;
+import br.com.grupo99.osservice.infrastructure.config.KafkaConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("KafkaEventListener - Lanes por OS")
+class KafkaEventListenerLanesTest {
+
+    private static final int LANES = 4;
+
+    private OrdemServicoRepository repository;
+    private DeadLetterPublishingRecoverer recoverer;
+    private Acknowledgment acknowledgment;
+    private KafkaEventListener listener;
+
+    private OrdemServico osA;
+    private OrdemServico osB;
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+    private long offset;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(OrdemServicoRepository.class);
+        recoverer = mock(DeadLetterPublishingRecoverer.class);
+        acknowledgment = mock(Acknowledgment.class);
+
+        InboxEventos inbox = mock(InboxEventos.class);
+        when(inbox.jaProcessados(anyCollection())).thenAnswer(inv -> new HashSet<>());
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        listener = new KafkaEventListener(repository, recoverer, inbox,
+                new MetricasConsumo(new SimpleMeterRegistry()), transactionManager, LANES, 10);
+
+        // Duas OS em lanes diferentes
+        UUID idA = UUID.randomUUID();
+        UUID idB;
+        do {
+            idB = UUID.randomUUID();
+        } while (Math.floorMod(idA.hashCode(), LANES) == Math.floorMod(idB.hashCode(), LANES));
+        osA = os(idA);
+        osB = os(idB);
+
+        when(repository.findAllById(anyCollection())).thenAnswer(inv -> {
+            threads.add(Thread.currentThread().getName());
+            Collection<UUID> ids = inv.getArgument(0);
+            return List.of(osA, osB).stream().filter(os -> ids.contains(os.getId())).toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.shutdown();
+    }
+
+    private static OrdemServico os(UUID id) {
+        OrdemServico os = mock(OrdemServico.class);
+        when(os.getId()).thenReturn(id);
+        return os;
+    }
+
+    private ConsumerRecord<String, Object> registro(OrdemServico os, String eventType, EventoRecebido evento) {
+        ConsumerRecord<String, Object> record = new ConsumerRecord<>(
+                KafkaConfig.TOPIC_BILLING_EVENTS, 0, offset++, os.getId().toString(), evento);
+        record.headers().add(new RecordHeader("eventType", eventType.getBytes(StandardCharsets.UTF_8)));
+        return record;
+    }
+
+    private ConsumerRecord<String, Object> aprovado(OrdemServico os) {
+        return registro(os, "ORCAMENTO_APROVADO",
+                new EventoRecebido.OrcamentoAprovado(null, BigDecimal.TEN, "cliente"));
+    }
+
+    private ConsumerRecord<String, Object> concluido(OrdemServico os) {
+        return registro(os, "EXECUCAO_CONCLUIDA", new EventoRecebido.ExecucaoConcluida(null, "ok", "mecanico"));
+    }
+
+    /**
+     * Sem osId no payload e com chave que não é UUID: falha ao interpretar.
+     */
+    private ConsumerRecord<String, Object> semOsId() {
+        ConsumerRecord<String, Object> record = new ConsumerRecord<>(
+                KafkaConfig.TOPIC_BILLING_EVENTS, 0, offset++, "nao-e-um-uuid",
+                new EventoRecebido.OrcamentoRejeitado(null, "teste"));
+        record.headers().add(new RecordHeader("eventType", "ORCAMENTO_REJEITADO".getBytes(StandardCharsets.UTF_8)));
+        return record;
+    }
+
+    @Test
+    @DisplayName("Deve aplicar OS diferentes em lanes paralelas, na ordem por OS")
+    void deveAplicarEmLanesParalelas() {
+        listener.consumeBillingEvents(List.of(aprovado(osA), aprovado(osB), concluido(osA)), acknowledgment);
+
+        InOrder ordemA = inOrder(osA);
+        ordemA.verify(osA).atualizarStatus(eq(StatusOS.EM_EXECUCAO), anyString(), anyString());
+        ordemA.verify(osA).atualizarStatus(eq(StatusOS.FINALIZADA), anyString(), anyString());
+        verify(osB).atualizarStatus(eq(StatusOS.EM_EXECUCAO), anyString(), anyString());
+
+        // Uma gravação por lane, fora do thread do consumidor
+        verify(repository).saveAll(List.of(osA));
+        verify(repository).saveAll(List.of(osB));
+        assertThat(threads).allMatch(nome -> nome.startsWith("kafka-lane-"));
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Falha na gravação de uma lane deve reentregar a partir do primeiro registro dela")
+    void falhaNaGravacaoDeveReentregarAPartirDaLane() {
+        doThrow(new DataAccessResourceFailureException("banco indisponível"))
+                .when(repository).saveAll(List.of(osB));
+        ConsumerRecord<String, Object> aprovadoB = aprovado(osB);
+        List<ConsumerRecord<String, Object>> lote = List.of(aprovado(osA), aprovadoB, concluido(osA));
+
+        assertThatThrownBy(() -> listener.consumeBillingEvents(lote, acknowledgment))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> assertThat(e.getRecord()).isSameAs(aprovadoB));
+
+        // A lane da OS A foi gravada; sem commit do lote inteiro
+        verify(repository).saveAll(List.of(osA));
+        verify(acknowledgment, never()).acknowledge();
+        verifyNoInteractions(recoverer);
+    }
+
+    @Test
+    @DisplayName("Evento inválido antes da lane desfeita vai para a DLT; depois dela é reentregue")
+    void falhasDevemRespeitarOPontoDeReentrega() {
+        doThrow(new DataAccessResourceFailureException("banco indisponível"))
+                .when(repository).saveAll(List.of(osB));
+        ConsumerRecord<String, Object> invalidoAntes = semOsId();
+        ConsumerRecord<String, Object> aprovadoB = aprovado(osB);
+        ConsumerRecord<String, Object> invalidoDepois = semOsId();
+        List<ConsumerRecord<String, Object>> lote = List.of(invalidoAntes, aprovadoB, invalidoDepois);
+
+        assertThatThrownBy(() -> listener.consumeBillingEvents(lote, acknowledgment))
+                .isInstanceOf(BatchListenerFailedException.class);
+
+        verify(recoverer).accept(eq(invalidoAntes), any(Exception.class));
+        verify(recoverer, never()).accept(eq(invalidoDepois), any(Exception.class));
+    }
+
+    @Test
+    @DisplayName("Lanes devem ficar limitadas à metade do pool de conexões")
+    void lanesDevemRespeitarOPool() {
+        assertThat(KafkaEventListener.limitarLanes(16, 10)).isEqualTo(5);
+        assertThat(KafkaEventListener.limitarLanes(4, 10)).isEqualTo(4);
+        assertThat(KafkaEventListener.limitarLanes(4, 1)).isEqualTo(1);
+    }
+}
@@ -25,13 +25,14 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -64,6 +65,8 @@ class KafkaEventListenerTest {
 
     private OrdemServico mockOrdemServico;
 
+    private UUID osId;
+
     @BeforeEach
     void setUp() {
         // Configurar producer para enviar mensagens de teste
@@ -74,17 +77,17 @@ class KafkaEventListenerTest {
         ProducerFactory<String, Object> producerFactory = new DefaultKafkaProducerFactory<>(producerProps);
         kafkaTemplate = new KafkaTemplate<>(producerFactory);
 
-        // Setup mock OrdemServico
+        // Setup mock OrdemServico (carregada em lote pelo listener)
+        osId = UUID.randomUUID();
         mockOrdemServico = mock(OrdemServico.class);
-        when(ordemServicoRepository.findById(any(UUID.class))).thenReturn(Optional.of(mockOrdemServico));
-        when(ordemServicoRepository.save(any(OrdemServico.class))).thenReturn(mockOrdemServico);
+        when(mockOrdemServico.getId()).thenReturn(osId);
+        when(ordemServicoRepository.findAllById(anyCollection())).thenReturn(List.of(mockOrdemServico));
     }
 
     @Test
     @DisplayName("Deve processar evento ORCAMENTO_APROVADO e atualizar status para EM_EXECUCAO")
     void deveProcessarOrcamentoAprovado() {
         // Arrange
-        UUID osId = UUID.randomUUID();
         Map<String, Object> payload = Map.of(
                 "osId", osId.toString(),
                 "valorAprovado", 1500.00,
@@ -102,7 +105,7 @@ class KafkaEventListenerTest {
         // Assert
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
             verify(mockOrdemServico, times(1)).atualizarStatus(eq(StatusOS.EM_EXECUCAO), anyString(), anyString());
-            verify(ordemServicoRepository, times(1)).save(any(OrdemServico.class));
+            verify(ordemServicoRepository, times(1)).saveAll(List.of(mockOrdemServico));
         });
     }
 
@@ -110,7 +113,6 @@ class KafkaEventListenerTest {
     @DisplayName("Deve processar evento ORCAMENTO_REJEITADO e atualizar status")
     void deveProcessarOrcamentoRejeitado() {
         // Arrange
-        UUID osId = UUID.randomUUID();
         Map<String, Object> payload = Map.of(
                 "osId", osId.toString(),
                 "motivo", "Valor muito alto");
@@ -127,7 +129,7 @@ class KafkaEventListenerTest {
         // Assert
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
             verify(mockOrdemServico, times(1)).atualizarStatus(eq(StatusOS.CANCELADA), anyString(), anyString());
-            verify(ordemServicoRepository, times(1)).save(any(OrdemServico.class));
+            verify(ordemServicoRepository, times(1)).saveAll(List.of(mockOrdemServico));
         });
     }
 
@@ -135,7 +137,6 @@ class KafkaEventListenerTest {
     @DisplayName("Deve processar evento EXECUCAO_CONCLUIDA e finalizar OS")
     void deveProcessarExecucaoConcluida() {
         // Arrange
-        UUID osId = UUID.randomUUID();
         Map<String, Object> payload = Map.of(
                 "osId", osId.toString(),
                 "observacoes", "Serviço realizado com sucesso",
@@ -153,7 +154,7 @@ class KafkaEventListenerTest {
         // Assert
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
             verify(mockOrdemServico, times(1)).atualizarStatus(eq(StatusOS.FINALIZADA), anyString(), anyString());
-            verify(ordemServicoRepository, times(1)).save(any(OrdemServico.class));
+            verify(ordemServicoRepository, times(1)).saveAll(List.of(mockOrdemServico));
         });
     }
 
@@ -161,7 +162,6 @@ class KafkaEventListenerTest {
     @DisplayName("Deve processar evento EXECUCAO_FALHOU com retrabalho")
     void deveProcessarExecucaoFalhouComRetrabalho() {
         // Arrange
-        UUID osId = UUID.randomUUID();
         Map<String, Object> payload = Map.of(
                 "osId", osId.toString(),
                 "motivo", "Peça defeituosa",
@@ -179,7 +179,7 @@ class KafkaEventListenerTest {
         // Assert
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
             verify(mockOrdemServico, times(1)).atualizarStatus(eq(StatusOS.EM_EXECUCAO), anyString(), anyString());
-            verify(ordemServicoRepository, times(1)).save(any(OrdemServico.class));
+            verify(ordemServicoRepository, times(1)).saveAll(List.of(mockOrdemServico));
         });
     }
 
@@ -187,7 +187,6 @@ class KafkaEventListenerTest {
     @DisplayName("Deve processar evento EXECUCAO_FALHOU sem retrabalho")
     void deveProcessarExecucaoFalhouSemRetrabalho() {
         // Arrange
-        UUID osId = UUID.randomUUID();
         Map<String, Object> payload = Map.of(
                 "osId", osId.toString(),
                 "motivo", "Erro irreversível",
@@ -205,7 +204,7 @@ class KafkaEventListenerTest {
         // Assert
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
             verify(mockOrdemServico, times(1)).atualizarStatus(eq(StatusOS.CANCELADA), anyString(), anyString());
-            verify(ordemServicoRepository, times(1)).save(any(OrdemServico.class));
+            verify(ordemServicoRepository, times(1)).saveAll(List.of(mockOrdemServico));
         });
     }
 
@@ -213,7 +212,6 @@ class KafkaEventListenerTest {
     @DisplayName("Deve ignorar eventos com tipo desconhecido")
     void deveIgnorarEventoTipoDesconhecido() {
         // Arrange
-        UUID osId = UUID.randomUUID();
         Map<String, Object> payload = Map.of("osId", osId.toString());
 
         ProducerRecord<String, Object> record = new ProducerRecord<>(
@@ -228,6 +226,60 @@ class KafkaEventListenerTest {
         // Assert - deve aguardar mas não chamar o repository para atualizar
         await().during(3, TimeUnit.SECONDS).untilAsserted(() -> {
             verify(mockOrdemServico, never()).atualizarStatus(any(StatusOS.class), anyString(), anyString());
+            // Descartado pelo header, antes do listener
+            verify(ordemServicoRepository, never()).findAllById(anyCollection());
+        });
+    }
+
+    @Test
+    @DisplayName("Deve isolar evento inválido sem impedir o restante do lote")
+    void deveIsolarEventoInvalidoNoLote() {
+        // Arrange - chave que não é UUID seguida de um evento válido
+        ProducerRecord<String, Object> invalido = new ProducerRecord<>(
+                KafkaConfig.TOPIC_EXECUTION_EVENTS,
+                "nao-e-um-uuid",
+                Map.of("observacoes", "Evento corrompido"));
+        invalido.headers().add(new RecordHeader("eventType", "EXECUCAO_CONCLUIDA".getBytes(StandardCharsets.UTF_8)));
+
+        ProducerRecord<String, Object> valido = new ProducerRecord<>(
+                KafkaConfig.TOPIC_EXECUTION_EVENTS,
+                osId.toString(),
+                Map.of("observacoes", "Serviço realizado", "executadoPor", "mecanico01"));
+        valido.headers().add(new RecordHeader("eventType", "EXECUCAO_CONCLUIDA".getBytes(StandardCharsets.UTF_8)));
+
+        // Act
+        kafkaTemplate.send(invalido);
+        kafkaTemplate.send(valido);
+
+        // Assert
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            verify(mockOrdemServico, times(1)).atualizarStatus(eq(StatusOS.FINALIZADA), anyString(), anyString());
+            verify(ordemServicoRepository, times(1)).saveAll(List.of(mockOrdemServico));
+        });
+    }
+
+    @Test
+    @DisplayName("Deve descartar reentrega de evento já processado")
+    void deveDescartarEventoDuplicado() {
+        // Arrange - mesmo eventId enviado duas vezes
+        String eventId = UUID.randomUUID().toString();
+        for (int i = 0; i < 2; i++) {
+            ProducerRecord<String, Object> record = new ProducerRecord<>(
+                    KafkaConfig.TOPIC_BILLING_EVENTS,
+                    osId.toString(),
+                    Map.of("aprovadoPor", "cliente@email.com"));
+            record.headers()
+                    .add(new RecordHeader("eventType", "ORCAMENTO_APROVADO".getBytes(StandardCharsets.UTF_8)))
+                    .add(new RecordHeader("eventId", eventId.getBytes(StandardCharsets.UTF_8)));
+
+            // Act
+            kafkaTemplate.send(record);
+        }
+
+        // Assert - aplicado uma única vez, sem ir para a DLT
+        await().during(3, TimeUnit.SECONDS).atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            verify(mockOrdemServico, times(1)).atualizarStatus(eq(StatusOS.EM_EXECUCAO), anyString(), anyString());
+            verify(ordemServicoRepository, times(1)).saveAll(List.of(mockOrdemServico));
         });
     }
 }
@@ -53,7 +53,7 @@ class KafkaEventPublisherTest {
     private EmbeddedKafkaBroker embeddedKafkaBroker;
 
     @Autowired
-    private EventPublisherPort eventPublisher; // Usar o bean do Spring com Resilience4j
+    private KafkaEventPublisher eventPublisher; // Usar o bean do Spring com Resilience4j (o primário é o outbox)
 
     private Consumer<String, Object> consumer;
 
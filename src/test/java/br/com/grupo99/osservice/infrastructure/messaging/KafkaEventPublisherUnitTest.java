@@ -20,10 +20,8 @@ import org.springframework.kafka.support.SendResult;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -102,15 +100,14 @@ class KafkaEventPublisherUnitTest {
     }
 
     @Test
-    @DisplayName("publishOSCancelada deve enviar de forma síncrona")
-    void publishOSCancelada_deveEnviarSincronamente() throws Exception {
+    @DisplayName("publishOSCancelada deve enviar sem bloquear com headers de compensação")
+    void publishOSCancelada_deveEnviarSemBloquear() {
         UUID osId = UUID.randomUUID();
         OSCanceladaEvent event = new OSCanceladaEvent(osId, "Motivo teste", "BILLING",
                 LocalDateTime.now(), "OS_CANCELADA");
 
-        SendResult<String, Object> sendResult = createMockSendResult("os-events", 0, 1L);
-        CompletableFuture<SendResult<String, Object>> future = CompletableFuture.completedFuture(sendResult);
-        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(future);
+        // Ack pendente: quem publica não espera o broker
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(new CompletableFuture<>());
 
         publisher.publishOSCancelada(event);
 
@@ -125,19 +122,18 @@ class KafkaEventPublisherUnitTest {
     }
 
     @Test
-    @DisplayName("publishOSCancelada deve lançar RuntimeException quando envio falha")
-    void publishOSCancelada_deveLancarExcecaoQuandoFalha() {
-        UUID osId = UUID.randomUUID();
-        OSCanceladaEvent event = new OSCanceladaEvent(osId, "Motivo", "BILLING",
+    @DisplayName("publishOSCancelada deve lidar com erro async no callback")
+    void publishOSCancelada_deveLidarComErroAsync() {
+        OSCanceladaEvent event = new OSCanceladaEvent(UUID.randomUUID(), "Motivo", "BILLING",
                 LocalDateTime.now(), "OS_CANCELADA");
 
         CompletableFuture<SendResult<String, Object>> failedFuture = new CompletableFuture<>();
         failedFuture.completeExceptionally(new RuntimeException("Kafka unavailable"));
         when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(failedFuture);
 
-        assertThatThrownBy(() -> publisher.publishOSCancelada(event))
-                .isInstanceOf(RuntimeException.class)
-                .hasMessageContaining("Falha ao publicar evento de compensação");
+        publisher.publishOSCancelada(event);
+
+        verify(kafkaTemplate).send(any(ProducerRecord.class));
     }
 
     @Test
@@ -179,16 +175,6 @@ class KafkaEventPublisherUnitTest {
         publisher.publishStatusMudadoFallback(event, new RuntimeException("CB Open"));
     }
 
-    @Test
-    @DisplayName("Fallback de OSCancelada não deve lançar exceção")
-    void publishOSCanceladaFallback_naoDeveLancarExcecao() {
-        UUID osId = UUID.randomUUID();
-        OSCanceladaEvent event = new OSCanceladaEvent(osId, "Motivo", "BILLING",
-                LocalDateTime.now(), "OS_CANCELADA");
-
-        publisher.publishOSCanceladaFallback(event, new RuntimeException("CB Open"));
-    }
-
     @Test
     @DisplayName("Fallback genérico de publishEvent não deve lançar exceção")
     void publishEventFallback_naoDeveLancarExcecao() {
@@ -0,0 +1,114 @@
+package br.com.grupo99.osservice.infrastructure.messaging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.ListenerContainerPauseService;
+import org.springframework.kafka.listener.ListenerContainerRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("KafkaRetryListener - Retry não bloqueante")
+class KafkaRetryListenerTest {
+
+    private static final String TOPICO = "billing-events.retry-10s";
+
+    private KafkaEventListener eventListener;
+    private SimpleMeterRegistry meterRegistry;
+    private Acknowledgment acknowledgment;
+    private ListenerContainerPauseService pauseService;
+    private MessageListenerContainer container;
+    private KafkaRetryListener listener;
+    private long offset;
+
+    @BeforeEach
+    void setUp() {
+        eventListener = mock(KafkaEventListener.class);
+        meterRegistry = new SimpleMeterRegistry();
+        acknowledgment = mock(Acknowledgment.class);
+        pauseService = mock(ListenerContainerPauseService.class);
+        container = mock(MessageListenerContainer.class);
+        ListenerContainerRegistry registry = mock(ListenerContainerRegistry.class);
+        when(registry.getListenerContainer("retry-10s")).thenReturn(container);
+        listener = new KafkaRetryListener(eventListener, meterRegistry, registry, pauseService);
+    }
+
+    @Test
+    @DisplayName("Deve reprocessar o lote vencido e confirmar os offsets")
+    void deveReprocessarLoteVencido() {
+        long antigo = System.currentTimeMillis() - 20_000;
+        List<ConsumerRecord<String, Object>> records = List.of(record(antigo), record(antigo));
+
+        listener.reprocessar(records, acknowledgment, RetryTier.RETRY_10S);
+
+        verify(eventListener).processarLote(records, "retry-10s");
+        verify(acknowledgment).acknowledge();
+        verify(acknowledgment, never()).nack(anyInt(), any(Duration.class));
+        verifyNoInteractions(pauseService);
+        assertThat(meterRegistry.counter("kafka.retry.attempts", "tier", "retry-10s").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Deve pausar só a partição até o vencimento do primeiro registro pendente")
+    void devePausarAteVencimento() {
+        long agora = System.currentTimeMillis();
+        ConsumerRecord<String, Object> vencido = record(agora - 20_000);
+        ConsumerRecord<String, Object> pendente = record(agora - 2_000);
+        List<ConsumerRecord<String, Object>> records = List.of(vencido, pendente, record(agora));
+
+        listener.reprocessar(records, acknowledgment, RetryTier.RETRY_10S);
+
+        verify(eventListener).processarLote(List.of(vencido), "retry-10s");
+        verify(acknowledgment).nack(1, Duration.ZERO);
+        verify(pauseService).pausePartition(eq(container), eq(new TopicPartition(TOPICO, 0)),
+                argThat((Duration espera) -> espera.toMillis() > 0 && espera.toMillis() <= 8_000));
+        verify(acknowledgment, never()).acknowledge();
+        assertThat(meterRegistry.counter("kafka.retry.paused", "tier", "retry-10s").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Não deve reprocessar nada enquanto nenhum registro venceu")
+    void naoDeveReprocessarAntesDoAtraso() {
+        List<ConsumerRecord<String, Object>> records = List.of(record(System.currentTimeMillis()));
+
+        listener.reprocessar(records, acknowledgment, RetryTier.RETRY_10S);
+
+        verify(eventListener, never()).processarLote(anyList(), anyString());
+        verify(acknowledgment).nack(0, Duration.ZERO);
+        verify(pauseService).pausePartition(eq(container), eq(new TopicPartition(TOPICO, 0)), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Deve encadear os níveis de retry até a DLT")
+    void deveEncadearNiveis() {
+        assertThat(RetryTier.proximoDestino("billing-events", true)).isEqualTo("billing-events.retry-1s");
+        assertThat(RetryTier.proximoDestino("billing-events.retry-1s", true)).isEqualTo("billing-events.retry-10s");
+        assertThat(RetryTier.proximoDestino("billing-events.retry-10s", true)).isEqualTo("billing-events.retry-60s");
+        assertThat(RetryTier.proximoDestino("billing-events.retry-60s", true)).isEqualTo("billing-events.DLT");
+        assertThat(RetryTier.proximoDestino("execution-events.retry-1s", false)).isEqualTo("execution-events.DLT");
+        assertThat(RetryTier.origem("execution-events.retry-60s")).isEqualTo("execution-events");
+        assertThat(RetryTier.de("execution-events")).isNull();
+    }
+
+    private ConsumerRecord<String, Object> record(long timestamp) {
+        return new ConsumerRecord<>(TOPICO, 0, offset++, timestamp, TimestampType.CREATE_TIME, 0, 0,
+                "key", null, new RecordHeaders(), Optional.empty());
+    }
+}
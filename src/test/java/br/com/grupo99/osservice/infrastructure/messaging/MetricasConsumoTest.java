@@ -0,0 +1,73 @@
+package br.com.grupo99.osservice.infrastructure.messaging;
+
+import br.com.grupo99.osservice.application.events.EventoRecebido;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MetricasConsumo - Métricas do consumidor Kafka")
+class MetricasConsumoTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MetricasConsumo metricas = new MetricasConsumo(meterRegistry);
+
+    @Test
+    @DisplayName("Deve registrar a idade do evento por tópico e tipo")
+    void deveRegistrarIdade() {
+        ConsumerRecord<String, Object> record = record(System.currentTimeMillis() - 5_000,
+                new EventoRecebido.OrcamentoRejeitado(UUID.randomUUID(), "caro"));
+
+        metricas.registrarRecebimento(record);
+
+        Timer idade = meterRegistry.get("kafka.consumer.event.age")
+                .tags("topic", "billing-events", "eventType", "ORCAMENTO_REJEITADO")
+                .timer();
+        assertThat(idade.count()).isEqualTo(1);
+        assertThat(idade.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(5_000);
+    }
+
+    @Test
+    @DisplayName("Deve registrar o tempo de processamento por tópico e tipo")
+    void deveRegistrarProcessamentoPorTipo() {
+        long inicio = System.nanoTime();
+        metricas.registrarProcessamento(record(0L, new EventoRecebido.OrcamentoRejeitado(UUID.randomUUID(), "caro")),
+                inicio, inicio + TimeUnit.MILLISECONDS.toNanos(30));
+        metricas.registrarProcessamento(record(0L, new EventoRecebido.ExecucaoConcluida(UUID.randomUUID(), "ok",
+                "mecanico")), inicio, inicio + TimeUnit.MILLISECONDS.toNanos(10));
+
+        Timer rejeitado = meterRegistry.get("kafka.consumer.latency")
+                .tags("topic", "billing-events", "eventType", "ORCAMENTO_REJEITADO")
+                .timer();
+        assertThat(rejeitado.count()).isEqualTo(1);
+        assertThat(rejeitado.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(30.0);
+        assertThat(meterRegistry.get("kafka.consumer.latency").tags("eventType", "EXECUCAO_CONCLUIDA")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve contar sucessos e falhas por tipo, com tipo desconhecido agrupado")
+    void deveContarPorTipo() {
+        metricas.contarSucesso(record(0L, new EventoRecebido.OrcamentoRejeitado(UUID.randomUUID(), "caro")));
+        metricas.contarFalha(record(0L, null));
+
+        assertThat(meterRegistry.get("kafka.consumer.events.total")
+                .tags("eventType", "ORCAMENTO_REJEITADO", "status", "success").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("kafka.consumer.events.failed")
+                .tags("eventType", MetricasConsumo.DESCONHECIDO).counter().count()).isEqualTo(1.0);
+    }
+
+    private static ConsumerRecord<String, Object> record(long timestamp, Object valor) {
+        return new ConsumerRecord<>("billing-events", 0, 0L, timestamp, TimestampType.CREATE_TIME, 0, 0,
+                "key", valor, new RecordHeaders(), Optional.empty());
+    }
+}
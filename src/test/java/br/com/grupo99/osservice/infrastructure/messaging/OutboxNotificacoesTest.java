@@ -0,0 +1,78 @@
+package br.com.grupo99.osservice.infrastructure.messaging;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OutboxNotificacoes - Relay acionado por LISTEN/NOTIFY")
+class OutboxNotificacoesTest {
+
+    private OutboxRelay relay;
+    private Connection conexao;
+    private PGConnection pg;
+    private OutboxNotificacoes notificacoes;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        relay = mock(OutboxRelay.class);
+        conexao = mock(Connection.class);
+        pg = mock(PGConnection.class);
+        when(conexao.unwrap(PGConnection.class)).thenReturn(pg);
+        when(conexao.createStatement()).thenReturn(mock(Statement.class));
+        notificacoes = new OutboxNotificacoes(relay, new DataSourceProperties(), 10, 10);
+        ReflectionTestUtils.setField(notificacoes, "rodando", true);
+    }
+
+    @Test
+    @DisplayName("Deve drenar ao conectar e a cada notificação, sem drenar nos timeouts")
+    void deveDrenarPorNotificacao() throws SQLException {
+        when(pg.getNotifications(anyInt()))
+                .thenReturn(new PGNotification[] { mock(PGNotification.class) })
+                .thenReturn(new PGNotification[0])
+                .thenAnswer(invocacao -> {
+                    notificacoes.stop();
+                    return null;
+                });
+
+        notificacoes.escutar(conexao);
+
+        verify(relay).notificacoesAtivas(true);
+        // Uma drenagem de recuperação após o LISTEN e uma pela notificação
+        verify(relay, times(2)).drenar();
+        verify(pg, times(3)).getNotifications(10);
+    }
+
+    @Test
+    @DisplayName("Falha na conexão deve interromper a escuta")
+    void deveInterromperEscutaNaFalha() throws SQLException {
+        when(pg.getNotifications(anyInt())).thenThrow(new SQLException("conexão encerrada"));
+
+        assertThatThrownBy(() -> notificacoes.escutar(conexao)).isInstanceOf(SQLException.class);
+        verify(relay, times(1)).drenar();
+    }
+
+    @Test
+    @DisplayName("Não deve iniciar a escuta fora do Postgres")
+    void naoDeveIniciarForaDoPostgres() {
+        DataSourceProperties h2 = new DataSourceProperties();
+        h2.setUrl("jdbc:h2:mem:testdb");
+        OutboxNotificacoes semPostgres = new OutboxNotificacoes(relay, h2, 10, 10);
+
+        semPostgres.start();
+
+        assertThat(semPostgres.isRunning()).isFalse();
+    }
+}
@@ -0,0 +1,202 @@
+package br.com.grupo99.osservice.infrastructure.messaging;
+
+import br.com.grupo99.osservice.application.events.OSCanceladaEvent;
+import br.com.grupo99.osservice.infrastructure.persistence.EventoOutbox;
+import br.com.grupo99.osservice.infrastructure.persistence.JpaEventoOutboxRepository;
+import br.com.grupo99.osservice.infrastructure.serialization.EventosBinarios;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OutboxRelay - Publicação em lote do outbox")
+class OutboxRelayTest {
+
+    private static final String TOPICO = "os-events";
+
+    private JpaEventoOutboxRepository repository;
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay relay;
+    private long id;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        repository = mock(JpaEventoOutboxRepository.class);
+        kafkaTemplate = mock(KafkaTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(repository, kafkaTemplate, mock(PlatformTransactionManager.class),
+                meterRegistry, 2, 1_000, 24, 30_000, "json");
+    }
+
+    @Test
+    @DisplayName("Deve publicar o lote com os headers gravados e marcar todos com um UPDATE")
+    @SuppressWarnings("unchecked")
+    void devePublicarLoteEMarcar() {
+        EventoOutbox primeiro = evento();
+        EventoOutbox segundo = evento();
+        when(repository.findPendentesParaPublicar(eq(2), any(LocalDateTime.class)))
+                .thenReturn(List.of(primeiro, segundo));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        assertThat(relay.publicarLote()).isEqualTo(2);
+
+        ArgumentCaptor<ProducerRecord<String, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(2)).send(captor.capture());
+        ProducerRecord<String, Object> enviado = captor.getAllValues().get(0);
+        assertThat(enviado.topic()).isEqualTo(TOPICO);
+        assertThat(enviado.key()).isEqualTo(primeiro.getAgregadoId().toString());
+        assertThat(enviado.value()).isEqualTo(primeiro.getPayload().getBytes(StandardCharsets.UTF_8));
+        assertThat(new String(enviado.headers().lastHeader("eventId").value(), StandardCharsets.UTF_8))
+                .isEqualTo(primeiro.getEventoId().toString());
+        assertThat(new String(enviado.headers().lastHeader("eventType").value(), StandardCharsets.UTF_8))
+                .isEqualTo("OS_CRIADA");
+
+        verify(repository).reservar(eq(List.of(primeiro.getId(), segundo.getId())), any(LocalDateTime.class));
+        verify(repository).marcarPublicados(eq(List.of(primeiro.getId(), segundo.getId())), any(LocalDateTime.class));
+        verify(repository, never()).liberar(anyCollection());
+        assertThat(meterRegistry.counter("outbox.relay.published").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Eventos sem confirmação do broker devem continuar pendentes e ter a reserva liberada")
+    @SuppressWarnings("unchecked")
+    void naoDeveMarcarEventoSemConfirmacao() {
+        EventoOutbox confirmado = evento();
+        EventoOutbox recusado = evento();
+        when(repository.findPendentesParaPublicar(eq(2), any(LocalDateTime.class)))
+                .thenReturn(List.of(confirmado, recusado));
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(null))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker indisponível")));
+
+        assertThat(relay.publicarLote()).isEqualTo(1);
+
+        verify(repository).marcarPublicados(eq(List.of(confirmado.getId())), any(LocalDateTime.class));
+        verify(repository).liberar(List.of(recusado.getId()));
+        assertThat(meterRegistry.counter("outbox.relay.failed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Deve enviar fora da transação: reserva e marcação em transações curtas")
+    @SuppressWarnings("unchecked")
+    void deveEnviarForaDaTransacao() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        relay = new OutboxRelay(repository, kafkaTemplate, transactionManager,
+                meterRegistry, 2, 1_000, 24, 30_000, "json");
+        EventoOutbox evento = evento();
+        when(repository.findPendentesParaPublicar(eq(2), any(LocalDateTime.class))).thenReturn(List.of(evento));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        relay.publicarLote();
+
+        InOrder ordem = inOrder(transactionManager, repository, kafkaTemplate);
+        ordem.verify(transactionManager).getTransaction(any());
+        ordem.verify(repository).reservar(eq(List.of(evento.getId())), any(LocalDateTime.class));
+        ordem.verify(transactionManager).commit(any());
+        ordem.verify(kafkaTemplate).send(any(ProducerRecord.class));
+        ordem.verify(transactionManager).getTransaction(any());
+        ordem.verify(repository).marcarPublicados(eq(List.of(evento.getId())), any(LocalDateTime.class));
+        ordem.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Deve continuar drenando enquanto os lotes publicarem eventos")
+    @SuppressWarnings("unchecked")
+    void deveDrenarEnquantoHouverProgresso() {
+        // Lote parcial não encerra a drenagem: o próximo evento de uma OS só
+        // fica elegível depois que o anterior é publicado
+        when(repository.findPendentesParaPublicar(eq(2), any(LocalDateTime.class)))
+                .thenReturn(List.of(evento(), evento()))
+                .thenReturn(List.of(evento()))
+                .thenReturn(List.of());
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        relay.drenar();
+
+        verify(repository, times(3)).findPendentesParaPublicar(anyInt(), any(LocalDateTime.class));
+        verify(repository, times(2)).marcarPublicados(anyCollection(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Com a escuta LISTEN ativa, a varredura não deve consultar o banco antes do fallback")
+    void naoDeveVarrerComNotificacoesAtivas() {
+        when(repository.findPendentesParaPublicar(eq(2), any(LocalDateTime.class))).thenReturn(List.of());
+
+        relay.varrer();
+        relay.notificacoesAtivas(true);
+        relay.varrer();
+        relay.varrer();
+
+        verify(repository, times(1)).findPendentesParaPublicar(anyInt(), any(LocalDateTime.class));
+
+        relay.notificacoesAtivas(false);
+        relay.varrer();
+
+        verify(repository, times(2)).findPendentesParaPublicar(anyInt(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Com codificação binária, deve recodificar o JSON gravado e omitir o __TypeId__")
+    @SuppressWarnings("unchecked")
+    void deveRecodificarEmBinario() {
+        relay = new OutboxRelay(repository, kafkaTemplate, mock(PlatformTransactionManager.class),
+                meterRegistry, 2, 1_000, 24, 30_000, "binary");
+        OSCanceladaEvent cancelada = new OSCanceladaEvent(UUID.randomUUID(), "Orçamento rejeitado",
+                "ORCAMENTO", LocalDateTime.now(), "OS_CANCELADA");
+        EventoOutbox evento = OutboxEventPublisher.compensacao(cancelada, UUID.randomUUID());
+        ReflectionTestUtils.setField(evento, "id", ++id);
+        when(repository.findPendentesParaPublicar(eq(2), any(LocalDateTime.class))).thenReturn(List.of(evento));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        assertThat(relay.publicarLote()).isEqualTo(1);
+
+        ArgumentCaptor<ProducerRecord<String, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(captor.capture());
+        ProducerRecord<String, Object> enviado = captor.getValue();
+        byte[] payload = (byte[]) enviado.value();
+        assertThat(EventosBinarios.binario(payload)).isTrue();
+        assertThat(EventosBinarios.padrao().decodificar(payload)).isEqualTo(cancelada);
+        assertThat(enviado.headers().lastHeader("__TypeId__")).isNull();
+        assertThat(enviado.headers().lastHeader("eventType")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Outbox vazio não deve enviar nem atualizar nada")
+    void naoDevePublicarOutboxVazio() {
+        when(repository.findPendentesParaPublicar(eq(2), any(LocalDateTime.class))).thenReturn(List.of());
+
+        assertThat(relay.publicarLote()).isZero();
+
+        verifyNoInteractions(kafkaTemplate);
+        verify(repository, never()).reservar(any(Collection.class), any());
+        verify(repository, never()).marcarPublicados(any(Collection.class), any());
+    }
+
+    private EventoOutbox evento() {
+        EventoOutbox evento = new EventoOutbox(UUID.randomUUID(), TOPICO, "OS_CRIADA",
+                "{\"eventType\":\"OS_CRIADA\"}", "{\"eventType\":\"OS_CRIADA\"}");
+        ReflectionTestUtils.setField(evento, "id", ++id);
+        return evento;
+    }
+}
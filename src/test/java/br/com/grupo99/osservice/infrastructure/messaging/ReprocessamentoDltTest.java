@@ -0,0 +1,122 @@
+package br.com.grupo99.osservice.infrastructure.messaging;
+
+import br.com.grupo99.osservice.application.dto.ReprocessamentoDltRequestDTO;
+import br.com.grupo99.osservice.application.dto.ReprocessamentoDltResponseDTO;
+import br.com.grupo99.osservice.infrastructure.config.KafkaConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ReprocessamentoDlt - Replay das Dead Letter Topics")
+class ReprocessamentoDltTest {
+
+    private static final String DLT = KafkaConfig.DLT_BILLING_EVENTS;
+    private static final TopicPartition PARTICAO = new TopicPartition(DLT, 0);
+
+    private MockConsumer<String, byte[]> consumer;
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    private ReprocessamentoDlt reprocessamento;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.updatePartitions(DLT, List.of(new PartitionInfo(DLT, 0, null, null, null)));
+        consumer.updateBeginningOffsets(Map.of(PARTICAO, 0L));
+        consumer.updateEndOffsets(Map.of(PARTICAO, 3L));
+        consumer.schedulePollTask(() -> {
+            consumer.addRecord(record(0, "os-1", "ORCAMENTO_APROVADO"));
+            consumer.addRecord(record(1, "os-2", "ORCAMENTO_REJEITADO"));
+            consumer.addRecord(record(2, "os-3", "ORCAMENTO_APROVADO"));
+        });
+
+        kafkaTemplate = mock(KafkaTemplate.class);
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        reprocessamento = new ReprocessamentoDlt(() -> consumer, kafkaTemplate, new SimpleMeterRegistry(), 1000);
+    }
+
+    @Test
+    @DisplayName("Deve reenviar ao tópico de origem apenas os eventos filtrados, sem headers de DLT")
+    @SuppressWarnings("unchecked")
+    void deveReenviarEventosFiltrados() {
+        ReprocessamentoDltRequestDTO filtro = new ReprocessamentoDltRequestDTO();
+        filtro.setEventType("ORCAMENTO_APROVADO");
+        ReprocessamentoDlt.Execucao execucao = new ReprocessamentoDlt.Execucao(DLT, filtro, 1000);
+
+        reprocessamento.executar(execucao);
+
+        ArgumentCaptor<ProducerRecord<String, Object>> enviados = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(2)).send(enviados.capture());
+        ProducerRecord<String, Object> primeiro = enviados.getAllValues().get(0);
+        assertThat(primeiro.topic()).isEqualTo(KafkaConfig.TOPIC_BILLING_EVENTS);
+        assertThat(primeiro.key()).isEqualTo("os-1");
+        assertThat(primeiro.value()).isEqualTo("{\"osId\":\"os-1\"}".getBytes(StandardCharsets.UTF_8));
+        assertThat(primeiro.headers().lastHeader("eventType")).isNotNull();
+        assertThat(primeiro.headers().lastHeader("kafka_dlt-exception-message")).isNull();
+        assertThat(primeiro.headers().lastHeader(ClassificadorFalhas.HEADER_CAUSA)).isNull();
+
+        ReprocessamentoDltResponseDTO progresso = execucao.progresso();
+        assertThat(progresso.getStatus()).isEqualTo("CONCLUIDO");
+        assertThat(progresso.getLidos()).isEqualTo(3);
+        assertThat(progresso.getSelecionados()).isEqualTo(2);
+        assertThat(progresso.getReenviados()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Dry-run deve apenas contar os eventos selecionados")
+    void dryRunNaoDeveEnviar() {
+        ReprocessamentoDltRequestDTO filtro = new ReprocessamentoDltRequestDTO();
+        filtro.setChave("os-2");
+        filtro.setDryRun(true);
+        ReprocessamentoDlt.Execucao execucao = new ReprocessamentoDlt.Execucao(DLT, filtro, 1000);
+
+        reprocessamento.executar(execucao);
+
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+        assertThat(execucao.progresso().getSelecionados()).isEqualTo(1);
+        assertThat(execucao.progresso().getReenviados()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve recusar tópicos que não são DLT")
+    void deveRecusarTopicoInvalido() {
+        assertThatThrownBy(() -> reprocessamento.iniciar(KafkaConfig.TOPIC_BILLING_EVENTS,
+                new ReprocessamentoDltRequestDTO()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(reprocessamento.progresso()).isEqualTo(Optional.empty());
+    }
+
+    private static ConsumerRecord<String, byte[]> record(long offset, String chave, String eventType) {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add("eventType", eventType.getBytes(StandardCharsets.UTF_8));
+        headers.add("kafka_dlt-exception-message", "falha".getBytes(StandardCharsets.UTF_8));
+        headers.add(ClassificadorFalhas.HEADER_CAUSA, "TRANSICAO_INVALIDA".getBytes(StandardCharsets.UTF_8));
+        return new ConsumerRecord<>(DLT, 0, offset, System.currentTimeMillis(), TimestampType.CREATE_TIME, 0, 0,
+                chave, ("{\"osId\":\"" + chave + "\"}").getBytes(StandardCharsets.UTF_8), headers, Optional.empty());
+    }
+}
@@ -1,14 +1,18 @@
 package br.com.grupo99.osservice.infrastructure.persistence;
 
+import br.com.grupo99.osservice.domain.event.EventoOrdemServico;
+import br.com.grupo99.osservice.domain.event.EventosOrdemServico;
 import br.com.grupo99.osservice.domain.model.OrdemServico;
 import br.com.grupo99.osservice.domain.model.StatusOS;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -29,6 +33,9 @@ class OrdemServicoRepositoryAdapterTest {
     @Mock
     private JpaOrdemServicoRepository jpaRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private OrdemServicoRepositoryAdapter adapter;
 
@@ -184,6 +191,32 @@ class OrdemServicoRepositoryAdapterTest {
         verify(jpaRepository).deleteAll();
     }
 
+    @Test
+    @DisplayName("Deve publicar os eventos do agregado com o id da OS salva")
+    void devePublicarEventosComIdDaOsSalva() {
+        OrdemServico nova = new OrdemServico(UUID.randomUUID(), UUID.randomUUID(), "Problema teste");
+        when(jpaRepository.save(nova)).thenReturn(osMock);
+
+        adapter.save(nova);
+        adapter.save(nova);
+
+        // Uma OS nova é gravada por merge: só a cópia devolvida tem o id
+        ArgumentCaptor<EventosOrdemServico> captor = ArgumentCaptor.forClass(EventosOrdemServico.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().osId()).isEqualTo(osId);
+        assertThat(captor.getValue().eventos()).singleElement().isInstanceOf(EventoOrdemServico.OSCriada.class);
+    }
+
+    @Test
+    @DisplayName("OS sem eventos não deve publicar nada")
+    void osSemEventosNaoDevePublicar() {
+        when(jpaRepository.save(osMock)).thenReturn(osMock);
+
+        adapter.save(osMock);
+
+        verifyNoInteractions(eventPublisher);
+    }
+
     @Test
     @DisplayName("Deve salvar lista de OS")
     void deveSalvarListaDeOS() {
@@ -0,0 +1,122 @@
+package br.com.grupo99.osservice.infrastructure.persistence;
+
+import br.com.grupo99.osservice.domain.model.OrdemServico;
+import br.com.grupo99.osservice.domain.model.StatusOS;
+import br.com.grupo99.osservice.infrastructure.security.jwt.JwtUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrdemServicoRepositoryPorCliente - Testes Unitários")
+class OrdemServicoRepositoryPorClienteTest {
+
+    @Mock
+    private OrdemServicoRepositoryAdapter delegate;
+
+    @Mock
+    private JpaOrdemServicoRepository jpaRepository;
+
+    @InjectMocks
+    private OrdemServicoRepositoryPorCliente repository;
+
+    private final UUID pessoaId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private void autenticar(String perfil) {
+        JwtUserDetails userDetails = JwtUserDetails.from("usuario@email.com", pessoaId.toString(),
+                "12345678900", "FISICA", null, perfil);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+
+    @Test
+    @DisplayName("Sem CLIENTE autenticado deve delegar sem escopo")
+    void deveDelegarSemEscopo() {
+        UUID id = UUID.randomUUID();
+        autenticar("MECANICO");
+
+        repository.findById(id);
+        repository.findByStatus(StatusOS.RECEBIDA);
+        SecurityContextHolder.clearContext();
+        repository.findAll();
+
+        verify(delegate).findById(id);
+        verify(delegate).findByStatus(StatusOS.RECEBIDA);
+        verify(delegate).findAll();
+        verifyNoInteractions(jpaRepository);
+    }
+
+    @Test
+    @DisplayName("CLIENTE deve consultar com cliente_id no banco")
+    void clienteDeveConsultarComClienteId() {
+        UUID id = UUID.randomUUID();
+        autenticar("CLIENTE");
+        when(jpaRepository.findByIdAndClienteId(id, pessoaId)).thenReturn(Optional.empty());
+
+        assertThat(repository.findById(id)).isEmpty();
+        repository.findByStatus(StatusOS.RECEBIDA);
+        repository.findByStatusIn(List.of(StatusOS.RECEBIDA));
+        repository.findAllById(List.of(id));
+
+        verify(jpaRepository).findByStatusAndClienteId(StatusOS.RECEBIDA, pessoaId);
+        verify(jpaRepository).findByStatusInAndClienteId(List.of(StatusOS.RECEBIDA), pessoaId);
+        verify(jpaRepository).findByIdInAndClienteId(List.of(id), pessoaId);
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("Timeline de veículo do CLIENTE deve ser restrita às próprias OS")
+    void timelineDeVeiculoDeveSerRestrita() {
+        UUID veiculoId = UUID.randomUUID();
+        autenticar("CLIENTE");
+
+        repository.findTimelineByVeiculoId(veiculoId, null, null, null, 21);
+        assertThat(repository.findTimelineByVeiculoId(veiculoId, UUID.randomUUID(), null, null, 21)).isEmpty();
+        assertThat(repository.findTimelineByClienteId(UUID.randomUUID(), null, null, 21)).isEmpty();
+
+        verify(delegate).findTimelineByVeiculoId(veiculoId, pessoaId, null, null, 21);
+        verify(delegate, never()).findTimelineByClienteId(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("CLIENTE não deve gravar nem remover OS de outro cliente")
+    void clienteNaoDeveAlterarOSAlheia() {
+        UUID id = UUID.randomUUID();
+        autenticar("CLIENTE");
+        OrdemServico alheia = new OrdemServico(UUID.randomUUID(), UUID.randomUUID(), "Motor");
+        when(jpaRepository.existsByIdAndClienteId(id, pessoaId)).thenReturn(false);
+
+        assertThatThrownBy(() -> repository.save(alheia)).isInstanceOf(AccessDeniedException.class);
+        repository.deleteById(id);
+
+        verify(delegate, never()).save(any());
+        verify(delegate, never()).deleteById(any());
+    }
+}
@@ -3,14 +3,20 @@ package br.com.grupo99.osservice.infrastructure.repository;
 import br.com.grupo99.osservice.domain.model.OrdemServico;
 import br.com.grupo99.osservice.domain.model.StatusOS;
 import br.com.grupo99.osservice.domain.repository.OrdemServicoRepository;
+import br.com.grupo99.osservice.infrastructure.security.jwt.JwtUserDetails;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -195,4 +201,80 @@ class OrdemServicoRepositoryTest {
         assertEquals(4, found.get().getHistorico().size());
         assertEquals(StatusOS.EM_EXECUCAO, found.get().getStatus());
     }
+
+    @Test
+    @DisplayName("Deve paginar timeline do cliente por cursor sem repetir nem pular OS")
+    void devePaginarTimelinePorCursor() {
+        // Arrange
+        LocalDateTime base = LocalDateTime.of(2026, 1, 31, 10, 0);
+        List<OrdemServico> ordens = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            OrdemServico os = OrdemServico.criar("Cliente", "timeline@email.com", "11111111111", "TLN-000" + i,
+                    "Desc " + i);
+            // Duas OS com a mesma data para exercitar o desempate por id
+            os.setDataCriacao(base.minusHours(Math.min(i, 3)));
+            ordens.add(os);
+        }
+        ordens.add(OrdemServico.criar("Outro", "outro@email.com", "22222222222", "OUT-0001", "Outro cliente"));
+        repository.saveAll(ordens);
+        UUID clienteId = ordens.get(0).getClienteId();
+
+        // Act
+        List<OrdemServico> percorridas = new ArrayList<>();
+        List<OrdemServico> pagina = repository.findTimelineByClienteId(clienteId, null, null, 2);
+        while (!pagina.isEmpty()) {
+            percorridas.addAll(pagina);
+            OrdemServico ultima = pagina.get(pagina.size() - 1);
+            pagina = repository.findTimelineByClienteId(clienteId, ultima.getDataCriacao(), ultima.getId(), 2);
+        }
+
+        // Assert
+        assertEquals(5, percorridas.size());
+        assertEquals(5, percorridas.stream().map(OrdemServico::getId).distinct().count());
+        for (int i = 1; i < percorridas.size(); i++) {
+            assertFalse(percorridas.get(i).getDataCriacao().isAfter(percorridas.get(i - 1).getDataCriacao()));
+        }
+        UUID veiculoId = ordens.get(0).getVeiculoId();
+        assertEquals(1, repository.findTimelineByVeiculoId(veiculoId, null, null, null, 10).size());
+        assertEquals(0, repository.findTimelineByVeiculoId(veiculoId, ordens.get(5).getClienteId(), null, null, 10)
+                .size());
+    }
+
+    @Test
+    @DisplayName("CLIENTE deve enxergar apenas as próprias OS")
+    void clienteDeveEnxergarApenasPropriasOS() {
+        // Arrange
+        List<OrdemServico> salvas = repository.saveAll(List.of(
+                OrdemServico.criar("Ana", "ana@email.com", "11111111111", "ANA-0001", "Freio"),
+                OrdemServico.criar("Ana", "ana@email.com", "11111111111", "ANA-0002", "Óleo"),
+                OrdemServico.criar("Bruno", "bruno@email.com", "22222222222", "BRU-0001", "Motor")));
+        OrdemServico propria1 = salvas.get(0);
+        OrdemServico propria2 = salvas.get(1);
+        OrdemServico alheia = salvas.get(2);
+        UUID clienteId = propria1.getClienteId();
+        assertEquals(clienteId, propria2.getClienteId());
+
+        JwtUserDetails cliente = JwtUserDetails.from("ana@email.com", clienteId.toString(), "11111111111",
+                "FISICA", null, "CLIENTE");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(cliente, null, cliente.getAuthorities()));
+        try {
+            // Act & Assert
+            assertEquals(2, repository.findAll().size());
+            assertTrue(repository.findAll().stream().allMatch(os -> clienteId.equals(os.getClienteId())));
+            assertTrue(repository.findById(propria1.getId()).isPresent());
+            assertTrue(repository.findById(alheia.getId()).isEmpty());
+            assertFalse(repository.existsById(alheia.getId()));
+            assertEquals(2, repository.countByStatus(propria1.getStatus()));
+            assertEquals(0, repository.findByClienteId(alheia.getClienteId(),
+                    org.springframework.data.domain.PageRequest.of(0, 10)).getTotalElements());
+            assertThrows(AccessDeniedException.class, () -> repository.save(alheia));
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+
+        // Sem escopo (mecânico, listeners): todas as OS
+        assertEquals(3, repository.findAll().size());
+        assertTrue(repository.findById(alheia.getId()).isPresent());
+    }
 }
@@ -0,0 +1,352 @@
+package br.com.grupo99.osservice.infrastructure.security.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.security.Key;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtAuthenticationFilter")
+class JwtAuthenticationFilterTest {
+
+    private JwtAuthenticationFilter filter;
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private FilterChain filterChain;
+
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    private static final String SECRET_KEY = "dGVzdC1zZWNyZXQta2V5LXdpdGgtbWluaW11bS0yNTYtYml0cy1mb3ItaHMyNTYtc2lnbmluZw==";
+    private static final long JWT_EXPIRATION = 3600000;
+    private static final String USERNAME = "testuser@email.com";
+    private static final String PESSOA_ID = UUID.randomUUID().toString();
+    private static final String NUMERO_DOCUMENTO = "12345678900";
+    private static final String TIPO_PESSOA = "FISICA";
+    private static final String PERFIL = "ADMIN";
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(SECRET_KEY, JWT_EXPIRATION, 10_000);
+
+        filter = new JwtAuthenticationFilter(jwtUtil);
+
+        request = new MockHttpServletRequest();
+        response = new MockHttpServletResponse();
+
+        SecurityContextHolder.clearContext();
+    }
+
+    private Key getSignInKey() {
+        byte[] decodedKey = java.util.Base64.getDecoder().decode(SECRET_KEY);
+        return Keys.hmacShaKeyFor(decodedKey);
+    }
+
+    private String createToken(String perfil) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("pessoaId", PESSOA_ID);
+        claims.put("numeroDocumento", NUMERO_DOCUMENTO);
+        claims.put("tipoPessoa", TIPO_PESSOA);
+        claims.put("perfil", perfil);
+
+        return Jwts.builder()
+                .setClaims(claims)
+                .setSubject(USERNAME)
+                .setIssuedAt(new Date(System.currentTimeMillis()))
+                .setExpiration(new Date(System.currentTimeMillis() + JWT_EXPIRATION))
+                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private void requisicao(String perfil, String method, String uri) {
+        request.addHeader("Authorization", "Bearer " + createToken(perfil));
+        request.setMethod(method);
+        request.setRequestURI(uri);
+    }
+
+    @Nested
+    @DisplayName("Autenticação")
+    class Autenticacao {
+
+        @Test
+        @DisplayName("Deve continuar filtro sem autenticação quando header Authorization ausente")
+        void deveContinuarFiltroSemAuthorizationHeader() throws ServletException, IOException {
+            filter.doFilterInternal(request, response, filterChain);
+
+            verify(filterChain, times(1)).doFilter(request, response);
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        }
+
+        @Test
+        @DisplayName("Deve continuar filtro quando header não começa com Bearer")
+        void deveContinuarFiltroSemBearer() throws ServletException, IOException {
+            request.addHeader("Authorization", "Basic sometoken");
+
+            filter.doFilterInternal(request, response, filterChain);
+
+            verify(filterChain, times(1)).doFilter(request, response);
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        }
+
+        @Test
+        @DisplayName("Deve autenticar com token válido")
+        void deveAutenticarComTokenValido() throws ServletException, IOException {
+            String token = createToken(PERFIL);
+            request.addHeader("Authorization", "Bearer " + token);
+
+            filter.doFilterInternal(request, response, filterChain);
+
+            verify(filterChain, times(1)).doFilter(request, response);
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+            assertThat(SecurityContextHolder.getContext().getAuthentication().isAuthenticated()).isTrue();
+
+            JwtUserDetails principal = (JwtUserDetails) SecurityContextHolder.getContext()
+                    .getAuthentication().getPrincipal();
+            assertThat(principal.getUsername()).isEqualTo(USERNAME);
+            assertThat(principal.getPerfil()).isEqualTo(PERFIL);
+        }
+
+        @Test
+        @DisplayName("Deve limpar contexto para token malformado")
+        void deveLimparContextoParaTokenMalformado() throws ServletException, IOException {
+            request.addHeader("Authorization", "Bearer invalid.token.here");
+
+            filter.doFilterInternal(request, response, filterChain);
+
+            verify(filterChain, times(1)).doFilter(request, response);
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        }
+
+        @Test
+        @DisplayName("Deve limpar contexto para token expirado")
+        void deveLimparContextoParaTokenExpirado() throws ServletException, IOException {
+            Map<String, Object> claims = new HashMap<>();
+            claims.put("pessoaId", PESSOA_ID);
+            claims.put("numeroDocumento", NUMERO_DOCUMENTO);
+            claims.put("tipoPessoa", TIPO_PESSOA);
+            claims.put("perfil", PERFIL);
+
+            String expiredToken = Jwts.builder()
+                    .setClaims(claims)
+                    .setSubject(USERNAME)
+                    .setIssuedAt(new Date(System.currentTimeMillis() - 7200000))
+                    .setExpiration(new Date(System.currentTimeMillis() - 3600000))
+                    .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                    .compact();
+
+            request.addHeader("Authorization", "Bearer " + expiredToken);
+
+            filter.doFilterInternal(request, response, filterChain);
+
+            verify(filterChain, times(1)).doFilter(request, response);
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        }
+
+        @Test
+        @DisplayName("Deve limpar contexto quando token não tem claims obrigatórios")
+        void deveLimparContextoQuandoTokenSemClaims() throws ServletException, IOException {
+            // Token without required claims like pessoaId, perfil
+            String tokenSemClaims = Jwts.builder()
+                    .setSubject(USERNAME)
+                    .setIssuedAt(new Date())
+                    .setExpiration(new Date(System.currentTimeMillis() + JWT_EXPIRATION))
+                    .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                    .compact();
+
+            request.addHeader("Authorization", "Bearer " + tokenSemClaims);
+
+            filter.doFilterInternal(request, response, filterChain);
+
+            verify(filterChain, times(1)).doFilter(request, response);
+            // Should clear context because extractUserDetails will throw IllegalArgumentException
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        }
+
+        @Test
+        @DisplayName("Deve limpar contexto para token com assinatura inválida")
+        void deveLimparContextoParaAssinaturaInvalida() throws ServletException, IOException {
+            byte[] otherKey = new byte[32];
+            java.util.Arrays.fill(otherKey, (byte) 1);
+            Key otherSignKey = Keys.hmacShaKeyFor(otherKey);
+
+            String badToken = Jwts.builder()
+                    .setSubject(USERNAME)
+                    .setIssuedAt(new Date())
+                    .setExpiration(new Date(System.currentTimeMillis() + JWT_EXPIRATION))
+                    .signWith(otherSignKey, SignatureAlgorithm.HS256)
+                    .compact();
+
+            request.addHeader("Authorization", "Bearer " + badToken);
+
+            filter.doFilterInternal(request, response, filterChain);
+
+            verify(filterChain, times(1)).doFilter(request, response);
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Autorização")
+    class Autorizacao {
+
+        @Test
+        @DisplayName("Deve permitir acesso total para MECANICO")
+        void devePermitirAcessoTotalParaMecanico() throws ServletException, IOException {
+            requisicao("MECANICO", "POST", "/api/v1/ordens-servico");
+
+            filter.doFilterInternal(request, response, filterChain);
+
+            verify(filterChain, times(1)).doFilter(request, response);
+            assertThat(response.getStatus()).isNotEqualTo(403);
+            assertThat(request.getAttribute("pessoaId")).isNull();
+        }
+
+        @Test
+        @DisplayName("Deve permitir acesso total para ADMIN")
+        void devePermitirAcessoTotalParaAdmin() throws ServletException, IOException {
+            requisicao("ADMIN", "DELETE", "/api/v1/ordens-servico/" + UUID.randomUUID());
+
+            filter.doFilterInternal(request, response, filterChain);
+
+            verify(filterChain, times(1)).doFilter(request, response);
+            assertThat(response.getStatus()).isNotEqualTo(403);
+        }
+
+        @Test
+        @DisplayName("Deve negar acesso a lista completa para CLIENTE em /api/v1/ordens-servico")
+        void deveNegarAcessoListaCompletaParaCliente() throws ServletException, IOException {
+            requisicao("CLIENTE", "GET", "/api/v1/ordens-servico");
+
+            filter.doFilterInternal(request, response, filterChain);
+
+            assertThat(response.getStatus()).isEqualTo(403);
+            assertThat(response.getContentAsString()).contains("Clientes não podem listar");
+            verify(filterChain, never()).doFilter(request, response);
+        }
+
+        @Test
+        @DisplayName("Deve negar listagem por status para CLIENTE")
+        void deveNegarListagemPorStatusParaCliente() throws ServletException, IOException {
+            requisicao("CLIENTE", "GET", "/api/v1/ordens-servico/status/RECEBIDA");
+
+            filter.doFilterInternal(request, response, filterChain);
+
+            assertThat(response.getStatus()).isEqualTo(403);
+            verify(filterChain, never()).doFilter(request, response);
+        }
+
+        @Test
+        @DisplayName("Deve negar escritas para CLIENTE")
+        void deveNegarEscritasParaCliente() throws ServletException, IOException {
+            String os = "/api/v1/ordens-servico/" + UUID.randomUUID();
+            for (String[] rota : new String[][] {
+                    { "POST", "/api/v1/ordens-servico" },
+                    { "PUT", os + "/status" },
+                    { "DELETE", os },
+                    { "PATCH", os } }) {
+                request = new MockHttpServletRequest();
+                response = new MockHttpServletResponse();
+                requisicao("CLIENTE", rota[0], rota[1]);
+
+                filter.doFilterInternal(request, response, filterChain);
+
+                assertThat(response.getStatus()).as(rota[0] + " " + rota[1]).isEqualTo(403);
+                assertThat(response.getContentAsString()).contains("Clientes só podem consultar");
+            }
+            verify(filterChain, never()).doFilter(any(), any());
+        }
+
+        @Test
+        @DisplayName("Deve permitir GET para CLIENTE em endpoint específico e definir atributos")
+        void devePermitirGetParaClienteEmEndpointEspecifico() throws ServletException, IOException {
+            requisicao("CLIENTE", "GET", "/api/v1/ordens-servico/" + UUID.randomUUID());
+
+            filter.doFilterInternal(request, response, filterChain);
+
+            verify(filterChain, times(1)).doFilter(request, response);
+            assertThat(request.getAttribute("pessoaId")).isEqualTo(PESSOA_ID);
+            assertThat(request.getAttribute("perfil")).isEqualTo("CLIENTE");
+        }
+
+        @Test
+        @DisplayName("Deve permitir timeline e stream para CLIENTE")
+        void devePermitirTimelineEStreamParaCliente() throws ServletException, IOException {
+            requisicao("CLIENTE", "GET", "/api/v1/clientes/" + PESSOA_ID + "/ordens-servico");
+            filter.doFilterInternal(request, response, filterChain);
+
+            MockHttpServletRequest stream = new MockHttpServletRequest("GET",
+                    "/api/v1/ordens-servico/" + UUID.randomUUID() + "/stream");
+            stream.addHeader("Authorization", "Bearer " + createToken("CLIENTE"));
+            MockHttpServletResponse streamResponse = new MockHttpServletResponse();
+            filter.doFilterInternal(stream, streamResponse, filterChain);
+
+            verify(filterChain).doFilter(request, response);
+            verify(filterChain).doFilter(stream, streamResponse);
+        }
+
+        @Test
+        @DisplayName("Rotas administrativas devem ser restritas a ADMIN")
+        void rotasAdministrativasSomenteParaAdmin() throws ServletException, IOException {
+            requisicao("MECANICO", "POST", "/api/v1/admin/dlt/replay");
+
+            filter.doFilterInternal(request, response, filterChain);
+
+            assertThat(response.getStatus()).isEqualTo(403);
+            assertThat(response.getContentAsString()).contains("restrita a administradores");
+            verify(filterChain, never()).doFilter(request, response);
+        }
+
+        @Test
+        @DisplayName("Path com percent-encoding deve cair na mesma regra do path decodificado")
+        void deveAplicarRegrasNoPathDecodificado() throws ServletException, IOException {
+            for (String[] caso : new String[][] {
+                    { "CLIENTE", "GET", "/api/v1/ordens%2Dservico" },
+                    { "CLIENTE", "GET", "/api/v1/ordens-servico;x=1" },
+                    { "CLIENTE", "GET", "/api/v1/ordens-servico/status/%52ECEBIDA" },
+                    { "MECANICO", "POST", "/api/v1/%61dmin/dlt/os-events.DLT/reprocessamento" },
+                    { "MECANICO", "POST", "/api/v1//admin/dlt/os-events.DLT/reprocessamento" } }) {
+                request = new MockHttpServletRequest();
+                response = new MockHttpServletResponse();
+                requisicao(caso[0], caso[1], caso[2]);
+
+                filter.doFilterInternal(request, response, filterChain);
+
+                assertThat(response.getStatus()).as(caso[1] + " " + caso[2]).isEqualTo(403);
+            }
+            verify(filterChain, never()).doFilter(any(), any());
+        }
+
+        @Test
+        @DisplayName("Deve negar perfil desconhecido nas rotas da API")
+        void deveNegarPerfilDesconhecido() throws ServletException, IOException {
+            requisicao("VISITANTE", "GET", "/api/v1/ordens-servico/" + UUID.randomUUID());
+
+            filter.doFilterInternal(request, response, filterChain);
+
+            assertThat(response.getStatus()).isEqualTo(403);
+            verify(filterChain, never()).doFilter(request, response);
+        }
+    }
+}
@@ -8,7 +8,6 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import java.security.Key;
 import java.util.Date;
@@ -36,9 +35,7 @@ class JwtUtilTest {
 
     @BeforeEach
     void setUp() {
-        jwtUtil = new JwtUtil();
-        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
-        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", JWT_EXPIRATION);
+        jwtUtil = new JwtUtil(SECRET_KEY, JWT_EXPIRATION, 10_000);
     }
 
     private Key getSignInKey() {
@@ -221,6 +218,64 @@ class JwtUtilTest {
         }
     }
 
+    @Nested
+    @DisplayName("parseClaims")
+    class ParseClaims {
+
+        @Test
+        @DisplayName("Deve extrair JwtUserDetails e validar a partir das mesmas claims")
+        void deveExtrairEValidarAPartirDasClaims() {
+            String token = createFullToken();
+            io.jsonwebtoken.Claims claims = jwtUtil.parseClaims(token);
+
+            JwtUserDetails userDetails = jwtUtil.extractUserDetails(claims);
+
+            assertThat(userDetails).isEqualTo(jwtUtil.extractUserDetails(token));
+            assertThat(jwtUtil.isTokenValid(claims, userDetails)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("verifyToken")
+    class VerifyToken {
+
+        @Test
+        @DisplayName("Deve reaproveitar a verificação de um token repetido")
+        void deveReaproveitarTokenRepetido() {
+            String token = createFullToken();
+
+            JwtUserDetails primeiro = jwtUtil.verifyToken(token).orElseThrow();
+            JwtUserDetails segundo = jwtUtil.verifyToken(token).orElseThrow();
+
+            assertThat(primeiro.getUsername()).isEqualTo(USERNAME);
+            assertThat(primeiro.getPerfil()).isEqualTo(PERFIL);
+            assertThat(segundo).isSameAs(primeiro);
+        }
+
+        @Test
+        @DisplayName("Deve verificar a cada chamada quando o cache está desativado")
+        void deveVerificarSempreSemCache() {
+            jwtUtil = new JwtUtil(SECRET_KEY, JWT_EXPIRATION, 0);
+            String token = createFullToken();
+
+            JwtUserDetails primeiro = jwtUtil.verifyToken(token).orElseThrow();
+            JwtUserDetails segundo = jwtUtil.verifyToken(token).orElseThrow();
+
+            assertThat(segundo).isEqualTo(primeiro).isNotSameAs(primeiro);
+        }
+
+        @Test
+        @DisplayName("Não deve guardar token sem claims obrigatórias")
+        void naoDeveGuardarTokenInvalido() {
+            String token = createTokenWithClaims(new HashMap<>(), USERNAME, JWT_EXPIRATION);
+
+            assertThatThrownBy(() -> jwtUtil.verifyToken(token))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> jwtUtil.verifyToken(token))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
     @Nested
     @DisplayName("generateToken")
     class GenerateToken {
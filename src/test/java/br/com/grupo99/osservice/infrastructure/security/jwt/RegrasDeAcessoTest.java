@@ -0,0 +1,59 @@
+package br.com.grupo99.osservice.infrastructure.security.jwt;
+
+import br.com.grupo99.osservice.infrastructure.security.jwt.RegrasDeAcesso.Regra;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RegrasDeAcesso")
+class RegrasDeAcessoTest {
+
+    private final RegrasDeAcesso regras = RegrasDeAcesso.builder()
+            .regra("/api/v1/admin/**", null, Set.of("ADMIN"), "admin")
+            .regra("/api/v1/ordens-servico", "GET", Set.of("MECANICO"), "listagem")
+            .regra("/api/v1/ordens-servico/status/*", "GET", Set.of("MECANICO"), "status")
+            .regra("/api/v1/**", "GET", Set.of("CLIENTE", "MECANICO"), "leitura")
+            .regra("/api/v1/**", null, Set.of("MECANICO"), "escrita")
+            .build();
+
+    private String mensagem(String metodo, String uri) {
+        Regra regra = regras.buscar(metodo, uri);
+        return regra != null ? regra.mensagemNegado() : null;
+    }
+
+    @Test
+    @DisplayName("Segmento literal deve ter prioridade sobre curingas")
+    void literalDeveTerPrioridade() {
+        assertThat(mensagem("GET", "/api/v1/ordens-servico")).isEqualTo("listagem");
+        assertThat(mensagem("GET", "/api/v1/ordens-servico/status/RECEBIDA")).isEqualTo("status");
+        assertThat(mensagem("GET", "/api/v1/ordens-servico/123")).isEqualTo("leitura");
+        assertThat(mensagem("GET", "/api/v1/ordens-servico/status/RECEBIDA/extra")).isEqualTo("leitura");
+    }
+
+    @Test
+    @DisplayName("Regra do método deve ter prioridade sobre a de qualquer método")
+    void regraDoMetodoDeveTerPrioridade() {
+        assertThat(mensagem("POST", "/api/v1/ordens-servico")).isEqualTo("escrita");
+        assertThat(mensagem("PUT", "/api/v1/ordens-servico/123/status")).isEqualTo("escrita");
+        assertThat(mensagem("GET", "/api/v1/admin/dlt")).isEqualTo("admin");
+    }
+
+    @Test
+    @DisplayName("** deve cobrir o próprio prefixo e ignorar barras extras")
+    void curingaDeveCobrirPrefixo() {
+        assertThat(mensagem("POST", "/api/v1/admin")).isEqualTo("admin");
+        assertThat(mensagem("GET", "/api/v1/ordens-servico/")).isEqualTo("listagem");
+        assertThat(mensagem("GET", "//api/v1//ordens-servico")).isEqualTo("listagem");
+    }
+
+    @Test
+    @DisplayName("Rotas fora das regras não devem ter restrição")
+    void rotasForaDasRegras() {
+        assertThat(regras.buscar("GET", "/actuator/health")).isNull();
+        assertThat(regras.buscar("GET", "/")).isNull();
+        assertThat(regras.buscar("GET", "/api")).isNull();
+    }
+}
@@ -0,0 +1,95 @@
+package br.com.grupo99.osservice.infrastructure.security.ratelimit;
+
+import br.com.grupo99.osservice.infrastructure.security.jwt.JwtUserDetails;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RateLimitFilter")
+class RateLimitFilterTest {
+
+    @Mock
+    private RateLimiter rateLimiter;
+
+    @Mock
+    private FilterChain filterChain;
+
+    private RateLimitFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private final UUID pessoaId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        filter = new RateLimitFilter(rateLimiter);
+        request = new MockHttpServletRequest("GET", "/api/v1/ordens-servico");
+        response = new MockHttpServletResponse();
+        SecurityContextHolder.clearContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private void autenticar(String perfil) {
+        JwtUserDetails userDetails = JwtUserDetails.from(
+                "user@email.com", pessoaId.toString(), "12345678900", "FISICA", null, perfil);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+
+    @Test
+    @DisplayName("Deve deixar passar requisição não autenticada sem consultar o limiter")
+    void naoAutenticadaDevePassar() throws Exception {
+        filter.doFilter(request, response, filterChain);
+
+        verify(filterChain).doFilter(request, response);
+        verifyNoInteractions(rateLimiter);
+    }
+
+    @Test
+    @DisplayName("Deve permitir requisição dentro do orçamento")
+    void dentroDoOrcamentoDevePassar() throws Exception {
+        autenticar("CLIENTE");
+        when(rateLimiter.tryAcquire(pessoaId, "CLIENTE")).thenReturn(0L);
+
+        filter.doFilter(request, response, filterChain);
+
+        verify(filterChain).doFilter(request, response);
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Deve retornar 429 com Retry-After quando o orçamento acaba")
+    void foraDoOrcamentoDeveRetornar429() throws Exception {
+        autenticar("MECANICO");
+        when(rateLimiter.tryAcquire(eq(pessoaId), eq("MECANICO")))
+                .thenReturn(TimeUnit.MILLISECONDS.toNanos(1500));
+
+        filter.doFilter(request, response, filterChain);
+
+        verify(filterChain, never()).doFilter(any(), any());
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(response.getContentAsString()).contains("Limite de requisições excedido");
+    }
+}
@@ -0,0 +1,125 @@
+package br.com.grupo99.osservice.infrastructure.security.ratelimit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RateLimiter")
+class RateLimiterTest {
+
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        // CLIENTE: 1 rps, burst 2 | MECANICO: 1 rps, burst 5 | ADMIN: 1 rps, burst 10
+        rateLimiter = new RateLimiter(1, 2, 1, 5, 1, 10, 2, 60000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        rateLimiter.shutdown();
+    }
+
+    private int permitidasEmRajada(UUID pessoaId, String perfil) {
+        int permitidas = 0;
+        for (int i = 0; i < 20; i++) {
+            if (rateLimiter.tryAcquire(pessoaId, perfil) == 0) {
+                permitidas++;
+            }
+        }
+        return permitidas;
+    }
+
+    @Test
+    @DisplayName("Deve aplicar orçamentos diferentes por perfil")
+    void deveAplicarOrcamentoPorPerfil() {
+        assertThat(permitidasEmRajada(UUID.randomUUID(), "CLIENTE")).isEqualTo(2);
+        assertThat(permitidasEmRajada(UUID.randomUUID(), "MECANICO")).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Perfil desconhecido deve receber o orçamento de CLIENTE")
+    void perfilDesconhecidoUsaOrcamentoCliente() {
+        rateLimiter.shutdown();
+        rateLimiter = new RateLimiter(1, 2, 1, 5, 1, 10, 100, 60000);
+
+        assertThat(permitidasEmRajada(UUID.randomUUID(), "OUTRO")).isEqualTo(2);
+        assertThat(permitidasEmRajada(UUID.randomUUID(), null)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Requisição negada deve informar tempo até o próximo token")
+    void negadaDeveInformarEspera() {
+        UUID pessoaId = UUID.randomUUID();
+        rateLimiter.tryAcquire(pessoaId, "CLIENTE");
+        rateLimiter.tryAcquire(pessoaId, "CLIENTE");
+
+        long espera = rateLimiter.tryAcquire(pessoaId, "CLIENTE");
+
+        assertThat(espera).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    @DisplayName("Mapa de buckets deve respeitar o limite de entradas")
+    void mapaDeveSerLimitado() {
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.tryAcquire(UUID.randomUUID(), "CLIENTE");
+        }
+
+        assertThat(rateLimiter.getBucketsAtivos()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Mapa cheio deve usar o overflow do perfil sem remover ociosos na requisição")
+    void mapaCheioDeveUsarOverflow() {
+        rateLimiter.shutdown();
+        rateLimiter = new RateLimiter(1e9, 2, 1e9, 2, 1e9, 2, 2, 0);
+        rateLimiter.tryAcquire(UUID.randomUUID(), "CLIENTE");
+        rateLimiter.tryAcquire(UUID.randomUUID(), "CLIENTE");
+
+        // Os dois buckets já estão ociosos, mas só a limpeza os remove
+        assertThat(rateLimiter.tryAcquire(UUID.randomUUID(), "CLIENTE")).isZero();
+        assertThat(rateLimiter.getBucketsAtivos()).isEqualTo(2);
+
+        rateLimiter.removerOciosos();
+        rateLimiter.tryAcquire(UUID.randomUUID(), "CLIENTE");
+
+        assertThat(rateLimiter.getBucketsAtivos()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Buckets ociosos devem ser removidos")
+    void bucketsOciososDevemSerRemovidos() {
+        rateLimiter.shutdown();
+        rateLimiter = new RateLimiter(1e9, 2, 1e9, 2, 1e9, 2, 100, 0);
+        rateLimiter.tryAcquire(UUID.randomUUID(), "CLIENTE");
+
+        rateLimiter.removerOciosos();
+
+        assertThat(rateLimiter.getBucketsAtivos()).isZero();
+    }
+
+    @Test
+    @DisplayName("Bucket deve repor tokens com o tempo")
+    void bucketDeveReporTokens() {
+        TokenBucket bucket = new TokenBucket(10, 1, 0);
+
+        assertThat(bucket.tryConsume(0)).isZero();
+        assertThat(bucket.tryConsume(0)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(bucket.tryConsume(TimeUnit.MILLISECONDS.toNanos(100))).isZero();
+    }
+
+    @Test
+    @DisplayName("Bucket deve rejeitar configuração inválida")
+    void bucketDeveRejeitarConfiguracaoInvalida() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(1, 0, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
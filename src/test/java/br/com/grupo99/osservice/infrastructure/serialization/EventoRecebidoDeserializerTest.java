@@ -0,0 +1,71 @@
+package br.com.grupo99.osservice.infrastructure.serialization;
+
+import br.com.grupo99.osservice.application.events.EventoRecebido;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("EventoRecebidoDeserializer")
+class EventoRecebidoDeserializerTest {
+
+    private final EventoRecebidoDeserializer deserializer = new EventoRecebidoDeserializer();
+
+    private static Headers headers(String eventType) {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add("eventType", eventType.getBytes(StandardCharsets.UTF_8));
+        return headers;
+    }
+
+    private Object deserializar(String eventType, String json) {
+        return deserializer.deserialize("billing-events", headers(eventType), json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Deve decodificar o payload no record escolhido pelo eventType")
+    void deveDecodificarNoRecordDoTipo() {
+        UUID osId = UUID.randomUUID();
+
+        Object evento = deserializar("ORCAMENTO_APROVADO",
+                "{\"osId\":\"" + osId + "\",\"valorAprovado\":1500.50,\"aprovadoPor\":\"cliente@email.com\",\"extra\":1}");
+
+        assertThat(evento).isEqualTo(new EventoRecebido.OrcamentoAprovado(
+                osId, new BigDecimal("1500.50"), "cliente@email.com"));
+    }
+
+    @Test
+    @DisplayName("Campos ausentes devem receber os valores padrão")
+    void camposAusentesDevemReceberPadroes() {
+        assertThat(deserializar("ORCAMENTO_APROVADO", "{}"))
+                .isEqualTo(new EventoRecebido.OrcamentoAprovado(null, BigDecimal.ZERO, "sistema"));
+        assertThat(deserializar("EXECUCAO_FALHOU", "{\"requerRetrabalho\":true}"))
+                .isEqualTo(new EventoRecebido.ExecucaoFalhou(null, "Falha não especificada", true));
+        assertThat(deserializar("EXECUCAO_CONCLUIDA", "{}"))
+                .isEqualTo(new EventoRecebido.ExecucaoConcluida(null, "", "sistema"));
+    }
+
+    @Test
+    @DisplayName("Tipo desconhecido deve retornar null sem ler o payload")
+    void tipoDesconhecidoDeveRetornarNull() {
+        assertThat(deserializar("EVENTO_DESCONHECIDO", "não é json")).isNull();
+        assertThat(deserializer.deserialize("billing-events", new RecordHeaders(), "{}".getBytes())).isNull();
+    }
+
+    @Test
+    @DisplayName("Payload inválido deve lançar SerializationException")
+    void payloadInvalidoDeveLancarExcecao() {
+        assertThatThrownBy(() -> deserializar("ORCAMENTO_REJEITADO", "{\"motivo\":"))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("ORCAMENTO_REJEITADO");
+        assertThatThrownBy(() -> deserializar("ORCAMENTO_APROVADO", "{\"osId\":\"nao-e-uuid\"}"))
+                .isInstanceOf(SerializationException.class);
+    }
+}
@@ -0,0 +1,154 @@
+package br.com.grupo99.osservice.infrastructure.serialization;
+
+import br.com.grupo99.osservice.application.events.EventoRecebido;
+import br.com.grupo99.osservice.application.events.OSCanceladaEvent;
+import br.com.grupo99.osservice.application.events.OSCriadaEvent;
+import br.com.grupo99.osservice.application.events.StatusMudadoEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("EventosBinarios - Formato binário dos eventos da Saga")
+class EventosBinariosTest {
+
+    private static final LocalDateTime INSTANTE = LocalDateTime.of(2026, 2, 2, 16, 45, 12, 123_456_789);
+
+    private final EventosBinarios binarios = EventosBinarios.padrao();
+
+    @Test
+    @DisplayName("Eventos publicados devem voltar iguais, com o eventType restaurado pelo schema")
+    void deveCodificarEDecodificarEventosPublicados() {
+        OSCriadaEvent criada = new OSCriadaEvent(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                "Barulho no motor ao acelerar", INSTANTE, "OS_CRIADA");
+        StatusMudadoEvent status = new StatusMudadoEvent(UUID.randomUUID(), null, "EM_DIAGNOSTICO",
+                INSTANTE, "STATUS_MUDADO");
+        OSCanceladaEvent cancelada = new OSCanceladaEvent(UUID.randomUUID(), "Orçamento rejeitado",
+                null, INSTANTE, "OS_CANCELADA");
+
+        assertThat(binarios.decodificar(binarios.codificar(criada))).isEqualTo(criada);
+        assertThat(binarios.decodificar(binarios.codificar(status))).isEqualTo(status);
+        assertThat(binarios.decodificar(binarios.codificar(cancelada))).isEqualTo(cancelada);
+    }
+
+    @Test
+    @DisplayName("Eventos consumidos devem voltar iguais, inclusive valores decimais")
+    void deveCodificarEDecodificarEventosConsumidos() {
+        var aprovado = new EventoRecebido.OrcamentoAprovado(UUID.randomUUID(), new BigDecimal("-1500.50"),
+                "cliente@email.com");
+        var falhou = new EventoRecebido.ExecucaoFalhou(UUID.randomUUID(), "Peça indisponível", true);
+
+        assertThat(binarios.decodificar(binarios.codificar(aprovado))).isEqualTo(aprovado);
+        assertThat(binarios.decodificar(binarios.codificar(falhou))).isEqualTo(falhou);
+    }
+
+    @Test
+    @DisplayName("Payload binário deve ser menor que o JSON")
+    void payloadBinarioDeveSerMenorQueJson() throws Exception {
+        StatusMudadoEvent evento = new StatusMudadoEvent(UUID.randomUUID(), "EM_EXECUCAO", "FINALIZADA",
+                INSTANTE, "STATUS_MUDADO");
+
+        byte[] json = OsServiceJacksonModule.kafkaObjectMapper().writeValueAsBytes(evento);
+        byte[] binario = binarios.codificar(evento);
+
+        assertThat(binario.length).isLessThan(json.length / 2);
+    }
+
+    @Test
+    @DisplayName("Campo obrigatório nulo deve ser recusado na escrita")
+    void deveRecusarCampoObrigatorioNulo() {
+        assertThatThrownBy(() -> binarios.codificar(new StatusMudadoEvent(null, null, "RECEBIDA", null, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("osId");
+    }
+
+    @Test
+    @DisplayName("Payload de versão mais nova deve ser lido pela versão local, ignorando os campos novos")
+    void deveLerVersaoMaisNova() {
+        StatusMudadoEvent evento = new StatusMudadoEvent(UUID.randomUUID(), "RECEBIDA", "EM_DIAGNOSTICO",
+                INSTANTE, "STATUS_MUDADO");
+        byte[] v1 = binarios.codificar(evento);
+
+        // v2 hipotética: mesmo prefixo + campo opcional "responsavel"
+        ByteArrayOutputStream v2 = new ByteArrayOutputStream();
+        v2.write(v1, 0, v1.length);
+        v2.write(1);
+        byte[] responsavel = "mecanico@oficina.com".getBytes(StandardCharsets.UTF_8);
+        v2.write(responsavel.length);
+        v2.write(responsavel, 0, responsavel.length);
+        byte[] payload = v2.toByteArray();
+        payload[2] = 2;
+
+        assertThat(binarios.decodificar(payload)).isEqualTo(evento);
+    }
+
+    @Test
+    @DisplayName("Deserializers devem aceitar JSON e binário no mesmo tópico")
+    void deserializersDevemAceitarJsonEBinario() {
+        JsonSerializer<Object> json = new JsonSerializer<>(OsServiceJacksonModule.kafkaObjectMapper());
+        JsonDeserializer<Object> jsonDeserializer = new JsonDeserializer<>(OsServiceJacksonModule.kafkaObjectMapper());
+        jsonDeserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "*"), false);
+        EventoBinarioSerializer serializer = new EventoBinarioSerializer(binarios, json);
+        EventoBinarioDeserializer deserializer = new EventoBinarioDeserializer(binarios, jsonDeserializer);
+        OSCanceladaEvent evento = new OSCanceladaEvent(UUID.randomUUID(), "Falha na execução", "EXECUCAO",
+                INSTANTE, "OS_CANCELADA");
+
+        RecordHeaders headersJson = new RecordHeaders();
+        byte[] comoJson = json.serialize("os-events", headersJson, evento);
+        byte[] comoBinario = serializer.serialize("os-events", new RecordHeaders(), evento);
+
+        assertThat(EventosBinarios.binario(comoJson)).isFalse();
+        assertThat(EventosBinarios.binario(comoBinario)).isTrue();
+        assertThat(deserializer.deserialize("os-events", headersJson, comoJson)).isEqualTo(evento);
+        assertThat(deserializer.deserialize("os-events", new RecordHeaders(), comoBinario)).isEqualTo(evento);
+    }
+
+    @Test
+    @DisplayName("EventoRecebidoDeserializer deve decodificar binário e recusar tipo divergente do header")
+    void eventoRecebidoDeserializerDeveAceitarBinario() {
+        EventoRecebidoDeserializer deserializer = new EventoRecebidoDeserializer(binarios);
+        var concluida = new EventoRecebido.ExecucaoConcluida(UUID.randomUUID(), "Troca de óleo", "mecanico");
+        byte[] payload = binarios.codificar(concluida);
+
+        assertThat(deserializer.deserialize("execution-events", headers("EXECUCAO_CONCLUIDA"), payload))
+                .isEqualTo(concluida);
+        assertThatThrownBy(() -> deserializer.deserialize("execution-events", headers("EXECUCAO_FALHOU"), payload))
+                .isInstanceOf(SerializationException.class);
+        assertThat(deserializer.deserialize("execution-events", headers("EXECUCAO_CONCLUIDA"),
+                "{\"observacoes\":\"ok\"}".getBytes(StandardCharsets.UTF_8)))
+                .isEqualTo(new EventoRecebido.ExecucaoConcluida(null, "ok", "sistema"));
+    }
+
+    @Test
+    @DisplayName("Chave UUID deve ocupar 16 bytes e voltar ao texto; outras chaves seguem em UTF-8")
+    void chaveUuidDeveOcupar16Bytes() {
+        ChaveUuidSerializer serializer = new ChaveUuidSerializer();
+        ChaveUuidDeserializer deserializer = new ChaveUuidDeserializer();
+        String osId = UUID.randomUUID().toString();
+
+        byte[] chave = serializer.serialize("os-events", osId);
+
+        assertThat(chave).hasSize(16);
+        assertThat(deserializer.deserialize("os-events", chave)).isEqualTo(osId);
+        assertThat(deserializer.deserialize("os-events", serializer.serialize("os-events", "pedido-42")))
+                .isEqualTo("pedido-42");
+    }
+
+    private static RecordHeaders headers(String eventType) {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(EventoRecebidoDeserializer.HEADER_EVENT_TYPE, eventType.getBytes(StandardCharsets.UTF_8));
+        return headers;
+    }
+}
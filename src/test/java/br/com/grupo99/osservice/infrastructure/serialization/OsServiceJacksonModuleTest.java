@@ -0,0 +1,92 @@
+package br.com.grupo99.osservice.infrastructure.serialization;
+
+import br.com.grupo99.osservice.application.dto.OrdemServicoResponseDTO;
+import br.com.grupo99.osservice.application.events.OSCanceladaEvent;
+import br.com.grupo99.osservice.application.events.OSCriadaEvent;
+import br.com.grupo99.osservice.application.events.StatusMudadoEvent;
+import br.com.grupo99.osservice.domain.model.StatusOS;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OsServiceJacksonModule")
+class OsServiceJacksonModuleTest {
+
+    private static final ObjectMapper REST_REFLEXAO = Jackson2ObjectMapperBuilder.json().build();
+    private static final ObjectMapper REST_OTIMIZADO = Jackson2ObjectMapperBuilder.json()
+            .modulesToInstall(new BlackbirdModule(), new OsServiceJacksonModule())
+            .build();
+    private static final ObjectMapper KAFKA_REFLEXAO = JacksonUtils.enhancedObjectMapper();
+    private static final ObjectMapper KAFKA_OTIMIZADO = OsServiceJacksonModule.kafkaObjectMapper();
+
+    static Stream<Object> objetos() {
+        return Stream.of(
+                dtoCompleto(),
+                new OrdemServicoResponseDTO(),
+                new OSCriadaEvent(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                        "Barulho no motor \"estranho\"", LocalDateTime.of(2026, 1, 31, 10, 0), "OS_CRIADA"),
+                new StatusMudadoEvent(UUID.randomUUID(), "RECEBIDA", "EM_DIAGNOSTICO",
+                        LocalDateTime.of(2026, 1, 31, 10, 0, 5, 120_000_000), "STATUS_MUDADO"),
+                new StatusMudadoEvent(UUID.randomUUID(), "EM_EXECUCAO", "FINALIZADA",
+                        LocalDateTime.of(2026, 1, 31, 10, 0, 0, 1), "STATUS_MUDADO"),
+                new OSCanceladaEvent(UUID.randomUUID(), "Pagamento recusado", "BILLING",
+                        LocalDateTime.of(999, 12, 1, 23, 59, 59, 999_999_999), "OS_CANCELADA"),
+                new OSCanceladaEvent());
+    }
+
+    private static OrdemServicoResponseDTO dtoCompleto() {
+        OrdemServicoResponseDTO dto = new OrdemServicoResponseDTO();
+        dto.setId(UUID.randomUUID());
+        dto.setClienteId(UUID.randomUUID());
+        dto.setVeiculoId(UUID.randomUUID());
+        dto.setStatus(StatusOS.ENTREGUE);
+        dto.setDescricaoProblema("Troca de óleo\nrevisão");
+        dto.setValorTotal(new BigDecimal("350.50"));
+        dto.setDataCriacao(LocalDateTime.of(2026, 1, 31, 10, 0));
+        dto.setDataFinalizacao(LocalDateTime.of(2026, 2, 1, 9, 5, 7, 450_000_000));
+        dto.setDataEntrega(null);
+        OrdemServicoResponseDTO.HistoricoStatusDTO h = new OrdemServicoResponseDTO.HistoricoStatusDTO(
+                StatusOS.RECEBIDA, StatusOS.EM_DIAGNOSTICO, null, "mecanico@oficina.com",
+                LocalDateTime.of(2026, 1, 31, 10, 30, 0, 999));
+        dto.setHistorico(List.of(h, new OrdemServicoResponseDTO.HistoricoStatusDTO()));
+        return dto;
+    }
+
+    @Test
+    @DisplayName("Mappers otimizados devem usar os serializers escritos à mão")
+    void deveUsarSerializersDoModulo() throws Exception {
+        assertThat(REST_OTIMIZADO.getSerializerProviderInstance().findValueSerializer(OrdemServicoResponseDTO.class))
+                .isInstanceOf(OrdemServicoResponseSerializer.class);
+        assertThat(KAFKA_OTIMIZADO.getSerializerProviderInstance().findValueSerializer(StatusMudadoEvent.class))
+                .isInstanceOf(EventoSerializers.StatusMudado.class);
+    }
+
+    @ParameterizedTest
+    @MethodSource("objetos")
+    @DisplayName("Saída REST deve ser idêntica à serialização por reflexão")
+    void saidaRestIdentica(Object objeto) throws Exception {
+        assertThat(REST_OTIMIZADO.writeValueAsString(objeto))
+                .isEqualTo(REST_REFLEXAO.writeValueAsString(objeto));
+    }
+
+    @ParameterizedTest
+    @MethodSource("objetos")
+    @DisplayName("Saída Kafka deve ser idêntica à do JsonSerializer padrão")
+    void saidaKafkaIdentica(Object objeto) throws Exception {
+        assertThat(KAFKA_OTIMIZADO.writeValueAsString(objeto))
+                .isEqualTo(KAFKA_REFLEXAO.writeValueAsString(objeto));
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.grupo99.osservice.infrastructure.serialization;
+
+import br.com.grupo99.osservice.infrastructure.serialization.SchemaEvento.Campo;
+import br.com.grupo99.osservice.infrastructure.serialization.SchemaEvento.Tipo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RegistroSchemas")
+class RegistroSchemasTest {
+
+    private static final Campo OS_ID = new Campo("osId", Tipo.UUID, false);
+    private static final Campo STATUS = new Campo("statusNovo", Tipo.STRING, false);
+
+    private static SchemaEvento statusMudado(int versao, Campo... campos) {
+        return new SchemaEvento(2, "StatusMudado", versao, "STATUS_MUDADO", List.of(campos));
+    }
+
+    @Test
+    @DisplayName("Deve carregar os schemas do classpath")
+    void deveCarregarSchemasDoClasspath() {
+        RegistroSchemas registro = RegistroSchemas.padrao();
+
+        assertThat(registro.ultima("OSCriada").id()).isEqualTo(1);
+        assertThat(registro.ultima("OSCancelada").eventType()).isEqualTo("OS_CANCELADA");
+        assertThat(registro.ultima("ExecucaoFalhou").fields())
+                .extracting(Campo::name)
+                .containsExactly("osId", "motivo", "requerRetrabalho");
+    }
+
+    @Test
+    @DisplayName("Versão nova com campo opcional no fim deve ser aceita e ler as anteriores")
+    void deveAceitarCampoOpcionalNoFim() {
+        SchemaEvento v1 = statusMudado(1, OS_ID, STATUS);
+        SchemaEvento v2 = statusMudado(2, OS_ID, STATUS, new Campo("responsavel", Tipo.STRING, true));
+
+        RegistroSchemas registro = RegistroSchemas.de(List.of(v2, v1));
+
+        assertThat(registro.ultima("StatusMudado")).isEqualTo(v2);
+        assertThat(registro.escrita(2, 1)).isEqualTo(v1);
+        // Produtor com versão mais nova: lida pela última local
+        assertThat(registro.escrita(2, 3)).isEqualTo(v2);
+        assertThat(registro.escrita(99, 1)).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve recusar evolução que remove, reordena ou adiciona campo obrigatório")
+    void deveRecusarEvolucaoIncompativel() {
+        SchemaEvento v1 = statusMudado(1, OS_ID, STATUS);
+
+        assertThatThrownBy(() -> RegistroSchemas.de(List.of(v1, statusMudado(2, OS_ID))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("incompatível");
+        assertThatThrownBy(() -> RegistroSchemas.de(List.of(v1, statusMudado(2, STATUS, OS_ID))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> RegistroSchemas.de(List.of(v1,
+                statusMudado(2, OS_ID, STATUS, new Campo("responsavel", Tipo.STRING, false)))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("opcional");
+    }
+
+    @Test
+    @DisplayName("Deve recusar versão duplicada e id reutilizado por outro evento")
+    void deveRecusarIdsConflitantes() {
+        SchemaEvento v1 = statusMudado(1, OS_ID, STATUS);
+
+        assertThatThrownBy(() -> RegistroSchemas.de(List.of(v1, statusMudado(1, OS_ID, STATUS))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("duplicado");
+        assertThatThrownBy(() -> RegistroSchemas.de(List.of(v1,
+                new SchemaEvento(2, "OSCriada", 2, "OS_CRIADA", List.of(OS_ID)))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,249 @@
+package br.com.grupo99.osservice.infrastructure.stream;
+
+import br.com.grupo99.osservice.domain.event.EventoOrdemServico;
+import br.com.grupo99.osservice.domain.event.EventosOrdemServico;
+import br.com.grupo99.osservice.domain.model.StatusOS;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("StatusStreamBroadcaster")
+class StatusStreamBroadcasterTest {
+
+    private StatusStreamBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        broadcaster = new StatusStreamBroadcaster(objectMapper, 4, 60000L, 3, 1, 60000L, 8, 60000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve contar assinantes por cliente e por OS")
+    void deveContarAssinantes() {
+        broadcaster.assinarCliente(UUID.randomUUID());
+        broadcaster.assinarOrdem(UUID.randomUUID());
+
+        assertThat(broadcaster.getTotalAssinantes()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve recusar novas conexões acima do limite")
+    void deveRecusarAcimaDoLimite() {
+        UUID clienteId = UUID.randomUUID();
+        broadcaster.assinarCliente(clienteId);
+        broadcaster.assinarCliente(clienteId);
+        broadcaster.assinarCliente(clienteId);
+
+        assertThatThrownBy(() -> broadcaster.assinarCliente(clienteId))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThat(broadcaster.getTotalAssinantes()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve notificar mudanças de status e cancelamentos dos eventos da OS")
+    void deveNotificarEventosDaOs() {
+        StatusStreamBroadcaster espiao = spy(broadcaster);
+        UUID osId = UUID.randomUUID();
+        UUID clienteId = UUID.randomUUID();
+        LocalDateTime agora = LocalDateTime.now();
+
+        espiao.notificar(new EventosOrdemServico(osId, clienteId, List.of(
+                new EventoOrdemServico.OSCriada(clienteId, UUID.randomUUID(), "Barulho no motor", agora),
+                new EventoOrdemServico.StatusMudado(StatusOS.RECEBIDA, StatusOS.EM_DIAGNOSTICO, agora),
+                new EventoOrdemServico.OSCancelada(StatusOS.EM_DIAGNOSTICO, "Desistência", agora))));
+
+        verify(espiao).publicar(osId, clienteId, StatusOS.RECEBIDA, StatusOS.EM_DIAGNOSTICO);
+        verify(espiao).publicar(osId, clienteId, StatusOS.EM_DIAGNOSTICO, StatusOS.CANCELADA);
+        verify(espiao, times(2)).publicar(any(UUID.class), any(UUID.class), any(), any());
+    }
+
+    @Test
+    @DisplayName("Publicar sem assinantes não deve falhar")
+    void publicarSemAssinantes() {
+        broadcaster.publicar(UUID.randomUUID(), UUID.randomUUID(), StatusOS.RECEBIDA, StatusOS.EM_DIAGNOSTICO);
+        broadcaster.publicar(null, null, null, null);
+
+        assertThat(broadcaster.getTotalAssinantes()).isZero();
+    }
+
+    @Test
+    @DisplayName("Assinante deve receber eventos na ordem de publicação")
+    void assinanteDeveReceberEventos() {
+        List<Set<ResponseBodyEmitter.DataWithMediaType>> recebidos = new ArrayList<>();
+        SseEmitter emitter = new SseEmitter() {
+            @Override
+            public synchronized void send(Set<DataWithMediaType> items) {
+                recebidos.add(items);
+            }
+        };
+        StatusStreamSubscriber subscriber = new StatusStreamSubscriber(emitter, 4, 8, Runnable::run);
+
+        Set<ResponseBodyEmitter.DataWithMediaType> primeiro = SseEmitter.event().data("1").build();
+        Set<ResponseBodyEmitter.DataWithMediaType> segundo = SseEmitter.event().data("2").build();
+
+        assertThat(subscriber.offer(primeiro)).isTrue();
+        assertThat(subscriber.offer(segundo)).isTrue();
+        assertThat(recebidos).containsExactly(primeiro, segundo);
+        assertThat(subscriber.isIdle()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Assinante lento deve ser desconectado quando o buffer enche")
+    void assinanteLentoDeveSerDesconectado() throws Exception {
+        CountDownLatch bloqueio = new CountDownLatch(1);
+        SseEmitter emitter = new SseEmitter() {
+            @Override
+            public synchronized void send(Set<DataWithMediaType> items) throws IOException {
+                try {
+                    bloqueio.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            StatusStreamSubscriber subscriber = new StatusStreamSubscriber(emitter, 2, 8, executor);
+            boolean[] fechado = { false };
+            subscriber.onClose(() -> fechado[0] = true);
+
+            Set<ResponseBodyEmitter.DataWithMediaType> evento = SseEmitter.event().data("x").build();
+            boolean aceito = true;
+            for (int i = 0; i < 10 && aceito; i++) {
+                aceito = subscriber.offer(evento);
+            }
+
+            assertThat(aceito).isFalse();
+            assertThat(subscriber.isClosed()).isTrue();
+            assertThat(fechado[0]).isTrue();
+            assertThat(subscriber.offer(evento)).isFalse();
+        } finally {
+            bloqueio.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Assinante deve passar a vez após enviosPorVez eventos")
+    void assinanteDevePassarAVez() {
+        List<Set<ResponseBodyEmitter.DataWithMediaType>> recebidos = new ArrayList<>();
+        SseEmitter emitter = new SseEmitter() {
+            @Override
+            public synchronized void send(Set<DataWithMediaType> items) {
+                recebidos.add(items);
+            }
+        };
+        Deque<Runnable> fila = new ArrayDeque<>();
+        StatusStreamSubscriber subscriber = new StatusStreamSubscriber(emitter, 4, 2, fila::add);
+
+        for (int i = 0; i < 3; i++) {
+            subscriber.offer(SseEmitter.event().data(String.valueOf(i)).build());
+        }
+        assertThat(fila).hasSize(1);
+
+        fila.poll().run();
+        // Dois enviados; o restante voltou para o fim da fila do executor
+        assertThat(recebidos).hasSize(2);
+        assertThat(fila).hasSize(1);
+
+        fila.poll().run();
+        assertThat(recebidos).hasSize(3);
+        assertThat(fila).isEmpty();
+        assertThat(subscriber.isIdle()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Envio acima do prazo deve despejar o assinante e completar o emitter ao retornar")
+    void envioPresoDeveDespejar() throws Exception {
+        CountDownLatch bloqueio = new CountDownLatch(1);
+        CountDownLatch completado = new CountDownLatch(1);
+        SseEmitter emitter = new SseEmitter() {
+            @Override
+            public synchronized void send(Set<DataWithMediaType> items) {
+                try {
+                    bloqueio.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public synchronized void complete() {
+                completado.countDown();
+            }
+        };
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            StatusStreamSubscriber subscriber = new StatusStreamSubscriber(emitter, 4, 8, executor);
+            boolean[] fechado = { false };
+            subscriber.onClose(() -> fechado[0] = true);
+
+            subscriber.offer(SseEmitter.event().data("x").build());
+            await().atMost(5, TimeUnit.SECONDS).until(subscriber::isEnviando);
+            long prazo = TimeUnit.SECONDS.toNanos(2);
+            assertThat(subscriber.envioExpirado(System.nanoTime(), prazo)).isFalse();
+            assertThat(subscriber.envioExpirado(System.nanoTime() + TimeUnit.SECONDS.toNanos(3), prazo)).isTrue();
+
+            subscriber.despejar();
+            assertThat(subscriber.isClosed()).isTrue();
+            assertThat(fechado[0]).isTrue();
+            // Emitter travado pela escrita: só é completado quando ela retornar
+            assertThat(completado.getCount()).isEqualTo(1);
+
+            bloqueio.countDown();
+            assertThat(completado.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(subscriber.isEnviando()).isFalse();
+        } finally {
+            bloqueio.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Falha de escrita deve encerrar o assinante")
+    void falhaDeEscritaDeveEncerrar() {
+        SseEmitter emitter = new SseEmitter() {
+            @Override
+            public synchronized void send(Set<DataWithMediaType> items) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        StatusStreamSubscriber subscriber = new StatusStreamSubscriber(emitter, 4, 8, Runnable::run);
+
+        subscriber.offer(SseEmitter.event().data("x").build());
+
+        assertThat(subscriber.isClosed()).isTrue();
+    }
+}